@@ -0,0 +1,13 @@
+package com.example.auth.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+
+/**
+ * 메서드 수준 보안(@PreAuthorize) 활성화 설정
+ * 필터 체인에서 경로 단위로 허용된 API라도 관리자 전용 메서드는 권한을 다시 확인함
+ */
+@Configuration
+@EnableMethodSecurity
+public class MethodSecurityConfig {
+}
@@ -4,6 +4,7 @@ import com.example.auth.filter.JwtAuthenticationFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -43,6 +44,15 @@ public class ProdSecurityConfig extends BaseSecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/v1/auth/**", "/api/v1/users/**").permitAll()
+                .requestMatchers("/api/v1/surveys/*/responses/export").hasRole("ADMIN")
+                .requestMatchers("/api/v1/surveys/*/statistics").hasRole("ADMIN")
+                .requestMatchers("/api/v1/surveys/courses/*/scale-statistics").hasRole("ADMIN")
+                .requestMatchers("/api/v1/surveys/*/crosstab").hasRole("ADMIN")
+                .requestMatchers("/api/v1/surveys/*/questions/*/terms").hasRole("ADMIN")
+                .requestMatchers("/api/v1/surveys/*/questions/*/answers").hasRole("ADMIN")
+                .requestMatchers("/api/v1/surveys/pending").authenticated()
+                .requestMatchers(HttpMethod.POST, "/api/v1/surveys/*/responses").authenticated()
+                .requestMatchers("/api/v1/surveys/*/draft", "/api/v1/surveys/*/draft/**").authenticated()
                 .requestMatchers("/api/v1/courses/**", "/api/v1/surveys/**").permitAll() 
                 .requestMatchers("/api/v1/facilities/**", "/api/v1/statistics/**").permitAll()
                 .requestMatchers("/api/v1/calendar/**", "/api/v1/recommendations/**").permitAll()
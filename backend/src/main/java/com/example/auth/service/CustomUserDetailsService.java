@@ -1,5 +1,6 @@
 package com.example.auth.service;
 
+import com.example.common.cache.SingleFlight;
 import com.example.user.entity.User;
 import com.example.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,10 +20,16 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    /**
+     * 동일 이메일 동시 조회 병합
+     * 인증 후 자격 증명이 지워지므로 UserDetails는 공유하지 않고 호출마다 새로 생성함
+     */
+    private final SingleFlight<String, User> userLoads = new SingleFlight<>();
+
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        User user = userLoads.load(email, () -> userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email)));
 
         return new org.springframework.security.core.userdetails.User(
                 user.getEmail(),
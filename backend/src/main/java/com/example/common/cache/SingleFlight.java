@@ -0,0 +1,61 @@
+package com.example.common.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키 동시 조회 병합(single-flight) 유틸리티
+ * 같은 키로 동시에 들어온 조회 요청 중 첫 번째 요청만 실제 로딩을 수행하고,
+ * 나머지 요청은 진행 중인 로딩의 결과(또는 예외)를 그대로 공유받음
+ * 로딩이 끝나면 키가 제거되므로 결과를 캐시하지는 않음
+ *
+ * @param <K> 조회 키 타입
+ * @param <V> 조회 결과 타입
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 키에 대한 로딩을 수행하거나 진행 중인 로딩 결과를 대기
+     *
+     * @param key 조회 키
+     * @param loader 실제 로딩 함수
+     * @return 로딩 결과
+     */
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -34,6 +34,22 @@ public class GlobalExceptionHandler {
         return createErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), request.getDescription(false));
     }
 
+    /**
+     * 엔티티를 찾을 수 없는 예외 처리
+     */
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ResponseEntity<?> handleEntityNotFoundException(EntityNotFoundException ex, WebRequest request) {
+        return createErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), request.getDescription(false));
+    }
+
+    /**
+     * 잘못된 작업 요청 예외 처리
+     */
+    @ExceptionHandler(InvalidOperationException.class)
+    public ResponseEntity<?> handleInvalidOperationException(InvalidOperationException ex, WebRequest request) {
+        return createErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request.getDescription(false));
+    }
+
     /**
      * 중복된 리소스 예외 처리
      */
@@ -0,0 +1,154 @@
+package com.example.common.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 불변 구간 인덱스 (정적 구간 트리)
+ * 구간을 시작값 기준으로 정렬한 배열을 암묵적 균형 이진 트리로 보고,
+ * 각 노드에 서브트리의 최대 종료값을 함께 보관하여 겹침 질의를 O(log n + k)로 처리
+ * 구간은 양 끝을 포함하며([start, end]), 질의 결과는 시작값 오름차순으로 반환됨
+ *
+ * @param <T> 구간에 연결된 값 타입
+ */
+public final class IntervalIndex<T> {
+
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+    private final Object[] values;
+
+    private IntervalIndex(long[] starts, long[] ends, Object[] values) {
+        this.starts = starts;
+        this.ends = ends;
+        this.values = values;
+        this.maxEnds = new long[starts.length];
+        computeMaxEnds(0, starts.length);
+    }
+
+    /**
+     * 인덱스 빌더 생성
+     *
+     * @param <T> 구간에 연결된 값 타입
+     * @return 빌더
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * [from, to] 구간과 겹치는 모든 값을 시작값 순서로 전달
+     *
+     * @param from 질의 구간 시작 (포함)
+     * @param to 질의 구간 종료 (포함)
+     * @param consumer 결과 처리 함수
+     */
+    public void query(long from, long to, Consumer<? super T> consumer) {
+        if (from > to) {
+            return;
+        }
+        search(0, starts.length, from, to, consumer);
+    }
+
+    /**
+     * [from, to] 구간과 겹치는 모든 값 조회
+     *
+     * @param from 질의 구간 시작 (포함)
+     * @param to 질의 구간 종료 (포함)
+     * @return 겹치는 값 목록 (시작값 오름차순)
+     */
+    public List<T> query(long from, long to) {
+        List<T> result = new ArrayList<>();
+        query(from, to, result::add);
+        return result;
+    }
+
+    /**
+     * 인덱스에 포함된 구간 수
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    private long computeMaxEnds(int lo, int hi) {
+        if (lo >= hi) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max(ends[mid], Math.max(computeMaxEnds(lo, mid), computeMaxEnds(mid + 1, hi)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void search(int lo, int hi, long from, long to, Consumer<? super T> consumer) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (maxEnds[mid] < from) {
+                return;
+            }
+            search(lo, mid, from, to, consumer);
+            if (starts[mid] > to) {
+                return;
+            }
+            if (ends[mid] >= from) {
+                consumer.accept((T) values[mid]);
+            }
+            lo = mid + 1;
+        }
+    }
+
+    /**
+     * 구간 인덱스 빌더
+     *
+     * @param <T> 구간에 연결된 값 타입
+     */
+    public static final class Builder<T> {
+
+        private final List<Interval<T>> intervals = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * 구간 추가
+         *
+         * @param start 구간 시작 (포함)
+         * @param end 구간 종료 (포함)
+         * @param value 연결된 값
+         * @return 빌더
+         */
+        public Builder<T> add(long start, long end, T value) {
+            if (end < start) {
+                throw new IllegalArgumentException("구간 종료값이 시작값보다 작습니다: [" + start + ", " + end + "]");
+            }
+            intervals.add(new Interval<>(start, end, value));
+            return this;
+        }
+
+        /**
+         * 불변 인덱스 생성
+         *
+         * @return 구간 인덱스
+         */
+        public IntervalIndex<T> build() {
+            List<Interval<T>> sorted = new ArrayList<>(intervals);
+            sorted.sort(Comparator.comparingLong(Interval::start));
+
+            long[] starts = new long[sorted.size()];
+            long[] ends = new long[sorted.size()];
+            Object[] values = new Object[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                starts[i] = sorted.get(i).start();
+                ends[i] = sorted.get(i).end();
+                values[i] = sorted.get(i).value();
+            }
+            return new IntervalIndex<>(starts, ends, values);
+        }
+    }
+
+    private record Interval<T>(long start, long end, T value) {
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.common.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * 불변 long 키 맵
+ * 키를 정렬된 long 배열로, 값을 같은 순서의 배열로 보관하여
+ * 조회 시 박싱이나 해시 노드 없이 이진 탐색만으로 값을 찾음
+ * 참조 데이터처럼 드물게 바뀌고 자주 읽히는 작은 테이블용
+ *
+ * @param <V> 값 타입
+ */
+public final class LongKeyMap<V> {
+
+    private static final LongKeyMap<?> EMPTY = new LongKeyMap<>(new long[0], new Object[0]);
+
+    private final long[] keys;
+    private final Object[] values;
+
+    private LongKeyMap(long[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * 빈 맵
+     *
+     * @param <V> 값 타입
+     * @return 빈 맵
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> LongKeyMap<V> empty() {
+        return (LongKeyMap<V>) EMPTY;
+    }
+
+    /**
+     * 값 목록으로부터 맵 생성
+     *
+     * @param values 값 목록
+     * @param keyOf 값에서 키를 꺼내는 함수
+     * @param <V> 값 타입
+     * @return 불변 맵
+     * @throws IllegalArgumentException 같은 키가 두 번 이상 나오는 경우
+     */
+    public static <V> LongKeyMap<V> of(Collection<? extends V> values, ToLongFunction<? super V> keyOf) {
+        List<V> sorted = new ArrayList<>(values);
+        sorted.sort(Comparator.comparingLong(keyOf));
+
+        long[] keys = new long[sorted.size()];
+        Object[] array = new Object[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            keys[i] = keyOf.applyAsLong(sorted.get(i));
+            array[i] = sorted.get(i);
+            if (i > 0 && keys[i] == keys[i - 1]) {
+                throw new IllegalArgumentException("중복된 키입니다: " + keys[i]);
+            }
+        }
+        return new LongKeyMap<>(keys, array);
+    }
+
+    /**
+     * 키로 값 조회
+     *
+     * @param key 키
+     * @return 값 (없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int index = Arrays.binarySearch(keys, key);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    /**
+     * 키 포함 여부
+     *
+     * @param key 키
+     * @return 포함 여부
+     */
+    public boolean containsKey(long key) {
+        return Arrays.binarySearch(keys, key) >= 0;
+    }
+
+    /**
+     * 키 오름차순 값 목록 (읽기 전용)
+     */
+    @SuppressWarnings("unchecked")
+    public List<V> values() {
+        return Collections.unmodifiableList(Arrays.asList((V[]) values));
+    }
+
+    /**
+     * 맵에 포함된 항목 수
+     */
+    public int size() {
+        return keys.length;
+    }
+}
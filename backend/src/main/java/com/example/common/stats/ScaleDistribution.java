@@ -0,0 +1,230 @@
+package com.example.common.stats;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 정수 척도 값 분포
+ * 값 범위가 작은 정수(예: 1~10)이므로 값마다 한 칸씩 응답 수를 세는 히스토그램 자체가
+ * 오차 없는 분포 요약이 되며, 평균/표준편차/백분위를 응답 수와 무관하게 범위 크기만큼의 연산으로 계산함
+ *
+ * 같은 범위의 분포끼리는 칸별 합으로 병합되므로 문항, 설문, 과정 단위로 자유롭게 합칠 수 있음
+ * 스레드 안전하지 않으므로 조회 시점에 만들어 쓰는 용도
+ */
+public final class ScaleDistribution {
+
+    private final int minValue;
+    private final long[] counts;
+
+    /**
+     * 빈 분포 생성
+     *
+     * @param minValue 최소 척도 값
+     * @param maxValue 최대 척도 값
+     * @throws IllegalArgumentException 최소값이 최대값보다 큰 경우
+     */
+    public ScaleDistribution(int minValue, int maxValue) {
+        if (minValue > maxValue) {
+            throw new IllegalArgumentException("척도 범위가 올바르지 않습니다: " + minValue + "~" + maxValue);
+        }
+        this.minValue = minValue;
+        this.counts = new long[maxValue - minValue + 1];
+    }
+
+    /**
+     * 응답 하나 추가
+     *
+     * @param value 척도 값
+     * @return 이 분포
+     */
+    public ScaleDistribution add(int value) {
+        return add(value, 1);
+    }
+
+    /**
+     * 같은 값의 응답 여러 개 추가
+     *
+     * @param value 척도 값
+     * @param count 응답 수
+     * @return 이 분포
+     * @throws IllegalArgumentException 값이 범위를 벗어나거나 응답 수가 음수인 경우
+     */
+    public ScaleDistribution add(int value, long count) {
+        if (value < minValue || value > getMaxValue()) {
+            throw new IllegalArgumentException("척도 범위를 벗어난 값입니다: " + value);
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("응답 수는 음수일 수 없습니다: " + count);
+        }
+        counts[value - minValue] += count;
+        return this;
+    }
+
+    /**
+     * 다른 분포를 이 분포에 병합
+     *
+     * @param other 병합할 분포
+     * @return 이 분포
+     * @throws IllegalArgumentException 척도 범위가 다른 경우
+     */
+    public ScaleDistribution merge(ScaleDistribution other) {
+        if (other.minValue != minValue || other.counts.length != counts.length) {
+            throw new IllegalArgumentException("척도 범위가 다른 분포는 병합할 수 없습니다.");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        return this;
+    }
+
+    public int getMinValue() {
+        return minValue;
+    }
+
+    public int getMaxValue() {
+        return minValue + counts.length - 1;
+    }
+
+    /**
+     * 척도 값의 응답 수
+     *
+     * @param value 척도 값
+     * @return 응답 수 (범위를 벗어나면 0)
+     */
+    public long countOf(int value) {
+        return value < minValue || value > getMaxValue() ? 0 : counts[value - minValue];
+    }
+
+    /**
+     * 전체 응답 수
+     */
+    public long getCount() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return getCount() == 0;
+    }
+
+    /**
+     * 척도 값 합계
+     */
+    public long getSum() {
+        long sum = 0;
+        for (int i = 0; i < counts.length; i++) {
+            sum += counts[i] * (minValue + i);
+        }
+        return sum;
+    }
+
+    /**
+     * 평균 (응답이 없으면 NaN)
+     */
+    public double getMean() {
+        long count = getCount();
+        return count > 0 ? (double) getSum() / count : Double.NaN;
+    }
+
+    /**
+     * 모표준편차 (응답이 없으면 NaN)
+     */
+    public double getStandardDeviation() {
+        long count = getCount();
+        if (count == 0) {
+            return Double.NaN;
+        }
+        double mean = getMean();
+        double squares = 0;
+        for (int i = 0; i < counts.length; i++) {
+            double diff = minValue + i - mean;
+            squares += counts[i] * diff * diff;
+        }
+        return Math.sqrt(squares / count);
+    }
+
+    /**
+     * 응답된 가장 작은 값 (응답이 없으면 NaN)
+     */
+    public double getObservedMin() {
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                return minValue + i;
+            }
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * 응답된 가장 큰 값 (응답이 없으면 NaN)
+     */
+    public double getObservedMax() {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] > 0) {
+                return minValue + i;
+            }
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * 백분위 값
+     * 정렬된 응답의 (n - 1) * p 위치 값을 앞뒤 두 응답 사이에서 선형 보간함
+     *
+     * @param p 0 이상 1 이하의 비율 (0.5는 중앙값)
+     * @return 백분위 값 (응답이 없으면 NaN)
+     * @throws IllegalArgumentException 비율이 범위를 벗어난 경우
+     */
+    public double percentile(double p) {
+        if (p < 0 || p > 1) {
+            throw new IllegalArgumentException("백분위 비율은 0 이상 1 이하여야 합니다: " + p);
+        }
+        long count = getCount();
+        if (count == 0) {
+            return Double.NaN;
+        }
+        double position = (count - 1) * p;
+        long lower = (long) Math.floor(position);
+        int lowerValue = valueAtRank(lower);
+        int upperValue = valueAtRank(Math.min(lower + 1, count - 1));
+        return lowerValue + (upperValue - lowerValue) * (position - lower);
+    }
+
+    /**
+     * 중앙값 (응답이 없으면 NaN)
+     */
+    public double getMedian() {
+        return percentile(0.5);
+    }
+
+    /**
+     * 값별 응답 수 (응답이 있는 값만, 값 오름차순, 읽기 전용)
+     */
+    public Map<Integer, Long> histogram() {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                histogram.put(minValue + i, counts[i]);
+            }
+        }
+        return Collections.unmodifiableMap(histogram);
+    }
+
+    /**
+     * 정렬된 응답에서 0부터 시작하는 순위의 값
+     */
+    private int valueAtRank(long rank) {
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (rank < seen) {
+                return minValue + i;
+            }
+        }
+        return getMaxValue();
+    }
+}
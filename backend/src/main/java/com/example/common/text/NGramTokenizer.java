@@ -0,0 +1,131 @@
+package com.example.common.text;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글 인식 n-gram 토크나이저
+ * 형태소 분석기 없이 한글 어절은 음절 바이그램(2-gram)으로, 영문/숫자 단어는 단어 그대로 나누어
+ * 조사가 붙은 어절("강의가", "강의는")도 같은 용어("강의")로 묶이도록 함
+ *
+ * 입력은 NFKC 정규화와 소문자 변환 후 처리하며, 한 글자짜리 한글 어절과 영문/숫자 단어는 용어로 쓰지 않음
+ *
+ * 부분 문자열 검색용 색인에는 영문/숫자 단어도 바이그램으로 나눈 searchGrams 를 사용함
+ * (단어 단위 용어만으로는 "jav" 처럼 단어 일부인 검색어를 찾을 수 없음)
+ */
+public final class NGramTokenizer {
+
+    private static final int HANGUL_SYLLABLE_FIRST = 0xAC00;
+    private static final int HANGUL_SYLLABLE_LAST = 0xD7A3;
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 검색/색인용 정규화 (NFKC, 소문자)
+     *
+     * @param text 원문
+     * @return 정규화된 문자열 (null 이면 빈 문자열)
+     */
+    public static String normalize(String text) {
+        return text == null ? "" : Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 용어 목록 (등장 순서, 중복 포함)
+     *
+     * @param text 원문
+     * @return 용어 목록
+     */
+    public static List<String> tokenize(String text) {
+        String normalized = normalize(text);
+        List<String> terms = new ArrayList<>();
+        int length = normalized.length();
+        int start = 0;
+        while (start < length) {
+            int codePoint = normalized.codePointAt(start);
+            if (isHangulSyllable(codePoint)) {
+                int end = start;
+                while (end < length && isHangulSyllable(normalized.charAt(end))) {
+                    end++;
+                }
+                for (int i = start; i + 2 <= end; i++) {
+                    terms.add(normalized.substring(i, i + 2));
+                }
+                start = end;
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                int end = start;
+                while (end < length) {
+                    int next = normalized.codePointAt(end);
+                    if (isHangulSyllable(next) || !Character.isLetterOrDigit(next)) {
+                        break;
+                    }
+                    end += Character.charCount(next);
+                }
+                if (normalized.codePointCount(start, end) >= 2) {
+                    terms.add(normalized.substring(start, end));
+                }
+                start = end;
+            } else {
+                start += Character.charCount(codePoint);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 서로 다른 용어 집합 (등장 순서)
+     *
+     * @param text 원문
+     * @return 용어 집합
+     */
+    public static Set<String> distinctTerms(String text) {
+        return new LinkedHashSet<>(tokenize(text));
+    }
+
+    /**
+     * 부분 문자열 검색용 바이그램 집합 (등장 순서)
+     * 한글 어절과 영문/숫자 단어를 모두 음절/문자 바이그램으로 나누므로,
+     * 검색어의 바이그램은 검색어를 포함한 모든 원문의 바이그램에 포함됨
+     *
+     * @param text 원문
+     * @return 바이그램 집합 (한 글자짜리 어절/단어는 제외)
+     */
+    public static Set<String> searchGrams(String text) {
+        String normalized = normalize(text);
+        Set<String> grams = new LinkedHashSet<>();
+        int length = normalized.length();
+        int start = 0;
+        while (start < length) {
+            int codePoint = normalized.codePointAt(start);
+            if (!Character.isLetterOrDigit(codePoint)) {
+                start += Character.charCount(codePoint);
+                continue;
+            }
+            boolean hangul = isHangulSyllable(codePoint);
+            int previous = -1;
+            int index = start;
+            while (index < length) {
+                int next = normalized.codePointAt(index);
+                if (!Character.isLetterOrDigit(next) || isHangulSyllable(next) != hangul) {
+                    break;
+                }
+                if (previous >= 0) {
+                    grams.add(normalized.substring(previous, index + Character.charCount(next)));
+                }
+                previous = index;
+                index += Character.charCount(next);
+            }
+            start = index;
+        }
+        return grams;
+    }
+
+    private static boolean isHangulSyllable(int codePoint) {
+        return codePoint >= HANGUL_SYLLABLE_FIRST && codePoint <= HANGUL_SYLLABLE_LAST;
+    }
+}
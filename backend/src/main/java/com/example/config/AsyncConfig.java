@@ -0,0 +1,68 @@
+package com.example.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 작업 실행기 설정
+ */
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 과정 상세 하위 조회 실행기 크기 (0 이면 커넥션 풀 크기의 절반)
+     */
+    @Value("${course.detail.pool-size:0}")
+    private int courseDetailPoolSize;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int connectionPoolSize;
+
+    @Value("${survey.export.pool-size:2}")
+    private int surveyExportPoolSize;
+
+    /**
+     * 애플리케이션 기본 실행기 (MVC 비동기 요청 처리 등)
+     * 실행기 빈을 직접 등록하면 Spring Boot 가 기본 실행기를 만들지 않으므로
+     * spring.task.execution.* 설정을 그대로 적용해 같은 이름으로 등록함
+     */
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * 과정 상세 조회의 하위 조회를 병렬로 실행하는 실행기
+     * 하위 조회마다 DB 커넥션을 사용하므로 커넥션 풀 크기의 절반(요청 처리 스레드 몫을 남김)으로 제한함
+     */
+    @Bean(name = "courseDetailExecutor")
+    public ThreadPoolTaskExecutor courseDetailExecutor() {
+        int poolSize = courseDetailPoolSize > 0 ? courseDetailPoolSize : Math.max(1, connectionPoolSize / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 50);
+        executor.setThreadNamePrefix("course-detail-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 설문 응답 CSV 내보내기 실행기
+     * 내보내기 하나가 끝날 때까지 커넥션을 잡으므로 작은 고정 크기로 두고 대기열 없이 넘치는 요청은 거절함
+     */
+    @Bean(name = "surveyExportExecutor")
+    public ThreadPoolTaskExecutor surveyExportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(surveyExportPoolSize);
+        executor.setMaxPoolSize(surveyExportPoolSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("survey-export-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -135,6 +135,26 @@ public class CourseBookmarkController {
         ));
     }
 
+    /**
+     * 여러 과정의 즐겨찾기 상태 일괄 확인 (목록 화면용)
+     * @param authentication 인증 정보
+     * @param courseIds 확인할 과정 ID 목록
+     * @return 즐겨찾기한 과정 ID 목록
+     */
+    @GetMapping("/courses/status")
+    public ResponseEntity<Map<String, Object>> checkBookmarkStatuses(
+            Authentication authentication,
+            @RequestParam List<Long> courseIds) {
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        Long userId = Long.parseLong(userDetails.getUsername());
+        
+        List<Long> bookmarkedCourseIds = bookmarkService.findBookmarkedCourseIds(userId, courseIds);
+        
+        return ResponseEntity.ok(Map.of(
+            "bookmarkedCourseIds", bookmarkedCourseIds
+        ));
+    }
+
     /**
      * 사용자의 즐겨찾기 과정 수 조회
      * @param authentication 인증 정보
@@ -3,9 +3,12 @@ package com.example.course.controller;
 import com.example.course.dto.CourseCategoryCreateRequest;
 import com.example.course.dto.CourseCategoryResponse;
 import com.example.course.dto.CourseCategoryUpdateRequest;
+import com.example.course.service.CatalogSnapshotService;
+import com.example.course.service.CatalogSnapshotService.SnapshotType;
 import com.example.course.service.CourseCategoryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -22,15 +25,17 @@ import java.util.List;
 public class CourseCategoryController {
 
     private final CourseCategoryService categoryService;
+    private final CatalogSnapshotService snapshotService;
 
     /**
-     * 모든 활성화된 카테고리 목록 조회
-     * @return 활성화된 카테고리 목록
+     * 모든 활성화된 카테고리 목록 조회 (사전 직렬화된 스냅샷 응답)
+     * @param acceptEncoding 요청의 Accept-Encoding 헤더
+     * @return 활성화된 카테고리 목록 JSON
      */
     @GetMapping
-    public ResponseEntity<List<CourseCategoryResponse>> getAllActiveCategories() {
-        List<CourseCategoryResponse> categories = categoryService.findAllActiveCategories();
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<byte[]> getAllActiveCategories(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return snapshotService.getSnapshot(SnapshotType.CATEGORIES).toResponse(acceptEncoding);
     }
 
     /**
@@ -54,6 +59,17 @@ public class CourseCategoryController {
         return ResponseEntity.ok(rootCategories);
     }
 
+    /**
+     * 최상위부터 해당 카테고리까지의 경로(브레드크럼) 조회
+     * @param id 카테고리 ID
+     * @return 경로상의 카테고리 목록 (최상위 카테고리가 첫 번째)
+     */
+    @GetMapping("/{id}/breadcrumbs")
+    public ResponseEntity<List<CourseCategoryResponse>> getBreadcrumbs(@PathVariable Long id) {
+        List<CourseCategoryResponse> breadcrumbs = categoryService.findBreadcrumbs(id);
+        return ResponseEntity.ok(breadcrumbs);
+    }
+
     /**
      * 상위 카테고리별 하위 카테고리 목록 조회
      * @param parentId 상위 카테고리 ID
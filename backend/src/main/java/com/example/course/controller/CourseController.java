@@ -1,18 +1,25 @@
 package com.example.course.controller;
 
+import com.example.course.dto.CatalogImportResponse;
 import com.example.course.dto.CourseCreateRequest;
+import com.example.course.dto.CourseDetailResponse;
+import com.example.course.dto.CourseRecommendationResponse;
 import com.example.course.dto.CourseResponse;
 import com.example.course.dto.CourseUpdateRequest;
-import com.example.course.dto.CourseCategoryResponse;
-import com.example.course.dto.CourseLevelResponse;
+import com.example.course.service.CatalogImportService;
+import com.example.course.service.CatalogSnapshotService;
+import com.example.course.service.CatalogSnapshotService.SnapshotType;
+import com.example.course.service.CourseDetailService;
+import com.example.course.service.CourseRecommendationService;
 import com.example.course.service.CourseService;
-import com.example.course.service.CourseCategoryService;
-import com.example.course.service.CourseLevelService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -26,17 +33,20 @@ import java.util.List;
 public class CourseController {
 
     private final CourseService courseService;
-    private final CourseCategoryService categoryService;
-    private final CourseLevelService levelService;
+    private final CatalogSnapshotService snapshotService;
+    private final CourseDetailService courseDetailService;
+    private final CourseRecommendationService recommendationService;
+    private final CatalogImportService catalogImportService;
 
     /**
-     * 모든 활성화된 교육 과정 목록 조회
-     * @return 활성화된 교육 과정 목록
+     * 모든 활성화된 교육 과정 목록 조회 (사전 직렬화된 스냅샷 응답)
+     * @param acceptEncoding 요청의 Accept-Encoding 헤더
+     * @return 활성화된 교육 과정 목록 JSON
      */
     @GetMapping
-    public ResponseEntity<List<CourseResponse>> getAllActiveCourses() {
-        List<CourseResponse> courses = courseService.findAllActiveCourses();
-        return ResponseEntity.ok(courses);
+    public ResponseEntity<byte[]> getAllActiveCourses(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return snapshotService.getSnapshot(SnapshotType.COURSES).toResponse(acceptEncoding);
     }
 
     /**
@@ -50,14 +60,51 @@ public class CourseController {
         return ResponseEntity.ok(course);
     }
 
+    /**
+     * 교육 과정 상세 페이지 정보 조회
+     * 과정, 차수(잔여 좌석), 설문, 즐겨찾기 수 및 여부를 한 번에 반환
+     * @param authentication 인증 정보
+     * @param id 교육 과정 ID
+     * @return 교육 과정 상세 정보
+     */
+    @GetMapping("/{id}/detail")
+    public ResponseEntity<CourseDetailResponse> getCourseDetail(
+            Authentication authentication,
+            @PathVariable Long id) {
+        Long userId = null;
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetails userDetails) {
+            userId = Long.parseLong(userDetails.getUsername());
+        }
+
+        CourseDetailResponse detail = courseDetailService.getCourseDetail(id, userId);
+        return ResponseEntity.ok(detail);
+    }
+
+    /**
+     * 함께 수강한 교육 과정 추천 목록 조회
+     * @param id 기준 교육 과정 ID
+     * @param limit 최대 추천 수
+     * @return 추천 교육 과정 목록
+     */
+    @GetMapping("/{id}/recommendations")
+    public ResponseEntity<List<CourseRecommendationResponse>> getRecommendations(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<CourseRecommendationResponse> recommendations = recommendationService.recommendForCourse(id, limit);
+        return ResponseEntity.ok(recommendations);
+    }
+
     /**
      * 카테고리별 교육 과정 목록 조회
      * @param categoryId 카테고리 ID
+     * @param includeSubcategories 하위 카테고리의 교육 과정 포함 여부
      * @return 카테고리에 속한 교육 과정 목록
      */
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<List<CourseResponse>> getCoursesByCategory(@PathVariable Long categoryId) {
-        List<CourseResponse> courses = courseService.findCoursesByCategory(categoryId);
+    public ResponseEntity<List<CourseResponse>> getCoursesByCategory(
+            @PathVariable Long categoryId,
+            @RequestParam(defaultValue = "false") boolean includeSubcategories) {
+        List<CourseResponse> courses = courseService.findCoursesByCategory(categoryId, includeSubcategories);
         return ResponseEntity.ok(courses);
     }
 
@@ -73,6 +120,18 @@ public class CourseController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdCourse);
     }
 
+    /**
+     * JSON 카탈로그 파일(카테고리, 레벨, 과정, 수강평) 일괄 가져오기 (관리자 권한 필요)
+     * 반복 실행 시 기존 데이터를 갱신함
+     * @return 가져오기 결과
+     */
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CatalogImportResponse> importCatalog() {
+        CatalogImportResponse result = catalogImportService.importCatalog();
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * 기존 교육 과정 정보 수정 (관리자 권한 필요)
      * @param id 수정할 교육 과정 ID
@@ -101,22 +160,24 @@ public class CourseController {
     }
 
     /**
-     * 모든 활성화된 교육 과정 카테고리 목록 조회
-     * @return 활성화된 교육 과정 카테고리 목록
+     * 모든 활성화된 교육 과정 카테고리 목록 조회 (사전 직렬화된 스냅샷 응답)
+     * @param acceptEncoding 요청의 Accept-Encoding 헤더
+     * @return 활성화된 교육 과정 카테고리 목록 JSON
      */
     @GetMapping("/categories")
-    public ResponseEntity<List<CourseCategoryResponse>> getAllCategories() {
-        List<CourseCategoryResponse> categories = categoryService.findAllActiveCategories();
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<byte[]> getAllCategories(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return snapshotService.getSnapshot(SnapshotType.CATEGORIES).toResponse(acceptEncoding);
     }
     
     /**
-     * 모든 활성화된 교육 과정 레벨 목록 조회
-     * @return 활성화된 교육 과정 레벨 목록
+     * 모든 활성화된 교육 과정 레벨 목록 조회 (사전 직렬화된 스냅샷 응답)
+     * @param acceptEncoding 요청의 Accept-Encoding 헤더
+     * @return 활성화된 교육 과정 레벨 목록 JSON
      */
     @GetMapping("/levels")
-    public ResponseEntity<List<CourseLevelResponse>> getAllLevels() {
-        List<CourseLevelResponse> levels = levelService.findAllActiveLevels();
-        return ResponseEntity.ok(levels);
+    public ResponseEntity<byte[]> getAllLevels(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return snapshotService.getSnapshot(SnapshotType.LEVELS).toResponse(acceptEncoding);
     }
 } 
\ No newline at end of file
@@ -2,9 +2,14 @@ package com.example.course.controller;
 
 import com.example.course.dto.CourseEnrollmentRequest;
 import com.example.course.dto.CourseEnrollmentResponse;
+import com.example.course.dto.CourseRecommendationResponse;
+import com.example.course.dto.TimetableSlotResponse;
+import com.example.course.service.CourseRecommendationService;
+import com.example.course.service.LearnerTimetableService;
 import com.example.course.service.CourseEnrollmentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -12,6 +17,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -24,6 +30,8 @@ import java.util.Map;
 public class CourseEnrollmentController {
 
     private final CourseEnrollmentService enrollmentService;
+    private final CourseRecommendationService recommendationService;
+    private final LearnerTimetableService timetableService;
 
     /**
      * 현재 학습 중인 과정 목록 조회
@@ -53,6 +61,42 @@ public class CourseEnrollmentController {
         return ResponseEntity.ok(completedCourses);
     }
 
+    /**
+     * 내 시간표 조회 (승인된 차수의 수업 일정)
+     * @param authentication 인증 정보
+     * @param from 조회 시작일 (선택)
+     * @param to 조회 종료일 (선택)
+     * @return 시간표 항목 목록
+     */
+    @GetMapping("/timetable")
+    public ResponseEntity<List<TimetableSlotResponse>> getTimetable(
+            Authentication authentication,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        Long userId = Long.parseLong(userDetails.getUsername());
+
+        List<TimetableSlotResponse> timetable = timetableService.getTimetable(userId, from, to);
+        return ResponseEntity.ok(timetable);
+    }
+
+    /**
+     * 수강/즐겨찾기 이력 기반 추천 과정 목록 조회
+     * @param authentication 인증 정보
+     * @param limit 최대 추천 수
+     * @return 추천 과정 목록
+     */
+    @GetMapping("/recommendations")
+    public ResponseEntity<List<CourseRecommendationResponse>> getRecommendations(
+            Authentication authentication,
+            @RequestParam(defaultValue = "10") int limit) {
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        Long userId = Long.parseLong(userDetails.getUsername());
+
+        List<CourseRecommendationResponse> recommendations = recommendationService.recommendForUser(userId, limit);
+        return ResponseEntity.ok(recommendations);
+    }
+
     /**
      * 과정 수강 신청
      * @param authentication 인증 정보
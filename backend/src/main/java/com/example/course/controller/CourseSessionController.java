@@ -0,0 +1,61 @@
+package com.example.course.controller;
+
+import com.example.course.dto.CourseSessionResponse;
+import com.example.course.service.CourseSessionCalendarService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 교육 과정 차수 달력 관련 API를 제공하는 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/v1/sessions")
+@RequiredArgsConstructor
+public class CourseSessionController {
+
+    private final CourseSessionCalendarService calendarService;
+
+    /**
+     * 기간 내 교육이 진행되는 차수 목록 조회 (달력)
+     * @param from 조회 시작일
+     * @param to 조회 종료일
+     * @param categoryId 카테고리 ID (선택)
+     * @param courseId 교육 과정 ID (선택)
+     * @return 차수 목록
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<List<CourseSessionResponse>> getCalendar(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long courseId) {
+        List<CourseSessionResponse> sessions = calendarService.findRunning(from, to, categoryId, courseId);
+        return ResponseEntity.ok(sessions);
+    }
+
+    /**
+     * 모집 중인 차수 목록 조회
+     * 기간을 지정하지 않으면 현재 모집 중인 차수를 반환
+     * @param from 조회 시작일 (선택)
+     * @param to 조회 종료일 (선택)
+     * @param categoryId 카테고리 ID (선택)
+     * @param courseId 교육 과정 ID (선택)
+     * @return 차수 목록
+     */
+    @GetMapping("/recruiting")
+    public ResponseEntity<List<CourseSessionResponse>> getRecruiting(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long courseId) {
+        List<CourseSessionResponse> sessions = from == null || to == null
+                ? calendarService.findRecruitingNow(categoryId, courseId)
+                : calendarService.findRecruiting(from, to, categoryId, courseId);
+        return ResponseEntity.ok(sessions);
+    }
+}
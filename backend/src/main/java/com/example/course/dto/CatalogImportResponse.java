@@ -0,0 +1,46 @@
+package com.example.course.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카탈로그 가져오기 결과 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogImportResponse {
+
+    /**
+     * 반영된 카테고리 수
+     */
+    private int categories;
+
+    /**
+     * 반영된 레벨 수
+     */
+    private int levels;
+
+    /**
+     * 반영된 교육 과정 수
+     */
+    private int courses;
+
+    /**
+     * 반영된 수강평 수
+     */
+    private int reviews;
+
+    /**
+     * 레벨/카테고리/유형 코드를 찾지 못해 연결 없이 반영된 과정 수
+     */
+    private int unresolvedReferences;
+
+    /**
+     * 소요 시간 (밀리초)
+     */
+    private long elapsedMs;
+}
@@ -0,0 +1,118 @@
+package com.example.course.dto;
+
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 사전 직렬화된 카탈로그 스냅샷
+ * 한 번 직렬화된 JSON 바이트와 gzip 사전 압축본을 보관하며, 생성 이후 변경되지 않음
+ * 보관 중인 배열은 응답 본문으로 그대로 사용되므로 수정해서는 안 됨
+ */
+@Getter
+public class CatalogSnapshot {
+
+    /**
+     * 직렬화된 JSON 바이트
+     */
+    private final byte[] json;
+
+    /**
+     * gzip 사전 압축본 (압축 비활성화 시 null)
+     */
+    private final byte[] gzip;
+
+    private CatalogSnapshot(byte[] json, byte[] gzip) {
+        this.json = json;
+        this.gzip = gzip;
+    }
+
+    /**
+     * 직렬화된 JSON 바이트로 스냅샷 생성
+     *
+     * @param json 직렬화된 JSON 바이트
+     * @param gzipEnabled gzip 사전 압축 여부
+     * @return 카탈로그 스냅샷
+     */
+    public static CatalogSnapshot of(byte[] json, boolean gzipEnabled) {
+        return new CatalogSnapshot(json, gzipEnabled ? gzip(json) : null);
+    }
+
+    /**
+     * 클라이언트의 Accept-Encoding에 맞춰 스냅샷 바이트를 그대로 응답으로 변환
+     *
+     * @param acceptEncoding 요청의 Accept-Encoding 헤더 값
+     * @return JSON 바이트 응답
+     */
+    public ResponseEntity<byte[]> toResponse(String acceptEncoding) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip != null && acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip);
+        }
+        return builder.body(json);
+    }
+
+    /**
+     * Accept-Encoding 헤더가 gzip 을 허용하는지 확인
+     * 코딩별 q 값을 해석하여 gzip(또는 gzip 이 명시되지 않은 경우 *)의 q 값이 0보다 클 때만 허용함
+     *
+     * @param acceptEncoding 요청의 Accept-Encoding 헤더 값
+     * @return gzip 허용 여부
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = qualityOf(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = quality;
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+
+    /**
+     * 코딩 요소의 q 값 (없으면 1, 형식이 잘못되면 0으로 보아 허용하지 않음)
+     */
+    private static double qualityOf(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 1 && Character.toLowerCase(parameter.charAt(0)) == 'q' && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] gzip(byte[] source) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, source.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
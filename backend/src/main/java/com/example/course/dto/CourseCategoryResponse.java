@@ -56,6 +56,16 @@ public class CourseCategoryResponse {
      */
     private boolean active;
 
+    /**
+     * 이 카테고리에 직접 속한 활성 교육 과정 수
+     */
+    private int directCourseCount;
+
+    /**
+     * 하위 카테고리를 포함한 활성 교육 과정 수
+     */
+    private int totalCourseCount;
+
     /**
      * 하위 카테고리 목록
      */
@@ -74,6 +84,7 @@ public class CourseCategoryResponse {
     @Builder
     private CourseCategoryResponse(Long id, String code, String name, String description,
                                  Long parentId, String parentName, Integer sortOrder, boolean active,
+                                 int directCourseCount, int totalCourseCount,
                                  List<CourseCategoryResponse> children, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.code = code;
@@ -83,6 +94,8 @@ public class CourseCategoryResponse {
         this.parentName = parentName;
         this.sortOrder = sortOrder;
         this.active = active;
+        this.directCourseCount = directCourseCount;
+        this.totalCourseCount = totalCourseCount;
         this.children = children;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
@@ -101,6 +114,8 @@ public class CourseCategoryResponse {
                 .parentName(category.getParent() != null ? category.getParent().getName() : null)
                 .sortOrder(category.getSortOrder())
                 .active(category.isActive())
+                .directCourseCount(category.getDirectCourseCount())
+                .totalCourseCount(category.getTotalCourseCount())
                 .children(category.getChildren() != null && !category.getChildren().isEmpty() ?
                         category.getChildren().stream()
                                 .map(CourseCategoryResponse::from)
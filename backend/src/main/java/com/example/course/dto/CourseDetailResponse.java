@@ -0,0 +1,50 @@
+package com.example.course.dto;
+
+import com.example.survey.dto.SurveySummaryResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 교육 과정 상세 페이지 응답 DTO
+ * 과정 정보와 차수, 설문, 즐겨찾기 정보를 한 번에 제공
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseDetailResponse {
+
+    /**
+     * 과정 정보
+     */
+    private CourseResponse course;
+
+    /**
+     * 차수 목록 (잔여 좌석 포함)
+     */
+    private List<CourseSessionResponse> sessions;
+
+    /**
+     * 과정에 연결된 설문 목록
+     */
+    private List<SurveySummaryResponse> surveys;
+
+    /**
+     * 즐겨찾기 수 (조회 실패 시 null)
+     */
+    private Long bookmarkCount;
+
+    /**
+     * 현재 사용자의 즐겨찾기 여부 (조회 실패 시 null)
+     */
+    private Boolean bookmarked;
+
+    /**
+     * 시간 초과 또는 오류로 기본값이 사용된 항목 목록
+     */
+    private List<String> degradedSections;
+}
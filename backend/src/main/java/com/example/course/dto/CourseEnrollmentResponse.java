@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 수강신청 정보 응답 DTO
@@ -16,7 +17,7 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class CourseEnrollmentResponse {
     
     private Long id;
@@ -41,6 +42,7 @@ public class CourseEnrollmentResponse {
     private LocalDate endDate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private List<Long> conflictingSessionIds;
     
     /**
      * 엔티티를 DTO로 변환
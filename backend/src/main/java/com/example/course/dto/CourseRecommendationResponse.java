@@ -0,0 +1,36 @@
+package com.example.course.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 추천 과정 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseRecommendationResponse {
+
+    /**
+     * 추천 과정 ID
+     */
+    private Long courseId;
+
+    /**
+     * 추천 과정 코드
+     */
+    private String code;
+
+    /**
+     * 추천 과정명
+     */
+    private String name;
+
+    /**
+     * 추천 점수 (코사인 유사도 기반, 클수록 관련성이 높음)
+     */
+    private double score;
+}
@@ -78,6 +78,11 @@ public class CourseResponse {
      */
     private String typeName;
 
+    /**
+     * 즐겨찾기 수 (주기적으로 반영되는 값)
+     */
+    private int bookmarkCount;
+
     /**
      * 생성 일시
      */
@@ -93,7 +98,7 @@ public class CourseResponse {
                           String learningObjectives, Integer totalMinutes,
                           Integer maxEnrollment, Integer minEnrollment, boolean active,
                           Long categoryId, String categoryName, Long typeId, String typeName,
-                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+                          int bookmarkCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.code = code;
         this.name = name;
@@ -107,6 +112,7 @@ public class CourseResponse {
         this.categoryName = categoryName;
         this.typeId = typeId;
         this.typeName = typeName;
+        this.bookmarkCount = bookmarkCount;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -115,6 +121,16 @@ public class CourseResponse {
      * Course 엔티티를 CourseResponse DTO로 변환
      */
     public static CourseResponse from(Course course) {
+        return from(course,
+                course.getCategory() != null ? course.getCategory().getName() : null,
+                course.getType() != null ? course.getType().getName() : null);
+    }
+
+    /**
+     * Course 엔티티를 CourseResponse DTO로 변환 (카테고리/유형 이름은 호출 측에서 전달)
+     * 카테고리/유형이 지연 로딩 프록시인 경우 이름 조회로 인한 추가 쿼리를 피하기 위해 사용
+     */
+    public static CourseResponse from(Course course, String categoryName, String typeName) {
         return CourseResponse.builder()
                 .id(course.getId())
                 .code(course.getCode())
@@ -126,9 +142,10 @@ public class CourseResponse {
                 .minEnrollment(course.getMinEnrollment())
                 .active(course.isActive())
                 .categoryId(course.getCategory() != null ? course.getCategory().getId() : null)
-                .categoryName(course.getCategory() != null ? course.getCategory().getName() : null)
+                .categoryName(categoryName)
                 .typeId(course.getType() != null ? course.getType().getId() : null)
-                .typeName(course.getType() != null ? course.getType().getName() : null)
+                .typeName(typeName)
+                .bookmarkCount(course.getBookmarkCount())
                 .createdAt(course.getCreatedAt())
                 .updatedAt(course.getUpdatedAt())
                 .build();
@@ -0,0 +1,73 @@
+package com.example.course.dto;
+
+import com.example.course.entity.CourseSession;
+import com.example.course.entity.CourseSessionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 교육과정 차수 정보 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseSessionResponse {
+
+    private Long id;
+    private Long courseId;
+    private String code;
+    private String name;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDateTime recruitmentStartAt;
+    private LocalDateTime recruitmentEndAt;
+    private String location;
+    private CourseSessionStatus status;
+
+    /**
+     * 현재 등록 인원
+     */
+    private Integer currentEnrollment;
+
+    /**
+     * 최대 수강 인원 (과정 기준)
+     */
+    private Integer maxEnrollment;
+
+    /**
+     * 잔여 좌석 수 (최대 인원이 없으면 null)
+     */
+    private Integer remainingSeats;
+
+    /**
+     * 엔티티를 DTO로 변환
+     * @param session 교육과정 차수 엔티티
+     * @return 교육과정 차수 응답 DTO
+     */
+    public static CourseSessionResponse from(CourseSession session) {
+        Integer maxEnrollment = session.getCourse() != null ? session.getCourse().getMaxEnrollment() : null;
+        int currentEnrollment = session.getCurrentEnrollment() != null ? session.getCurrentEnrollment() : 0;
+
+        return CourseSessionResponse.builder()
+                .id(session.getId())
+                .courseId(session.getCourse() != null ? session.getCourse().getId() : null)
+                .code(session.getCode())
+                .name(session.getName())
+                .startDate(session.getStartDate())
+                .endDate(session.getEndDate())
+                .recruitmentStartAt(session.getRecruitmentStartAt())
+                .recruitmentEndAt(session.getRecruitmentEndAt())
+                .location(session.getLocation())
+                .status(session.getStatus())
+                .currentEnrollment(currentEnrollment)
+                .maxEnrollment(maxEnrollment)
+                .remainingSeats(maxEnrollment != null ? Math.max(0, maxEnrollment - currentEnrollment) : null)
+                .build();
+    }
+}
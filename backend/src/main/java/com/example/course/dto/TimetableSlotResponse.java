@@ -0,0 +1,58 @@
+package com.example.course.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간표 항목 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimetableSlotResponse {
+
+    /**
+     * 교육 과정 ID
+     */
+    private Long courseId;
+
+    /**
+     * 교육 과정명
+     */
+    private String courseName;
+
+    /**
+     * 차수 ID
+     */
+    private Long sessionId;
+
+    /**
+     * 차수명
+     */
+    private String sessionName;
+
+    /**
+     * 수업명 (일정이 없는 차수는 null)
+     */
+    private String title;
+
+    /**
+     * 시작 일시
+     */
+    private LocalDateTime startAt;
+
+    /**
+     * 종료 일시
+     */
+    private LocalDateTime endAt;
+
+    /**
+     * 장소
+     */
+    private String location;
+}
@@ -83,6 +83,13 @@ public class Course extends BaseTimeEntity {
     @JoinColumn(name = "category_id")
     private CourseCategory category;
 
+    /**
+     * 과정 레벨
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "level_id")
+    private CourseLevel level;
+
     /**
      * 교육 차수/기수 목록
      */
@@ -95,6 +102,13 @@ public class Course extends BaseTimeEntity {
      */
     private int enrollmentCount = 0;
 
+    /**
+     * 즐겨찾기 수
+     * 메모리 카운터를 주기적으로 SQL 증감으로 반영하므로 엔티티 저장 시에는 반영하지 않음
+     */
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "integer default 0")
+    private int bookmarkCount;
+
     /**
      * 수강생 등록 시 수강생 수 증가
      */
@@ -22,7 +22,8 @@ import java.time.LocalDateTime;
 public class CourseBookmark extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_bookmarks_seq")
+    @SequenceGenerator(name = "course_bookmarks_seq", sequenceName = "course_bookmarks_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
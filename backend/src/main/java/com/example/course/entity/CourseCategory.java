@@ -72,6 +72,20 @@ public class CourseCategory extends BaseTimeEntity {
     @Column(nullable = false)
     private boolean active;
 
+    /**
+     * 이 카테고리에 직접 속한 활성 교육과정 수
+     * 클로저 테이블 기준 SQL 증감으로만 갱신되므로 엔티티 저장 시에는 반영하지 않음
+     */
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "integer default 0")
+    private int directCourseCount;
+
+    /**
+     * 하위 카테고리를 포함한 활성 교육과정 수
+     * 클로저 테이블 기준 SQL 증감으로만 갱신되므로 엔티티 저장 시에는 반영하지 않음
+     */
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "integer default 0")
+    private int totalCourseCount;
+
     /**
      * 카테고리에 속한 교육과정 목록
      */
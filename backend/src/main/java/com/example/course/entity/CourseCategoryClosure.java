@@ -0,0 +1,58 @@
+package com.example.course.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 교육 과정 카테고리 클로저 엔티티
+ * 카테고리 계층의 모든 (상위, 하위) 쌍과 그 사이 거리를 보관하여
+ * 하위 트리 전체 조회와 경로(브레드크럼) 조회를 재귀 없이 한 번의 조인으로 처리
+ *
+ * 자기 자신과의 쌍(depth = 0)을 포함하며, 카테고리 생성/상위 변경 시 함께 갱신됨
+ */
+@Entity
+@Table(name = "course_category_closure", indexes = {
+    @Index(name = "idx_course_category_closure_descendant_depth", columnList = "descendant_id, depth")
+})
+@IdClass(CourseCategoryClosure.ClosureId.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseCategoryClosure {
+
+    /**
+     * 상위 카테고리 ID
+     */
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    /**
+     * 하위 카테고리 ID
+     */
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+
+    /**
+     * 상위에서 하위까지의 거리 (자기 자신은 0)
+     */
+    @Column(nullable = false)
+    private int depth;
+
+    /**
+     * 클로저 복합 키
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class ClosureId implements Serializable {
+
+        private Long ancestorId;
+
+        private Long descendantId;
+    }
+}
@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
  * 사용자의 교육과정 수강 신청 정보를 관리
  */
 @Entity
-@Table(name = "course_enrollments")
+@Table(name = "course_enrollments", indexes = {
+    @Index(name = "idx_course_enrollments_user_status", columnList = "user_id, status")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,7 +23,8 @@ import java.time.LocalDateTime;
 public class CourseEnrollment extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_enrollments_seq")
+    @SequenceGenerator(name = "course_enrollments_seq", sequenceName = "course_enrollments_seq", allocationSize = 50)
     private Long id;
 
     /**
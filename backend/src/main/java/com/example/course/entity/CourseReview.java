@@ -0,0 +1,60 @@
+package com.example.course.entity;
+
+import com.example.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 교육 과정 수강평 엔티티
+ * 카탈로그 가져오기로 적재되며, 원본 데이터의 수강평 ID를 과정 단위 고유 키로 사용
+ */
+@Entity
+@Table(name = "course_reviews", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"course_id", "source_id"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseReview extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_reviews_seq")
+    @SequenceGenerator(name = "course_reviews_seq", sequenceName = "course_reviews_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id", nullable = false)
+    private Course course;
+
+    /**
+     * 원본 데이터의 수강평 ID (과정 내에서 고유)
+     */
+    @Column(nullable = false)
+    private Long sourceId;
+
+    /**
+     * 작성자명
+     */
+    @Column(length = 100)
+    private String reviewerName;
+
+    /**
+     * 평점 (1~5)
+     */
+    private Integer rating;
+
+    /**
+     * 작성일
+     */
+    private LocalDate reviewedOn;
+
+    /**
+     * 수강평 내용
+     */
+    @Column(length = 2000)
+    private String comment;
+}
@@ -0,0 +1,58 @@
+package com.example.course.entity;
+
+import com.example.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 교육 일정 엔티티
+ * 차수/기수의 개별 수업 일정(시작/종료 일시, 장소)을 관리
+ */
+@Entity
+@Table(name = "course_schedules", indexes = {
+    @Index(name = "idx_course_schedules_session_start_at", columnList = "course_session_id, start_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseSchedule extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 속한 차수/기수
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_session_id", nullable = false)
+    private CourseSession courseSession;
+
+    /**
+     * 수업명 (예: 1주차 오리엔테이션)
+     */
+    @Column(length = 200)
+    private String title;
+
+    /**
+     * 수업 시작 일시
+     */
+    @Column(nullable = false)
+    private LocalDateTime startAt;
+
+    /**
+     * 수업 종료 일시
+     */
+    @Column(nullable = false)
+    private LocalDateTime endAt;
+
+    /**
+     * 수업 장소 (미지정 시 차수 장소 사용)
+     */
+    @Column(length = 200)
+    private String location;
+}
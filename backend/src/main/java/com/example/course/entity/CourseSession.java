@@ -1,6 +1,7 @@
 package com.example.course.entity;
 
 import com.example.common.entity.BaseTimeEntity;
+import com.example.course.event.CourseSessionEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,7 +15,13 @@ import java.util.List;
  * 동일 교육과정의 여러 차수/기수를 관리
  */
 @Entity
-@Table(name = "course_sessions")
+@Table(name = "course_sessions", indexes = {
+    @Index(name = "idx_course_sessions_status_start_date", columnList = "status, start_date"),
+    @Index(name = "idx_course_sessions_status_end_date", columnList = "status, end_date"),
+    @Index(name = "idx_course_sessions_status_recruitment_start_at", columnList = "status, recruitment_start_at"),
+    @Index(name = "idx_course_sessions_status_recruitment_end_at", columnList = "status, recruitment_end_at")
+})
+@EntityListeners(CourseSessionEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -73,7 +80,7 @@ public class CourseSession extends BaseTimeEntity {
     private Integer currentEnrollment;
 
     /**
-     * 상태 (UPCOMING, RECRUITING, IN_PROGRESS, COMPLETED, CANCELLED)
+     * 상태 (UPCOMING, RECRUITING, RECRUITMENT_CLOSED, IN_PROGRESS, COMPLETED, CANCELLED)
      */
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -0,0 +1,36 @@
+package com.example.course.entity;
+
+/**
+ * 교육과정 차수 상태 열거형
+ */
+public enum CourseSessionStatus {
+    /**
+     * 예정 - 모집 시작 전
+     */
+    UPCOMING,
+
+    /**
+     * 모집 중 - 수강 신청을 받는 상태
+     */
+    RECRUITING,
+
+    /**
+     * 모집 마감 - 모집 기간이 끝나고 교육 시작을 기다리는 상태
+     */
+    RECRUITMENT_CLOSED,
+
+    /**
+     * 진행 중 - 교육이 진행되고 있는 상태
+     */
+    IN_PROGRESS,
+
+    /**
+     * 종료 - 교육이 끝난 상태
+     */
+    COMPLETED,
+
+    /**
+     * 취소 - 차수가 취소된 상태
+     */
+    CANCELLED
+}
@@ -0,0 +1,29 @@
+package com.example.course.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 교육 과정 카탈로그 변경 이벤트
+ * 과정, 카테고리, 레벨, 유형 데이터가 변경되었을 때 발행되며
+ * 트랜잭션 커밋 이후 캐시/스냅샷 무효화에 사용됨
+ */
+@Getter
+@RequiredArgsConstructor
+public class CatalogChangedEvent {
+
+    /**
+     * 변경된 카탈로그 영역
+     */
+    private final CatalogScope scope;
+
+    /**
+     * 카탈로그 영역 구분
+     */
+    public enum CatalogScope {
+        COURSE,
+        CATEGORY,
+        LEVEL,
+        TYPE
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.course.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 과정 즐겨찾기 변경 이벤트
+ * 즐겨찾기가 실제로 추가/삭제되었을 때(영향받은 행이 있을 때만) 발행되며,
+ * 트랜잭션 커밋 이후 사용자별 즐겨찾기 상태 캐시 갱신에 사용됨
+ */
+@Getter
+@RequiredArgsConstructor
+public class CourseBookmarkChangedEvent {
+
+    /**
+     * 사용자 ID
+     */
+    private final Long userId;
+
+    /**
+     * 과정 ID
+     */
+    private final Long courseId;
+
+    /**
+     * 변경 후 즐겨찾기 여부 (추가: true, 삭제: false)
+     */
+    private final boolean bookmarked;
+}
@@ -0,0 +1,20 @@
+package com.example.course.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+
+/**
+ * 교육 과정 차수 변경 이벤트
+ * 차수가 생성/수정/삭제되었을 때 발행되며, 트랜잭션 커밋 이후 메모리 인덱스 갱신에 사용됨
+ */
+@Getter
+@RequiredArgsConstructor
+public class CourseSessionChangedEvent {
+
+    /**
+     * 변경된 차수 ID 목록
+     */
+    private final Collection<Long> sessionIds;
+}
@@ -0,0 +1,29 @@
+package com.example.course.event;
+
+import com.example.course.entity.CourseSession;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 교육 과정 차수 엔티티 리스너
+ * 차수가 저장되는 모든 경로(수강 인원 변경 포함)에서 변경 이벤트를 발행
+ */
+@Component
+@RequiredArgsConstructor
+public class CourseSessionEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onSessionWritten(CourseSession session) {
+        eventPublisher.publishEvent(new CourseSessionChangedEvent(List.of(session.getId())));
+    }
+}
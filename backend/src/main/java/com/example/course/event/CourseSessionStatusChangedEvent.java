@@ -0,0 +1,27 @@
+package com.example.course.event;
+
+import com.example.course.entity.CourseSessionStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+
+/**
+ * 교육 과정 차수 상태 일괄 전환 이벤트
+ * 일정에 따른 상태 전환(모집 시작/마감, 교육 시작/종료)이 적용되었을 때 발행됨
+ * 일괄 UPDATE는 엔티티 리스너를 거치지 않으므로 차수 변경 구독자는 이 이벤트도 함께 구독해야 함
+ */
+@Getter
+@RequiredArgsConstructor
+public class CourseSessionStatusChangedEvent {
+
+    /**
+     * 상태가 전환된 차수 ID 목록
+     */
+    private final Collection<Long> sessionIds;
+
+    /**
+     * 전환 후 상태
+     */
+    private final CourseSessionStatus status;
+}
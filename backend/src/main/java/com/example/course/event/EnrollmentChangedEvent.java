@@ -0,0 +1,30 @@
+package com.example.course.event;
+
+import com.example.course.entity.EnrollmentStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 수강신청 상태 변경 이벤트
+ * 수강 승인/취소 등으로 사용자의 수강 목록이 바뀌었을 때 발행되며,
+ * 트랜잭션 커밋 이후 사용자별 메모리 구조(시간표 등) 갱신에 사용됨
+ */
+@Getter
+@RequiredArgsConstructor
+public class EnrollmentChangedEvent {
+
+    /**
+     * 사용자 ID
+     */
+    private final Long userId;
+
+    /**
+     * 차수 ID
+     */
+    private final Long sessionId;
+
+    /**
+     * 변경 후 수강신청 상태
+     */
+    private final EnrollmentStatus status;
+}
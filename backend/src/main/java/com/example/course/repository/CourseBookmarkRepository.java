@@ -5,9 +5,14 @@ import com.example.course.entity.CourseBookmark;
 import com.example.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -61,6 +66,21 @@ public interface CourseBookmarkRepository extends JpaRepository<CourseBookmark,
      * @return 즐겨찾기 수
      */
     long countByCourse(Course course);
+
+    /**
+     * 과정 ID로 즐겨찾기 수 조회 (엔티티 조회 없이)
+     * @param courseId 과정 ID
+     * @return 즐겨찾기 수
+     */
+    long countByCourseId(Long courseId);
+
+    /**
+     * 사용자 ID와 과정 ID로 즐겨찾기 여부 확인 (엔티티 조회 없이)
+     * @param userId 사용자 ID
+     * @param courseId 과정 ID
+     * @return 즐겨찾기 여부
+     */
+    boolean existsByUserIdAndCourseId(Long userId, Long courseId);
     
     /**
      * 특정 사용자의 북마크 삭제
@@ -68,4 +88,76 @@ public interface CourseBookmarkRepository extends JpaRepository<CourseBookmark,
      * @param course 과정
      */
     void deleteByUserAndCourse(User user, Course course);
-} 
\ No newline at end of file
+
+    /**
+     * 전체 즐겨찾기의 (사용자 ID, 과정 ID) 쌍 조회 (추천 모델 생성용)
+     * @return [사용자 ID, 과정 ID] 배열 목록
+     */
+    @Query("SELECT b.user.id, b.course.id FROM CourseBookmark b")
+    List<Object[]> findUserCoursePairs();
+
+    /**
+     * 특정 시점 이후 추가된 즐겨찾기의 (사용자 ID, 과정 ID) 쌍 조회 (추천 모델 증분 갱신용)
+     * @param since 기준 시점
+     * @return [사용자 ID, 과정 ID] 배열 목록
+     */
+    @Query("SELECT b.user.id, b.course.id FROM CourseBookmark b WHERE b.bookmarkedAt > :since")
+    List<Object[]> findUserCoursePairsBookmarkedAfter(@Param("since") LocalDateTime since);
+
+    /**
+     * 사용자 ID로 즐겨찾기 목록 조회 (과정, 카테고리, 유형 함께 조회)
+     * @param userId 사용자 ID
+     * @return 북마크 목록
+     */
+    @EntityGraph(attributePaths = {"course", "course.category", "course.type"})
+    List<CourseBookmark> findByUserId(Long userId);
+
+    /**
+     * 사용자 ID로 즐겨찾기 목록 페이징 조회 (과정, 카테고리, 유형 함께 조회)
+     * @param userId 사용자 ID
+     * @param pageable 페이징 정보
+     * @return 북마크 페이지
+     */
+    @EntityGraph(attributePaths = {"course", "course.category", "course.type"})
+    Page<CourseBookmark> findByUserId(Long userId, Pageable pageable);
+
+    /**
+     * 사용자 ID로 즐겨찾기 과정 수 조회 (엔티티 조회 없이)
+     * @param userId 사용자 ID
+     * @return 즐겨찾기 과정 수
+     */
+    long countByUserId(Long userId);
+
+    /**
+     * 즐겨찾기 추가 (과정이 있고 아직 즐겨찾기하지 않은 경우에만 한 번의 문장으로 추가)
+     * INSERT ... SELECT ... WHERE NOT EXISTS 형태라 PostgreSQL 과 H2 모두에서 동작함
+     * @param userId 사용자 ID
+     * @param courseId 과정 ID
+     * @return 추가된 행 수 (과정이 없거나 이미 즐겨찾기한 경우 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO course_bookmarks (id, user_id, course_id, bookmarked_at, created_at, updated_at) " +
+            "SELECT nextval('course_bookmarks_seq'), :userId, c.id, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+            "FROM courses c WHERE c.id = :courseId " +
+            "AND NOT EXISTS (SELECT 1 FROM course_bookmarks b WHERE b.user_id = :userId AND b.course_id = :courseId)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("courseId") Long courseId);
+
+    /**
+     * 사용자 ID와 과정 ID로 즐겨찾기 삭제
+     * @param userId 사용자 ID
+     * @param courseId 과정 ID
+     * @return 삭제된 행 수 (없으면 0)
+     */
+    @Modifying
+    @Query("DELETE FROM CourseBookmark b WHERE b.user.id = :userId AND b.course.id = :courseId")
+    int deleteByUserIdAndCourseId(@Param("userId") Long userId, @Param("courseId") Long courseId);
+
+    /**
+     * 사용자가 즐겨찾기한 과정 ID 목록 조회 (즐겨찾기 상태 캐시 적재용)
+     * @param userId 사용자 ID
+     * @return 과정 ID 목록
+     */
+    @Query("SELECT b.course.id FROM CourseBookmark b WHERE b.user.id = :userId")
+    List<Long> findCourseIdsByUserId(@Param("userId") Long userId);
+}
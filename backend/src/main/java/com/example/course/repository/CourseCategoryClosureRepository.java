@@ -0,0 +1,64 @@
+package com.example.course.repository;
+
+import com.example.course.entity.CourseCategoryClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 교육과정 카테고리 클로저 Repository
+ */
+@Repository
+public interface CourseCategoryClosureRepository extends JpaRepository<CourseCategoryClosure, CourseCategoryClosure.ClosureId> {
+
+    /**
+     * 상위-하위 관계 존재 여부 (자기 자신 포함)
+     *
+     * @param ancestorId 상위 카테고리 ID
+     * @param descendantId 하위 카테고리 ID
+     * @return 존재 여부
+     */
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    /**
+     * 새 카테고리의 경로 추가 (상위 카테고리의 모든 조상 + 자기 자신)
+     *
+     * @param categoryId 새 카테고리 ID
+     * @param parentId 상위 카테고리 ID (최상위이면 null)
+     * @return 추가된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO course_category_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT ancestor_id, :categoryId, depth + 1 FROM course_category_closure WHERE descendant_id = :parentId " +
+            "UNION ALL SELECT :categoryId, :categoryId, 0", nativeQuery = true)
+    int insertPaths(@Param("categoryId") Long categoryId, @Param("parentId") Long parentId);
+
+    /**
+     * 하위 트리를 기존 조상들로부터 분리 (하위 트리 내부 경로는 유지)
+     *
+     * @param categoryId 이동할 카테고리 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM course_category_closure " +
+            "WHERE descendant_id IN (SELECT descendant_id FROM course_category_closure WHERE ancestor_id = :categoryId) " +
+            "AND ancestor_id NOT IN (SELECT descendant_id FROM course_category_closure WHERE ancestor_id = :categoryId)",
+            nativeQuery = true)
+    int detachSubtree(@Param("categoryId") Long categoryId);
+
+    /**
+     * 하위 트리를 새 상위 카테고리의 모든 조상 아래에 연결
+     *
+     * @param categoryId 이동할 카테고리 ID
+     * @param parentId 새 상위 카테고리 ID
+     * @return 추가된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO course_category_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT p.ancestor_id, s.descendant_id, p.depth + s.depth + 1 " +
+            "FROM course_category_closure p CROSS JOIN course_category_closure s " +
+            "WHERE p.descendant_id = :parentId AND s.ancestor_id = :categoryId", nativeQuery = true)
+    int attachSubtree(@Param("categoryId") Long categoryId, @Param("parentId") Long parentId);
+}
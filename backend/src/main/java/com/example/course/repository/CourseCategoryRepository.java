@@ -2,6 +2,9 @@ package com.example.course.repository;
 
 import com.example.course.entity.CourseCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -57,4 +60,55 @@ public interface CourseCategoryRepository extends JpaRepository<CourseCategory,
      * 카테고리 코드로 활성화된 카테고리 조회
      */
     CourseCategory findByCodeAndActiveTrue(String code);
-} 
\ No newline at end of file
+
+    /**
+     * 최상위부터 해당 카테고리까지의 경로 조회 (클로저 테이블 조인)
+     *
+     * @param categoryId 카테고리 ID
+     * @return 경로상의 카테고리 목록 (최상위 카테고리가 첫 번째)
+     */
+    @Query("SELECT c FROM CourseCategoryClosure cc JOIN CourseCategory c ON c.id = cc.ancestorId " +
+           "WHERE cc.descendantId = :categoryId ORDER BY cc.depth DESC")
+    List<CourseCategory> findPathFromRoot(@Param("categoryId") Long categoryId);
+
+    /**
+     * 카테고리와 모든 상위 카테고리의 활성 교육과정 수 증감
+     * 직접 수는 해당 카테고리만, 누적 수는 경로상의 모든 카테고리에 반영
+     *
+     * @param categoryId 교육과정이 속한 카테고리 ID
+     * @param delta 증감 값
+     * @return 갱신된 카테고리 수
+     */
+    @Modifying
+    @Query(value = "UPDATE course_categories SET total_course_count = total_course_count + :delta, " +
+            "direct_course_count = direct_course_count + CASE WHEN id = :categoryId THEN :delta ELSE 0 END " +
+            "WHERE id IN (SELECT ancestor_id FROM course_category_closure WHERE descendant_id = :categoryId)",
+            nativeQuery = true)
+    int adjustCourseCounts(@Param("categoryId") Long categoryId, @Param("delta") int delta);
+
+    /**
+     * 카테고리 하위 트리의 누적 교육과정 수를 현재 상위 카테고리들에서 차감 (상위 변경 전)
+     *
+     * @param categoryId 이동할 카테고리 ID
+     * @return 갱신된 카테고리 수
+     */
+    @Modifying
+    @Query(value = "UPDATE course_categories SET total_course_count = total_course_count - " +
+            "(SELECT t.total_course_count FROM course_categories t WHERE t.id = :categoryId) " +
+            "WHERE id IN (SELECT ancestor_id FROM course_category_closure WHERE descendant_id = :categoryId AND depth > 0)",
+            nativeQuery = true)
+    int subtractSubtreeCountFromAncestors(@Param("categoryId") Long categoryId);
+
+    /**
+     * 카테고리 하위 트리의 누적 교육과정 수를 현재 상위 카테고리들에 가산 (상위 변경 후)
+     *
+     * @param categoryId 이동한 카테고리 ID
+     * @return 갱신된 카테고리 수
+     */
+    @Modifying
+    @Query(value = "UPDATE course_categories SET total_course_count = total_course_count + " +
+            "(SELECT t.total_course_count FROM course_categories t WHERE t.id = :categoryId) " +
+            "WHERE id IN (SELECT ancestor_id FROM course_category_closure WHERE descendant_id = :categoryId AND depth > 0)",
+            nativeQuery = true)
+    int addSubtreeCountToAncestors(@Param("categoryId") Long categoryId);
+}
@@ -3,8 +3,11 @@ package com.example.course.repository;
 import com.example.course.entity.CourseEnrollment;
 import com.example.course.entity.EnrollmentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -73,4 +76,33 @@ public interface CourseEnrollmentRepository extends JpaRepository<CourseEnrollme
      * @return 해당 사용자의 해당 상태의 수강신청 목록
      */
     List<CourseEnrollment> findByUserIdAndStatus(Long userId, String status);
-} 
\ No newline at end of file
+
+    /**
+     * 승인된 수강신청의 (사용자 ID, 과정 ID) 쌍 전체 조회 (추천 모델 생성용)
+     *
+     * @return [사용자 ID, 과정 ID] 배열 목록
+     */
+    @Query("SELECT e.user.id, e.session.course.id FROM CourseEnrollment e WHERE e.status = 'APPROVED'")
+    List<Object[]> findApprovedUserCoursePairs();
+
+    /**
+     * 특정 시점 이후 승인된 수강신청의 (사용자 ID, 과정 ID) 쌍 조회 (추천 모델 증분 갱신용)
+     *
+     * @param since 기준 시점
+     * @return [사용자 ID, 과정 ID] 배열 목록
+     */
+    @Query("SELECT e.user.id, e.session.course.id FROM CourseEnrollment e " +
+           "WHERE e.status = 'APPROVED' AND e.processedAt > :since")
+    List<Object[]> findApprovedUserCoursePairsProcessedAfter(@Param("since") LocalDateTime since);
+
+    /**
+     * 사용자가 과정의 차수 중 하나라도 승인된 수강신청을 가지고 있는지 확인 (설문 응답 자격 확인용)
+     *
+     * @param userId 사용자 ID
+     * @param courseId 과정 ID
+     * @return 승인된 수강신청 존재 여부
+     */
+    @Query("SELECT COUNT(e) > 0 FROM CourseEnrollment e " +
+           "WHERE e.user.id = :userId AND e.session.course.id = :courseId AND e.status = 'APPROVED'")
+    boolean existsApprovedByUserIdAndCourseId(@Param("userId") Long userId, @Param("courseId") Long courseId);
+}
@@ -2,6 +2,8 @@ package com.example.course.repository;
 
 import com.example.course.entity.Course;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -58,4 +60,15 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
      * 특정 카테고리 목록에 속한 활성화된 과정 목록 조회
      */
     List<Course> findByCategoryIdInAndActiveTrue(List<Long> categoryIds);
-} 
\ No newline at end of file
+
+    /**
+     * 카테고리와 모든 하위 카테고리에 속한 활성화된 교육과정 목록 조회 (클로저 테이블 조인)
+     *
+     * @param categoryId 기준 카테고리 ID
+     * @return 하위 트리 전체의 활성화된 교육과정 목록 (카테고리 깊이, ID 순)
+     */
+    @Query("SELECT c FROM Course c JOIN FETCH c.category cat LEFT JOIN FETCH c.type " +
+           "JOIN CourseCategoryClosure cc ON cc.descendantId = cat.id " +
+           "WHERE cc.ancestorId = :categoryId AND c.active = true ORDER BY cc.depth, c.id")
+    List<Course> findByCategorySubtree(@Param("categoryId") Long categoryId);
+}
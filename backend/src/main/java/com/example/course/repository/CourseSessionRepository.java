@@ -3,9 +3,14 @@ package com.example.course.repository;
 import com.example.course.entity.CourseSession;
 import com.example.course.entity.CourseSessionStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,4 +60,108 @@ public interface CourseSessionRepository extends JpaRepository<CourseSession, Lo
      */
     List<CourseSession> findByStatusAndStartDateBeforeAndEndDateAfter(
             CourseSessionStatus status, LocalDate startDate, LocalDate endDate);
-} 
\ No newline at end of file
+
+    /**
+     * 교육과정 정보를 함께 로딩한 전체 차수 목록 조회 (차수 인덱스 구성용)
+     *
+     * @return 교육과정 차수 목록
+     */
+    @Query("SELECT s FROM CourseSession s LEFT JOIN FETCH s.course")
+    List<CourseSession> findAllWithCourse();
+
+    /**
+     * 교육과정 정보를 함께 로딩한 차수 목록 조회 (차수 인덱스 부분 갱신용)
+     *
+     * @param ids 교육과정 차수 ID 목록
+     * @return 교육과정 차수 목록
+     */
+    @Query("SELECT s FROM CourseSession s LEFT JOIN FETCH s.course WHERE s.id IN :ids")
+    List<CourseSession> findAllWithCourseByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 교육 종료일이 지난 차수 ID 조회 (종료 전환 대상)
+     *
+     * @param statuses 전환 전 상태 목록
+     * @param today 오늘 날짜
+     * @return 차수 ID 목록
+     */
+    @Query("SELECT s.id FROM CourseSession s WHERE s.status IN :statuses AND s.endDate < :today")
+    List<Long> findIdsEndedBefore(@Param("statuses") Collection<CourseSessionStatus> statuses,
+                                  @Param("today") LocalDate today);
+
+    /**
+     * 교육 기간에 들어선 차수 ID 조회 (진행 중 전환 대상)
+     *
+     * @param statuses 전환 전 상태 목록
+     * @param today 오늘 날짜
+     * @return 차수 ID 목록
+     */
+    @Query("SELECT s.id FROM CourseSession s WHERE s.status IN :statuses " +
+           "AND s.startDate <= :today AND s.endDate >= :today")
+    List<Long> findIdsRunningOn(@Param("statuses") Collection<CourseSessionStatus> statuses,
+                                @Param("today") LocalDate today);
+
+    /**
+     * 모집 기간이 끝났고 아직 교육이 시작되지 않은 차수 ID 조회 (모집 마감 전환 대상)
+     *
+     * @param statuses 전환 전 상태 목록
+     * @param now 현재 일시
+     * @param today 오늘 날짜
+     * @return 차수 ID 목록
+     */
+    @Query("SELECT s.id FROM CourseSession s WHERE s.status IN :statuses " +
+           "AND s.recruitmentEndAt <= :now AND s.startDate > :today")
+    List<Long> findIdsRecruitmentEndedAt(@Param("statuses") Collection<CourseSessionStatus> statuses,
+                                         @Param("now") LocalDateTime now,
+                                         @Param("today") LocalDate today);
+
+    /**
+     * 모집 기간에 들어선 차수 ID 조회 (모집 중 전환 대상)
+     *
+     * @param statuses 전환 전 상태 목록
+     * @param now 현재 일시
+     * @param today 오늘 날짜
+     * @return 차수 ID 목록
+     */
+    @Query("SELECT s.id FROM CourseSession s WHERE s.status IN :statuses " +
+           "AND s.recruitmentStartAt <= :now AND (s.recruitmentEndAt IS NULL OR s.recruitmentEndAt > :now) " +
+           "AND s.startDate > :today")
+    List<Long> findIdsRecruitingAt(@Param("statuses") Collection<CourseSessionStatus> statuses,
+                                   @Param("now") LocalDateTime now,
+                                   @Param("today") LocalDate today);
+
+    /**
+     * 차수 상태 일괄 변경
+     * 조회 이후 다른 경로로 상태가 바뀐 차수(취소 등)는 전환 전 상태 조건으로 제외됨
+     *
+     * @param ids 차수 ID 목록
+     * @param statuses 전환 전 상태 목록
+     * @param status 전환 후 상태
+     * @return 변경된 행 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE CourseSession s SET s.status = :status WHERE s.id IN :ids AND s.status IN :statuses")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("statuses") Collection<CourseSessionStatus> statuses,
+                     @Param("status") CourseSessionStatus status);
+
+    /**
+     * 사용자가 승인받은 차수 목록을 교육과정, 일정과 함께 조회 (시간표 구성용)
+     *
+     * @param userId 사용자 ID
+     * @return 교육과정 차수 목록
+     */
+    @Query("SELECT DISTINCT s FROM CourseSession s JOIN FETCH s.course LEFT JOIN FETCH s.schedules " +
+           "WHERE s.id IN (SELECT e.session.id FROM CourseEnrollment e " +
+           "WHERE e.user.id = :userId AND e.status = 'APPROVED')")
+    List<CourseSession> findApprovedSessionsWithSchedules(@Param("userId") Long userId);
+
+    /**
+     * 교육과정, 일정을 함께 로딩한 차수 조회
+     *
+     * @param id 교육과정 차수 ID
+     * @return 교육과정 차수 Optional 객체
+     */
+    @Query("SELECT s FROM CourseSession s JOIN FETCH s.course LEFT JOIN FETCH s.schedules WHERE s.id = :id")
+    Optional<CourseSession> findWithSchedulesById(@Param("id") Long id);
+}
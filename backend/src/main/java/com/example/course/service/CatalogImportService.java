@@ -0,0 +1,480 @@
+package com.example.course.service;
+
+import com.example.common.exception.InvalidOperationException;
+import com.example.course.dto.CatalogImportResponse;
+import com.example.course.event.CatalogChangedEvent;
+import com.example.course.event.CatalogChangedEvent.CatalogScope;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 카탈로그 가져오기 서비스
+ * data/categories.json, levels.json, courses.json 을 스트리밍으로 읽어 배치 단위로 적재
+ *
+ * 과정 파일은 배열 원소 단위로 파싱하므로 파일 크기와 무관하게 배치 크기만큼만 메모리를 사용하며,
+ * 카테고리/레벨/유형은 코드→ID 맵으로 해석하여 과정마다 조회하지 않음
+ * 모든 쓰기는 고유 키 기준 upsert(INSERT ... ON CONFLICT)이므로 반복 실행해도 중복이 생기지 않음
+ * (PostgreSQL 전용 구문)
+ */
+@Slf4j
+@Service
+public class CatalogImportService {
+
+    private static final DateTimeFormatter REVIEW_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy년 M월 d일");
+
+    private static final String UPSERT_CATEGORY =
+            "INSERT INTO course_categories (code, name, sort_order, active, created_at, updated_at) " +
+            "VALUES (?, ?, ?, true, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (code) DO UPDATE SET name = EXCLUDED.name, sort_order = EXCLUDED.sort_order, " +
+            "updated_at = CURRENT_TIMESTAMP";
+
+    private static final String UPDATE_CATEGORY_PARENT =
+            "UPDATE course_categories SET parent_id = ? WHERE code = ?";
+
+    private static final String UPSERT_LEVEL =
+            "INSERT INTO course_levels (name, sort_order, active, description, created_at, updated_at) " +
+            "VALUES (?, ?, true, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (name) DO UPDATE SET sort_order = EXCLUDED.sort_order, " +
+            "description = COALESCE(EXCLUDED.description, course_levels.description), updated_at = CURRENT_TIMESTAMP";
+
+    private static final String UPSERT_COURSE =
+            "INSERT INTO courses (code, name, description, learning_objectives, total_minutes, active, " +
+            "enrollment_count, level_id, category_id, type_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, true, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (code) DO UPDATE SET name = EXCLUDED.name, description = EXCLUDED.description, " +
+            "learning_objectives = EXCLUDED.learning_objectives, total_minutes = EXCLUDED.total_minutes, " +
+            "enrollment_count = EXCLUDED.enrollment_count, level_id = EXCLUDED.level_id, " +
+            "category_id = EXCLUDED.category_id, type_id = EXCLUDED.type_id, updated_at = CURRENT_TIMESTAMP";
+
+    private static final String UPSERT_REVIEW =
+            "INSERT INTO course_reviews (id, course_id, source_id, reviewer_name, rating, reviewed_on, comment, " +
+            "created_at, updated_at) " +
+            "VALUES (nextval('course_reviews_seq'), ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (course_id, source_id) DO UPDATE SET reviewer_name = EXCLUDED.reviewer_name, " +
+            "rating = EXCLUDED.rating, reviewed_on = EXCLUDED.reviewed_on, comment = EXCLUDED.comment, " +
+            "updated_at = CURRENT_TIMESTAMP";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ResourceLoader resourceLoader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final CourseCategoryClosureService closureService;
+
+    /**
+     * 가져올 JSON 파일 위치 (categories.json, levels.json, courses.json 이 있는 디렉터리)
+     */
+    @Value("${catalog.import.location:classpath:data/}")
+    private String location;
+
+    /**
+     * 배치 크기 (과정 수 기준)
+     */
+    @Value("${catalog.import.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 애플리케이션 기동 시 자동 가져오기 여부
+     */
+    @Value("${catalog.import.on-startup:false}")
+    private boolean importOnStartup;
+
+    public CatalogImportService(JdbcTemplate jdbcTemplate,
+                                NamedParameterJdbcTemplate namedJdbcTemplate,
+                                ObjectMapper objectMapper,
+                                ResourceLoader resourceLoader,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                CourseCategoryClosureService closureService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.resourceLoader = resourceLoader;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.closureService = closureService;
+    }
+
+    /**
+     * 기동 시 자동 가져오기 (catalog.import.on-startup=true 인 경우)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void importOnStartup() {
+        if (importOnStartup) {
+            importCatalog();
+        }
+    }
+
+    /**
+     * 카탈로그 전체 가져오기 (단일 트랜잭션)
+     * 카테고리, 레벨을 먼저 반영한 뒤 코드→ID 맵을 만들어 과정과 수강평을 배치로 반영
+     * 카테고리 계층과 과정은 JDBC로 직접 반영하므로 클로저 테이블과 카테고리별 과정 수를 다시 계산함
+     * @return 가져오기 결과
+     */
+    public CatalogImportResponse importCatalog() {
+        long startedAt = System.currentTimeMillis();
+        ImportCounter counter = new ImportCounter();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<CategorySeed> categories = new ArrayList<>();
+            streamArray(resolve("categories.json"), CategorySeed.class, categories::addAll);
+            counter.categories = importCategories(categories);
+            closureService.rebuild();
+
+            List<LevelSeed> levels = new ArrayList<>();
+            streamArray(resolve("levels.json"), LevelSeed.class, levels::addAll);
+            counter.levels = importLevels(levels);
+
+            ReferenceCodes references = new ReferenceCodes(
+                    loadCodeMap("SELECT code, id FROM course_categories"),
+                    loadCodeMap("SELECT name, id FROM course_levels"),
+                    loadCodeMap("SELECT code, id FROM course_types"));
+
+            streamArray(resolve("courses.json"), CourseSeed.class,
+                    batch -> importCourseBatch(batch, references, counter));
+            closureService.recomputeCourseCounts();
+        });
+
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogScope.CATEGORY));
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogScope.LEVEL));
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogScope.COURSE));
+
+        long elapsedMs = System.currentTimeMillis() - startedAt;
+        log.info("카탈로그 가져오기 완료. 과정: {}, 수강평: {}, 소요 시간: {}ms", counter.courses, counter.reviews, elapsedMs);
+
+        return CatalogImportResponse.builder()
+                .categories(counter.categories)
+                .levels(counter.levels)
+                .courses(counter.courses)
+                .reviews(counter.reviews)
+                .unresolvedReferences(counter.unresolved)
+                .elapsedMs(elapsedMs)
+                .build();
+    }
+
+    private int importCategories(List<CategorySeed> categories) {
+        jdbcTemplate.batchUpdate(UPSERT_CATEGORY, categories, batchSize, (ps, seed) -> {
+            ps.setString(1, seed.categoryCode());
+            ps.setString(2, seed.getName());
+            ps.setObject(3, seed.getId() != null ? seed.getId().intValue() : null, Types.INTEGER);
+        });
+
+        List<CategorySeed> children = categories.stream()
+                .filter(seed -> seed.getParentId() != null)
+                .toList();
+        if (!children.isEmpty()) {
+            Map<String, Long> categoryIds = loadCodeMap("SELECT code, id FROM course_categories");
+            jdbcTemplate.batchUpdate(UPDATE_CATEGORY_PARENT, children, batchSize, (ps, seed) -> {
+                ps.setObject(1, categoryIds.get(CategorySeed.codeOf(seed.getParentId())), Types.BIGINT);
+                ps.setString(2, seed.categoryCode());
+            });
+        }
+        return categories.size();
+    }
+
+    private int importLevels(List<LevelSeed> levels) {
+        jdbcTemplate.batchUpdate(UPSERT_LEVEL, levels, batchSize, (ps, seed) -> {
+            ps.setString(1, seed.getName());
+            ps.setInt(2, seed.getId() != null ? seed.getId().intValue() : 0);
+            ps.setString(3, seed.getDescription());
+        });
+        return levels.size();
+    }
+
+    /**
+     * 과정 배치 반영
+     * 과정을 upsert한 뒤 배치 내 과정 코드의 ID를 한 번에 조회하여 수강평을 upsert
+     */
+    private void importCourseBatch(List<CourseSeed> batch, ReferenceCodes references, ImportCounter counter) {
+        jdbcTemplate.batchUpdate(UPSERT_COURSE, batch, batchSize, (ps, seed) -> {
+            Long levelId = seed.getLevel() != null ? references.levels.get(seed.getLevel()) : null;
+            Long categoryId = seed.getCategoryId() != null
+                    ? references.categories.get(CategorySeed.codeOf(seed.getCategoryId())) : null;
+            Long typeId = seed.getType() != null ? references.types.get(seed.getType()) : null;
+            if ((seed.getLevel() != null && levelId == null)
+                    || (seed.getCategoryId() != null && categoryId == null)
+                    || (seed.getType() != null && typeId == null)) {
+                counter.unresolved++;
+            }
+
+            ps.setString(1, seed.courseCode());
+            ps.setString(2, truncate(seed.getTitle(), 200));
+            ps.setString(3, truncate(seed.getDescription(), 2000));
+            ps.setString(4, truncate(seed.getWhatYouLearn() != null ? String.join("\n", seed.getWhatYouLearn()) : null, 1000));
+            ps.setObject(5, seed.totalMinutes(), Types.INTEGER);
+            ps.setInt(6, seed.getStudents() != null ? seed.getStudents() : 0);
+            ps.setObject(7, levelId, Types.BIGINT);
+            ps.setObject(8, categoryId, Types.BIGINT);
+            ps.setObject(9, typeId, Types.BIGINT);
+        });
+        counter.courses += batch.size();
+
+        List<String> codes = batch.stream().map(CourseSeed::courseCode).toList();
+        Map<String, Long> courseIds = new HashMap<>(codes.size() * 2);
+        namedJdbcTemplate.query("SELECT code, id FROM courses WHERE code IN (:codes)",
+                new MapSqlParameterSource("codes", codes),
+                rs -> {
+                    courseIds.put(rs.getString(1), rs.getLong(2));
+                });
+
+        List<Object[]> reviews = new ArrayList<>();
+        for (CourseSeed seed : batch) {
+            if (seed.getReviews() == null) {
+                continue;
+            }
+            Long courseId = courseIds.get(seed.courseCode());
+            for (ReviewSeed review : seed.getReviews()) {
+                if (review.getId() == null) {
+                    continue;
+                }
+                LocalDate reviewedOn = parseReviewDate(review.getDate());
+                reviews.add(new Object[]{
+                        courseId,
+                        review.getId(),
+                        truncate(review.getUser(), 100),
+                        review.getRating(),
+                        reviewedOn != null ? Date.valueOf(reviewedOn) : null,
+                        truncate(review.getComment(), 2000)
+                });
+            }
+        }
+        if (!reviews.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_REVIEW, reviews,
+                    new int[]{Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.INTEGER, Types.DATE, Types.VARCHAR});
+            counter.reviews += reviews.size();
+        }
+    }
+
+    /**
+     * JSON 배열을 원소 단위로 파싱하여 배치 크기만큼 모아 전달
+     */
+    private <T> void streamArray(Resource resource, Class<T> type, Consumer<List<T>> sink) {
+        try (InputStream in = resource.getInputStream();
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidOperationException("카탈로그 파일은 JSON 배열이어야 합니다: " + resource.getDescription());
+            }
+
+            List<T> batch = new ArrayList<>(batchSize);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                batch.add(objectMapper.readValue(parser, type));
+                if (batch.size() == batchSize) {
+                    sink.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                sink.accept(batch);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("카탈로그 파일을 읽지 못했습니다: " + resource.getDescription(), e);
+        }
+    }
+
+    private Resource resolve(String fileName) {
+        Resource resource = resourceLoader.getResource(location + fileName);
+        if (!resource.exists()) {
+            throw new InvalidOperationException("카탈로그 파일을 찾을 수 없습니다: " + resource.getDescription());
+        }
+        return resource;
+    }
+
+    private Map<String, Long> loadCodeMap(String sql) {
+        Map<String, Long> codes = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            codes.put(rs.getString(1), rs.getLong(2));
+        });
+        return codes;
+    }
+
+    private static LocalDate parseReviewDate(String date) {
+        if (date == null || date.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date.trim(), REVIEW_DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    /**
+     * 카테고리(코드), 레벨(이름), 유형(코드) → ID 맵
+     */
+    private record ReferenceCodes(Map<String, Long> categories, Map<String, Long> levels, Map<String, Long> types) {
+    }
+
+    private static final class ImportCounter {
+        int categories;
+        int levels;
+        int courses;
+        int reviews;
+        int unresolved;
+    }
+
+    /**
+     * categories.json 원소
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class CategorySeed {
+        private Long id;
+        private String code;
+        private String name;
+        private Long parentId;
+
+        static String codeOf(Long id) {
+            if (id == null) {
+                throw new InvalidOperationException("카테고리 코드 또는 ID가 없는 항목이 있습니다.");
+            }
+            return String.format("CAT%04d", id);
+        }
+
+        String categoryCode() {
+            return code != null ? code : codeOf(id);
+        }
+    }
+
+    /**
+     * levels.json 원소 (레벨은 이름이 고유 키)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class LevelSeed {
+        private Long id;
+        private String name;
+        private String description;
+    }
+
+    /**
+     * courses.json 원소
+     * category, type 은 원본에 없을 수 있으며, level 은 레벨 이름으로 참조
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class CourseSeed {
+        private Long id;
+        private String code;
+        private String title;
+        private String description;
+        private String level;
+        private Long categoryId;
+        private String type;
+        private Integer students;
+        private List<String> whatYouLearn;
+        private List<ModuleSeed> syllabus;
+        private List<ReviewSeed> reviews;
+
+        String courseCode() {
+            if (code == null && id == null) {
+                throw new InvalidOperationException("과정 코드 또는 ID가 없는 항목이 있습니다.");
+            }
+            return code != null ? code : String.format("CRS%06d", id);
+        }
+
+        /**
+         * 커리큘럼 강의 시간("mm:ss" 또는 "hh:mm:ss") 합계를 분 단위로 올림
+         */
+        Integer totalMinutes() {
+            if (syllabus == null || syllabus.isEmpty()) {
+                return null;
+            }
+            long seconds = 0;
+            for (ModuleSeed module : syllabus) {
+                if (module.getLessons() == null) {
+                    continue;
+                }
+                for (LessonSeed lesson : module.getLessons()) {
+                    seconds += lesson.durationSeconds();
+                }
+            }
+            return (int) ((seconds + 59) / 60);
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class ModuleSeed {
+        private List<LessonSeed> lessons;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class LessonSeed {
+        private String duration;
+
+        long durationSeconds() {
+            if (duration == null || duration.isBlank()) {
+                return 0;
+            }
+            long seconds = 0;
+            try {
+                for (String part : duration.trim().split(":")) {
+                    seconds = seconds * 60 + Long.parseLong(part);
+                }
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+            return seconds;
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class ReviewSeed {
+        private Long id;
+        private String user;
+        private Integer rating;
+        private String date;
+        private String comment;
+    }
+}
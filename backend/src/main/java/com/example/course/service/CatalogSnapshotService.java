@@ -0,0 +1,108 @@
+package com.example.course.service;
+
+import com.example.course.dto.CatalogSnapshot;
+import com.example.course.event.CatalogChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카탈로그 스냅샷 서비스
+ * 활성 과정 목록, 카테고리 목록, 레벨 목록을 변경 시점마다 한 번만 직렬화하여
+ * 조회 API가 Jackson 직렬화 없이 바이트를 그대로 응답하도록 함
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogSnapshotService {
+
+    private final CourseService courseService;
+    private final CourseCategoryService categoryService;
+    private final CourseLevelService levelService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 스냅샷 모드 사용 여부 (비활성화 시 요청마다 직렬화)
+     */
+    @Value("${catalog.snapshot.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * gzip 사전 압축 여부
+     */
+    @Value("${catalog.snapshot.gzip-enabled:true}")
+    private boolean gzipEnabled;
+
+    private final Map<SnapshotType, CatalogSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * 스냅샷 조회
+     * 유효한 스냅샷이 없으면 동일 유형의 동시 요청 중 하나만 직렬화를 수행함
+     *
+     * @param type 스냅샷 유형
+     * @return 카탈로그 스냅샷
+     */
+    public CatalogSnapshot getSnapshot(SnapshotType type) {
+        if (!enabled) {
+            return build(type);
+        }
+        return snapshots.computeIfAbsent(type, this::build);
+    }
+
+    /**
+     * 스냅샷 폐기 (다음 조회 시 다시 직렬화)
+     *
+     * @param type 스냅샷 유형
+     */
+    public void invalidate(SnapshotType type) {
+        snapshots.remove(type);
+    }
+
+    /**
+     * 카탈로그 변경 커밋 이후 영향을 받는 스냅샷 폐기
+     * 스냅샷의 원본인 카테고리 트리와 참조 데이터가 먼저 갱신된 뒤 폐기해야
+     * 그 사이 조회가 이전 원본으로 스냅샷을 다시 만들어 남기지 않으므로 가장 뒤 순서로 실행함
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        switch (event.getScope()) {
+            case TYPE -> snapshots.remove(SnapshotType.COURSES);
+            case COURSE, CATEGORY -> {
+                snapshots.remove(SnapshotType.COURSES);
+                snapshots.remove(SnapshotType.CATEGORIES);
+            }
+            case LEVEL -> snapshots.remove(SnapshotType.LEVELS);
+        }
+    }
+
+    private CatalogSnapshot build(SnapshotType type) {
+        Object payload = switch (type) {
+            case COURSES -> courseService.findAllActiveCourses();
+            case CATEGORIES -> categoryService.findAllActiveCategories();
+            case LEVELS -> levelService.findAllActiveLevels();
+        };
+
+        try {
+            return CatalogSnapshot.of(objectMapper.writeValueAsBytes(payload), gzipEnabled);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("카탈로그 스냅샷 직렬화에 실패했습니다. 유형: " + type, e);
+        }
+    }
+
+    /**
+     * 스냅샷 유형
+     */
+    public enum SnapshotType {
+        COURSES,
+        CATEGORIES,
+        LEVELS
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.course.service;
+
+import com.example.course.event.CourseBookmarkChangedEvent;
+import com.example.course.service.CatalogSnapshotService.SnapshotType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 과정 즐겨찾기 수 카운터 서비스 (write-behind)
+ * 즐겨찾기 추가/삭제 커밋마다 과정별 메모리 카운터(LongAdder)만 증감하고,
+ * 모인 증감분을 주기적으로 courses.bookmark_count 에 배치로 반영하여
+ * 카탈로그 카드와 상세 화면이 course_bookmarks 를 집계하지 않고 컬럼 값을 그대로 사용하도록 함
+ *
+ * 반영 전 증감분은 getBookmarkCount 에서 더해 주므로 상세 화면은 즉시 최신 값을 보며,
+ * 재시작 등으로 유실된 증감이나 누적 오차는 주기적인 조정 작업이 실제 건수로 바로잡음
+ *
+ * 과정 목록 스냅샷은 카운터 반영마다 다시 만들지 않고, 반영된 증감이 있을 때만
+ * 더 긴 주기(course.bookmark.count-snapshot-refresh-ms)로 무효화함 (목록의 즐겨찾기 수는 그만큼 늦게 반영됨)
+ */
+@Slf4j
+@Service
+public class CourseBookmarkCounterService {
+
+    private static final String APPLY_DELTA =
+            "UPDATE courses SET bookmark_count = GREATEST(bookmark_count + ?, 0) WHERE id = ?";
+
+    private static final String RECONCILE =
+            "UPDATE courses SET bookmark_count = " +
+            "(SELECT COUNT(*) FROM course_bookmarks b WHERE b.course_id = courses.id) " +
+            "WHERE bookmark_count <> (SELECT COUNT(*) FROM course_bookmarks b WHERE b.course_id = courses.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogSnapshotService snapshotService;
+
+    /**
+     * 아직 반영되지 않은 과정별 증감분
+     * 카운터는 반영 후에도 제거하지 않고 반영분만 빼서 재사용함 (제거 시 동시 증감이 유실될 수 있음)
+     */
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 마지막 스냅샷 무효화 이후 반영된 증감이 있는지 여부
+     */
+    private final AtomicBoolean snapshotStale = new AtomicBoolean();
+
+    public CourseBookmarkCounterService(JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        CatalogSnapshotService snapshotService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotService = snapshotService;
+    }
+
+    /**
+     * 반영 전 증감분을 포함한 즐겨찾기 수
+     * @param courseId 과정 ID
+     * @param persisted courses.bookmark_count 값
+     * @return 즐겨찾기 수
+     */
+    public long getBookmarkCount(Long courseId, long persisted) {
+        LongAdder delta = pending.get(courseId);
+        return Math.max(persisted + (delta != null ? delta.sum() : 0), 0);
+    }
+
+    /**
+     * 즐겨찾기 추가/삭제 커밋 이후 메모리 카운터 증감
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookmarkChanged(CourseBookmarkChangedEvent event) {
+        pending.computeIfAbsent(event.getCourseId(), id -> new LongAdder())
+                .add(event.isBookmarked() ? 1 : -1);
+    }
+
+    /**
+     * 모인 증감분을 courses.bookmark_count 에 배치로 반영
+     * 증감분은 값만 읽어 두고 반영이 커밋된 뒤에 카운터에서 빼므로, 반영 중에도 getBookmarkCount 가
+     * 줄어든 값을 보이지 않으며 반영에 실패하면 카운터가 그대로 남아 다음 주기에 다시 시도함
+     * @return 갱신된 과정 수
+     */
+    @Scheduled(fixedDelayString = "${course.bookmark.count-flush-interval-ms:10000}",
+               initialDelayString = "${course.bookmark.count-flush-interval-ms:10000}")
+    public synchronized int flush() {
+        List<long[]> deltas = new ArrayList<>();
+        pending.forEach((courseId, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                deltas.add(new long[] {courseId, delta});
+            }
+        });
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(APPLY_DELTA, deltas, deltas.size(), (ps, delta) -> {
+                        ps.setLong(1, delta[1]);
+                        ps.setLong(2, delta[0]);
+                    }));
+        } catch (RuntimeException e) {
+            log.warn("즐겨찾기 수 반영 실패, 다음 주기에 재시도. 과정 수: {}", deltas.size(), e);
+            return 0;
+        }
+        deltas.forEach(delta -> pending.get(delta[0]).add(-delta[1]));
+
+        snapshotStale.set(true);
+        return deltas.size();
+    }
+
+    /**
+     * 반영된 증감이 있으면 과정 목록 스냅샷 무효화
+     * @return 무효화 여부
+     */
+    @Scheduled(fixedDelayString = "${course.bookmark.count-snapshot-refresh-ms:600000}",
+               initialDelayString = "${course.bookmark.count-snapshot-refresh-ms:600000}")
+    public boolean refreshSnapshot() {
+        if (!snapshotStale.getAndSet(false)) {
+            return false;
+        }
+        snapshotService.invalidate(SnapshotType.COURSES);
+        return true;
+    }
+
+    /**
+     * 즐겨찾기 수를 실제 건수로 조정 (값이 다른 과정만 갱신)
+     * 조정 직전에 증감분을 먼저 반영하며, 조정과 동시에 커밋된 증감은 드물게 중복 반영될 수 있으나
+     * 다음 조정에서 다시 바로잡힘
+     * @return 조정된 과정 수
+     */
+    @Scheduled(cron = "${course.bookmark.count-reconcile-cron:0 30 3 * * *}")
+    public synchronized int reconcile() {
+        flush();
+        Integer reconciled = transactionTemplate.execute(status -> jdbcTemplate.update(RECONCILE));
+        if (reconciled != null && reconciled > 0) {
+            log.info("즐겨찾기 수 조정 완료. 조정된 과정 수: {}", reconciled);
+            snapshotStale.set(true);
+        }
+        refreshSnapshot();
+        return reconciled != null ? reconciled : 0;
+    }
+
+    /**
+     * 종료 시 남은 증감분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -2,17 +2,18 @@ package com.example.course.service;
 
 import com.example.common.exception.EntityNotFoundException;
 import com.example.course.dto.CourseResponse;
-import com.example.course.entity.Course;
-import com.example.course.entity.CourseBookmark;
+import com.example.course.event.CourseBookmarkChangedEvent;
 import com.example.course.repository.CourseBookmarkRepository;
 import com.example.course.repository.CourseRepository;
-import com.example.user.entity.User;
-import com.example.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -21,13 +22,26 @@ import java.util.stream.Collectors;
  * 과정 즐겨찾기 관련 비즈니스 로직을 처리하는 서비스
  */
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CourseBookmarkService {
 
     private final CourseBookmarkRepository bookmarkRepository;
     private final CourseRepository courseRepository;
-    private final UserRepository userRepository;
+    private final CourseBookmarkStatusService statusService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public CourseBookmarkService(CourseBookmarkRepository bookmarkRepository,
+                                 CourseRepository courseRepository,
+                                 CourseBookmarkStatusService statusService,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager) {
+        this.bookmarkRepository = bookmarkRepository;
+        this.courseRepository = courseRepository;
+        this.statusService = statusService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * 사용자의 즐겨찾기 과정 목록 조회
@@ -35,10 +49,7 @@ public class CourseBookmarkService {
      * @return 즐겨찾기한 과정 목록
      */
     public List<CourseResponse> getUserBookmarkedCourses(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
-
-        return bookmarkRepository.findByUser(user).stream()
+        return bookmarkRepository.findByUserId(userId).stream()
                 .map(bookmark -> CourseResponse.from(bookmark.getCourse()))
                 .collect(Collectors.toList());
     }
@@ -50,62 +61,55 @@ public class CourseBookmarkService {
      * @return 즐겨찾기한 과정 페이지
      */
     public Page<CourseResponse> getUserBookmarkedCourses(Long userId, Pageable pageable) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
-
-        return bookmarkRepository.findByUser(user, pageable)
+        return bookmarkRepository.findByUserId(userId, pageable)
                 .map(bookmark -> CourseResponse.from(bookmark.getCourse()));
     }
 
     /**
      * 과정 즐겨찾기 추가
+     * 확인 후 저장하지 않고 INSERT ... SELECT ... WHERE NOT EXISTS 한 번으로 처리하며,
+     * 추가되지 않은 경우에만 과정 존재 여부를 확인해 "과정 없음"과 "이미 즐겨찾기함"을 구분함
+     * 동시에 같은 요청이 와서 (user_id, course_id) 고유 제약에 걸리면 이미 즐겨찾기한 것으로 처리함
      * @param userId 사용자 ID
      * @param courseId 과정 ID
-     * @return 즐겨찾기 성공 여부
+     * @return 즐겨찾기 성공 여부 (이미 즐겨찾기한 경우 false)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean addBookmark(Long userId, Long courseId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
-
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new EntityNotFoundException("과정을 찾을 수 없습니다. ID: " + courseId));
+        int inserted;
+        try {
+            // 고유 제약 위반으로 롤백되는 트랜잭션을 호출 측과 분리하기 위해 별도 트랜잭션으로 실행
+            inserted = transactionTemplate.execute(status -> bookmarkRepository.insertIfAbsent(userId, courseId));
+        } catch (DataIntegrityViolationException e) {
+            if (bookmarkRepository.existsByUserIdAndCourseId(userId, courseId)) {
+                return false;
+            }
+            throw e;
+        }
 
-        // 이미 즐겨찾기한 경우 중복 저장 방지
-        if (bookmarkRepository.existsByUserAndCourse(user, course)) {
+        if (inserted == 0) {
+            if (!courseRepository.existsById(courseId)) {
+                throw new EntityNotFoundException("과정을 찾을 수 없습니다. ID: " + courseId);
+            }
             return false;
         }
-
-        CourseBookmark bookmark = CourseBookmark.builder()
-                .user(user)
-                .course(course)
-                .build();
-
-        bookmarkRepository.save(bookmark);
+        eventPublisher.publishEvent(new CourseBookmarkChangedEvent(userId, courseId, true));
         return true;
     }
 
     /**
-     * 과정 즐겨찾기 삭제
+     * 과정 즐겨찾기 삭제 (삭제 문장 한 번으로 처리)
      * @param userId 사용자 ID
      * @param courseId 과정 ID
-     * @return 즐겨찾기 삭제 성공 여부
+     * @return 즐겨찾기 삭제 성공 여부 (즐겨찾기에 없던 경우 false)
      */
     @Transactional
     public boolean removeBookmark(Long userId, Long courseId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
-
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new EntityNotFoundException("과정을 찾을 수 없습니다. ID: " + courseId));
-
-        // 즐겨찾기가 존재하는 경우에만 삭제
-        if (!bookmarkRepository.existsByUserAndCourse(user, course)) {
-            return false;
+        boolean removed = bookmarkRepository.deleteByUserIdAndCourseId(userId, courseId) > 0;
+        if (removed) {
+            eventPublisher.publishEvent(new CourseBookmarkChangedEvent(userId, courseId, false));
         }
-
-        bookmarkRepository.deleteByUserAndCourse(user, course);
-        return true;
+        return removed;
     }
 
     /**
@@ -115,13 +119,17 @@ public class CourseBookmarkService {
      * @return 즐겨찾기 여부
      */
     public boolean isBookmarked(Long userId, Long courseId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
-
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new EntityNotFoundException("과정을 찾을 수 없습니다. ID: " + courseId));
+        return statusService.isBookmarked(userId, courseId);
+    }
 
-        return bookmarkRepository.existsByUserAndCourse(user, course);
+    /**
+     * 여러 과정 중 즐겨찾기한 과정 조회 (목록 화면의 즐겨찾기 표시용)
+     * @param userId 사용자 ID
+     * @param courseIds 확인할 과정 ID 목록
+     * @return 즐겨찾기한 과정 ID 목록 (요청 순서 유지)
+     */
+    public List<Long> findBookmarkedCourseIds(Long userId, List<Long> courseIds) {
+        return statusService.findBookmarked(userId, courseIds);
     }
 
     /**
@@ -130,9 +138,6 @@ public class CourseBookmarkService {
      * @return 즐겨찾기 과정 수
      */
     public long countUserBookmarks(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
-
-        return bookmarkRepository.countByUser(user);
+        return statusService.count(userId);
     }
-} 
\ No newline at end of file
+}
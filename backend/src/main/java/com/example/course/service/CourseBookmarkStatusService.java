@@ -0,0 +1,119 @@
+package com.example.course.service;
+
+import com.example.course.event.CourseBookmarkChangedEvent;
+import com.example.course.repository.CourseBookmarkRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 과정 즐겨찾기 상태 조회 서비스
+ * 사용자별로 즐겨찾기한 과정 ID를 압축 비트맵(RoaringBitmap)으로 캐시하여
+ * 목록 화면의 즐겨찾기 표시를 과정 수와 무관하게 한 번의 호출, 쿼리 없이 처리
+ *
+ * 비트맵은 처음 필요할 때 사용자당 한 번의 쿼리로 적재되며, 이후 추가/삭제 이벤트마다
+ * 복사본을 만들어 교체함 (공유된 비트맵은 수정하지 않으므로 조회 측 동기화가 필요 없음)
+ * 과정 ID는 int 범위 안에 있다고 가정하며, 범위를 벗어난 ID는 즐겨찾기하지 않은 것으로 처리함
+ */
+@Service
+public class CourseBookmarkStatusService {
+
+    private final CourseBookmarkRepository bookmarkRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<Long, RoaringBitmap> bookmarks;
+
+    public CourseBookmarkStatusService(CourseBookmarkRepository bookmarkRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${course.bookmark.status-cache-size:50000}") long cacheSize,
+                                       @Value("${course.bookmark.status-expire-after-access-minutes:60}") long expireAfterAccessMinutes) {
+        this.bookmarkRepository = bookmarkRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.bookmarks = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .build();
+    }
+
+    /**
+     * 과정 즐겨찾기 여부
+     * @param userId 사용자 ID
+     * @param courseId 과정 ID
+     * @return 즐겨찾기 여부
+     */
+    public boolean isBookmarked(Long userId, Long courseId) {
+        return isIntRange(courseId) && bookmarksOf(userId).contains(courseId.intValue());
+    }
+
+    /**
+     * 여러 과정 중 즐겨찾기한 과정 조회
+     * @param userId 사용자 ID
+     * @param courseIds 확인할 과정 ID 목록
+     * @return 즐겨찾기한 과정 ID 목록 (요청 순서 유지)
+     */
+    public List<Long> findBookmarked(Long userId, Collection<Long> courseIds) {
+        RoaringBitmap bitmap = bookmarksOf(userId);
+        List<Long> bookmarked = new ArrayList<>();
+        if (bitmap.isEmpty()) {
+            return bookmarked;
+        }
+        for (Long courseId : courseIds) {
+            if (isIntRange(courseId) && bitmap.contains(courseId.intValue())) {
+                bookmarked.add(courseId);
+            }
+        }
+        return bookmarked;
+    }
+
+    /**
+     * 사용자의 즐겨찾기 과정 수
+     * @param userId 사용자 ID
+     * @return 즐겨찾기 과정 수
+     */
+    public long count(Long userId) {
+        return bookmarksOf(userId).getLongCardinality();
+    }
+
+    /**
+     * 즐겨찾기 추가/삭제 커밋 이후 적재된 비트맵 갱신
+     * 적재되지 않은 사용자는 다음 조회 시 최신 상태로 적재되므로 무시함
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookmarkChanged(CourseBookmarkChangedEvent event) {
+        int courseId = Math.toIntExact(event.getCourseId());
+        bookmarks.asMap().computeIfPresent(event.getUserId(), (userId, bitmap) -> {
+            RoaringBitmap updated = bitmap.clone();
+            if (event.isBookmarked()) {
+                updated.add(courseId);
+            } else {
+                updated.remove(courseId);
+            }
+            return updated;
+        });
+    }
+
+    private static boolean isIntRange(Long courseId) {
+        return courseId != null && courseId >= Integer.MIN_VALUE && courseId <= Integer.MAX_VALUE;
+    }
+
+    private RoaringBitmap bookmarksOf(Long userId) {
+        return bookmarks.get(userId, id -> readOnlyTransaction.execute(status -> {
+            RoaringBitmap bitmap = new RoaringBitmap();
+            for (Long courseId : bookmarkRepository.findCourseIdsByUserId(id)) {
+                bitmap.add(Math.toIntExact(courseId));
+            }
+            bitmap.runOptimize();
+            return bitmap;
+        }));
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.course.service;
+
+import com.example.common.exception.InvalidOperationException;
+import com.example.course.dto.CourseCategoryResponse;
+import com.example.course.entity.CourseCategory;
+import com.example.course.repository.CourseCategoryClosureRepository;
+import com.example.course.repository.CourseCategoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 교육 과정 카테고리 클로저 테이블 관리 서비스
+ * 카테고리 생성/상위 변경 시 course_category_closure 를 같은 트랜잭션에서 갱신하고,
+ * 경로(브레드크럼) 조회를 클로저 조인 한 번으로 처리
+ *
+ * 카탈로그 가져오기처럼 JDBC로 직접 카테고리를 반영한 경우와 테이블이 비어 있는 기동 시점에는
+ * parent_id 로부터 전체를 다시 계산함
+ * 카테고리별 직접/누적 활성 교육과정 수도 클로저 경로를 따라 함께 관리함
+ */
+@Slf4j
+@Service
+public class CourseCategoryClosureService {
+
+    private static final String INSERT_PATH =
+            "INSERT INTO course_category_closure (ancestor_id, descendant_id, depth) VALUES (?, ?, ?)";
+
+    private static final String RECOMPUTE_COURSE_COUNTS =
+            "UPDATE course_categories SET " +
+            "direct_course_count = (SELECT COUNT(*) FROM courses co " +
+            "WHERE co.category_id = course_categories.id AND co.active = true), " +
+            "total_course_count = (SELECT COUNT(*) FROM courses co " +
+            "JOIN course_category_closure cc ON cc.descendant_id = co.category_id " +
+            "WHERE cc.ancestor_id = course_categories.id AND co.active = true)";
+
+    private final CourseCategoryClosureRepository closureRepository;
+    private final CourseCategoryRepository categoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public CourseCategoryClosureService(CourseCategoryClosureRepository closureRepository,
+                                        CourseCategoryRepository categoryRepository,
+                                        JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager) {
+        this.closureRepository = closureRepository;
+        this.categoryRepository = categoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 새 카테고리의 경로 추가 (호출 측 트랜잭션에서 실행)
+     * @param categoryId 새 카테고리 ID
+     * @param parentId 상위 카테고리 ID (최상위이면 null)
+     */
+    public void addCategory(Long categoryId, Long parentId) {
+        closureRepository.insertPaths(categoryId, parentId);
+    }
+
+    /**
+     * 상위 카테고리 변경 시 하위 트리 전체의 경로와 상위 카테고리들의 누적 교육과정 수 갱신 (호출 측 트랜잭션에서 실행)
+     * @param categoryId 이동할 카테고리 ID
+     * @param newParentId 새 상위 카테고리 ID (최상위로 이동하면 null)
+     */
+    public void moveCategory(Long categoryId, Long newParentId) {
+        if (newParentId != null && closureRepository.existsByAncestorIdAndDescendantId(categoryId, newParentId)) {
+            throw new InvalidOperationException("자기 자신 또는 하위 카테고리를 상위 카테고리로 지정할 수 없습니다. ID: " + newParentId);
+        }
+        categoryRepository.subtractSubtreeCountFromAncestors(categoryId);
+        closureRepository.detachSubtree(categoryId);
+        if (newParentId != null) {
+            closureRepository.attachSubtree(categoryId, newParentId);
+            categoryRepository.addSubtreeCountToAncestors(categoryId);
+        }
+    }
+
+    /**
+     * 최상위부터 해당 카테고리까지의 경로 조회
+     * @param categoryId 카테고리 ID
+     * @return 경로 (최상위 카테고리가 첫 번째, 해당 카테고리가 마지막. 없으면 빈 목록)
+     */
+    public List<CourseCategoryResponse> getBreadcrumbs(Long categoryId) {
+        List<CourseCategoryResponse> breadcrumbs = new ArrayList<>();
+        CourseCategoryResponse previous = null;
+        for (CourseCategory category : categoryRepository.findPathFromRoot(categoryId)) {
+            CourseCategoryResponse crumb = CourseCategoryResponse.builder()
+                    .id(category.getId())
+                    .code(category.getCode())
+                    .name(category.getName())
+                    .parentId(previous != null ? previous.getId() : null)
+                    .parentName(previous != null ? previous.getName() : null)
+                    .sortOrder(category.getSortOrder())
+                    .active(category.isActive())
+                    .build();
+            breadcrumbs.add(crumb);
+            previous = crumb;
+        }
+        return breadcrumbs;
+    }
+
+    /**
+     * 기동 시 클로저 테이블이 카테고리와 맞지 않으면 전체 재계산
+     * (스키마 추가 직후, 또는 SQL로 직접 카테고리를 넣은 경우)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        Long categories = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM course_categories", Long.class);
+        Long selfPaths = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM course_category_closure WHERE depth = 0", Long.class);
+        if (categories != null && !categories.equals(selfPaths)) {
+            int paths = transactionTemplate.execute(status -> {
+                int rebuilt = rebuild();
+                recomputeCourseCounts();
+                return rebuilt;
+            });
+            log.info("카테고리 클로저 테이블 재계산 완료. 카테고리: {}, 경로: {}", categories, paths);
+        }
+    }
+
+    /**
+     * parent_id 로부터 클로저 테이블 전체 재계산 (호출 측 트랜잭션에서 실행)
+     * 순환 참조 데이터는 순환이 시작되는 지점에서 끊음
+     * @return 기록된 경로 수
+     */
+    public int rebuild() {
+        Map<Long, Long> parentOf = new HashMap<>();
+        jdbcTemplate.query("SELECT id, parent_id FROM course_categories", rs -> {
+            long parentId = rs.getLong(2);
+            parentOf.put(rs.getLong(1), rs.wasNull() ? null : parentId);
+        });
+
+        List<long[]> paths = new ArrayList<>();
+        Set<Long> visited = new HashSet<>();
+        for (Long id : parentOf.keySet()) {
+            visited.clear();
+            Long ancestor = id;
+            int depth = 0;
+            while (ancestor != null && parentOf.containsKey(ancestor) && visited.add(ancestor)) {
+                paths.add(new long[] {ancestor, id, depth++});
+                ancestor = parentOf.get(ancestor);
+            }
+        }
+
+        jdbcTemplate.update("DELETE FROM course_category_closure");
+        jdbcTemplate.batchUpdate(INSERT_PATH, paths, 500, (ps, path) -> {
+            ps.setLong(1, path[0]);
+            ps.setLong(2, path[1]);
+            ps.setInt(3, (int) path[2]);
+        });
+        return paths.size();
+    }
+
+    /**
+     * 카테고리별 직접/누적 활성 교육과정 수 전체 재계산 (호출 측 트랜잭션에서 실행)
+     * JDBC로 직접 과정을 반영한 뒤 증감 누락을 바로잡는 용도
+     */
+    public void recomputeCourseCounts() {
+        jdbcTemplate.update(RECOMPUTE_COURSE_COUNTS);
+    }
+}
@@ -5,13 +5,15 @@ import com.example.course.dto.CourseCategoryCreateRequest;
 import com.example.course.dto.CourseCategoryResponse;
 import com.example.course.dto.CourseCategoryUpdateRequest;
 import com.example.course.entity.CourseCategory;
+import com.example.course.event.CatalogChangedEvent;
+import com.example.course.event.CatalogChangedEvent.CatalogScope;
 import com.example.course.repository.CourseCategoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 교육 과정 카테고리 관련 비즈니스 로직 처리 서비스
@@ -22,41 +24,48 @@ import java.util.stream.Collectors;
 public class CourseCategoryService {
 
     private final CourseCategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CourseCategoryTreeService treeService;
+    private final CourseCategoryClosureService closureService;
 
     /**
-     * 모든 활성화된 카테고리 조회
+     * 모든 활성화된 카테고리 조회 (평면 목록, 하위 카테고리 미포함)
      */
     public List<CourseCategoryResponse> findAllActiveCategories() {
-        return categoryRepository.findByActiveTrue().stream()
-                .map(CourseCategoryResponse::from)
-                .collect(Collectors.toList());
+        return treeService.getActiveCategories();
     }
 
     /**
-     * ID로 특정 카테고리 조회
+     * ID로 특정 카테고리 조회 (활성 하위 카테고리 포함)
      */
     public CourseCategoryResponse findCategoryById(Long id) {
-        CourseCategory category = categoryRepository.findById(id)
+        return treeService.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("카테고리를 찾을 수 없습니다. ID: " + id));
-        return CourseCategoryResponse.from(category);
     }
 
     /**
      * 상위 카테고리별 하위 카테고리 목록 조회
      */
     public List<CourseCategoryResponse> findSubcategoriesByParentId(Long parentId) {
-        return categoryRepository.findByParentIdAndActiveTrue(parentId).stream()
-                .map(CourseCategoryResponse::from)
-                .collect(Collectors.toList());
+        return treeService.getChildren(parentId);
     }
 
     /**
-     * 최상위 카테고리 목록 조회 (부모 카테고리가 없는 카테고리)
+     * 최상위 카테고리 목록 조회 (부모 카테고리가 없는 카테고리, 하위 카테고리 트리 포함)
      */
     public List<CourseCategoryResponse> findRootCategories() {
-        return categoryRepository.findByParentIsNullAndActiveTrue().stream()
-                .map(CourseCategoryResponse::from)
-                .collect(Collectors.toList());
+        return treeService.getRoots();
+    }
+
+    /**
+     * 최상위부터 해당 카테고리까지의 경로(브레드크럼) 조회
+     */
+    public List<CourseCategoryResponse> findBreadcrumbs(Long id) {
+        List<CourseCategoryResponse> breadcrumbs = closureService.getBreadcrumbs(id);
+        if (breadcrumbs.isEmpty()) {
+            throw new EntityNotFoundException("카테고리를 찾을 수 없습니다. ID: " + id);
+        }
+        return breadcrumbs;
     }
 
     /**
@@ -80,6 +89,8 @@ public class CourseCategoryService {
                 .build();
 
         CourseCategory savedCategory = categoryRepository.save(category);
+        closureService.addCategory(savedCategory.getId(), request.getParentId());
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogScope.CATEGORY));
         return CourseCategoryResponse.from(savedCategory);
     }
 
@@ -94,8 +105,10 @@ public class CourseCategoryService {
         if (request.getParentId() != null && !request.getParentId().equals(category.getParent() != null ? category.getParent().getId() : null)) {
             CourseCategory parentCategory = categoryRepository.findById(request.getParentId())
                     .orElseThrow(() -> new EntityNotFoundException("상위 카테고리를 찾을 수 없습니다. ID: " + request.getParentId()));
+            closureService.moveCategory(id, parentCategory.getId());
             category.setParent(parentCategory);
         } else if (request.getParentId() == null && category.getParent() != null) {
+            closureService.moveCategory(id, null);
             category.setParent(null);
         }
 
@@ -105,6 +118,7 @@ public class CourseCategoryService {
         if (request.getActive() != null) category.setActive(request.getActive());
 
         CourseCategory updatedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogScope.CATEGORY));
         return CourseCategoryResponse.from(updatedCategory);
     }
 
@@ -117,5 +131,6 @@ public class CourseCategoryService {
                 .orElseThrow(() -> new EntityNotFoundException("카테고리를 찾을 수 없습니다. ID: " + id));
         category.setActive(false);
         categoryRepository.save(category);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogScope.CATEGORY));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,221 @@
+package com.example.course.service;
+
+import com.example.course.dto.CourseCategoryResponse;
+import com.example.course.entity.CourseCategory;
+import com.example.course.event.CatalogChangedEvent;
+import com.example.course.event.CatalogChangedEvent.CatalogScope;
+import com.example.course.repository.CourseCategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 교육 과정 카테고리 트리 조립 서비스
+ * 전체 카테고리를 한 번의 쿼리로 읽어 parent_id 기준으로 메모리에서 연결한 불변 트리를 만들고,
+ * 카테고리 변경 커밋 전까지 캐시하여 트리/목록/하위 카테고리 조회를 쿼리 없이 처리
+ *
+ * 트리에는 활성화된 카테고리만 연결되며, 비활성 카테고리의 하위 카테고리는 트리에 노출되지 않음
+ * 각 노드의 과정 수는 카테고리 행에 유지되는 값을 그대로 사용하므로 노드별 COUNT 쿼리가 없음
+ * 응답 객체는 여러 요청이 공유하므로 수정해서는 안 됨
+ */
+@Service
+@RequiredArgsConstructor
+public class CourseCategoryTreeService {
+
+    private static final Comparator<CourseCategory> DISPLAY_ORDER = Comparator
+            .comparing(CourseCategory::getSortOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(CourseCategory::getId);
+
+    private final CourseCategoryRepository categoryRepository;
+
+    private volatile CategoryTree tree;
+
+    /**
+     * 최상위 카테고리 목록 (하위 카테고리 포함 트리)
+     */
+    public List<CourseCategoryResponse> getRoots() {
+        return current().roots;
+    }
+
+    /**
+     * 활성화된 카테고리 평면 목록 (하위 카테고리 미포함, 표시 순서)
+     */
+    public List<CourseCategoryResponse> getActiveCategories() {
+        return current().activeFlat;
+    }
+
+    /**
+     * ID로 카테고리 노드 조회 (활성 하위 카테고리 포함)
+     * @param id 카테고리 ID
+     * @return 카테고리 노드
+     */
+    public Optional<CourseCategoryResponse> findById(Long id) {
+        return Optional.ofNullable(current().nodes.get(id));
+    }
+
+    /**
+     * 상위 카테고리의 활성 하위 카테고리 목록
+     * @param parentId 상위 카테고리 ID
+     * @return 하위 카테고리 목록 (없으면 빈 목록)
+     */
+    public List<CourseCategoryResponse> getChildren(Long parentId) {
+        CourseCategoryResponse parent = current().nodes.get(parentId);
+        return parent != null && parent.getChildren() != null ? parent.getChildren() : Collections.emptyList();
+    }
+
+    /**
+     * 카테고리/과정 변경 커밋 이후 트리 폐기 (다음 조회 시 재조립)
+     * 과정 변경은 카테고리별 과정 수를 바꾸므로 함께 폐기함
+     * 트리로 만드는 카탈로그 스냅샷보다 먼저 폐기되도록 가장 앞 순서로 실행함
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.getScope() == CatalogScope.CATEGORY || event.getScope() == CatalogScope.COURSE) {
+            synchronized (this) {
+                tree = null;
+            }
+        }
+    }
+
+    private CategoryTree current() {
+        CategoryTree current = tree;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (tree == null) {
+                tree = CategoryTree.of(categoryRepository.findAll());
+            }
+            return tree;
+        }
+    }
+
+    /**
+     * 불변 카테고리 트리
+     */
+    private static final class CategoryTree {
+
+        final Map<Long, CourseCategoryResponse> nodes;
+        final List<CourseCategoryResponse> roots;
+        final List<CourseCategoryResponse> activeFlat;
+
+        private CategoryTree(Map<Long, CourseCategoryResponse> nodes,
+                             List<CourseCategoryResponse> roots,
+                             List<CourseCategoryResponse> activeFlat) {
+            this.nodes = nodes;
+            this.roots = roots;
+            this.activeFlat = activeFlat;
+        }
+
+        static CategoryTree of(List<CourseCategory> categories) {
+            List<CourseCategory> sorted = new ArrayList<>(categories);
+            sorted.sort(DISPLAY_ORDER);
+
+            Map<Long, CourseCategory> byId = new HashMap<>(sorted.size() * 2);
+            Map<Long, List<CourseCategory>> childrenOf = new HashMap<>();
+            for (CourseCategory category : sorted) {
+                byId.put(category.getId(), category);
+                Long parentId = parentIdOf(category);
+                if (parentId != null) {
+                    childrenOf.computeIfAbsent(parentId, id -> new ArrayList<>()).add(category);
+                }
+            }
+
+            Builder builder = new Builder(byId, childrenOf);
+            List<CourseCategoryResponse> roots = new ArrayList<>();
+            List<CourseCategoryResponse> activeFlat = new ArrayList<>();
+            for (CourseCategory category : sorted) {
+                CourseCategoryResponse node = builder.build(category);
+                Long parentId = parentIdOf(category);
+                if (category.isActive()) {
+                    activeFlat.add(builder.flat(category));
+                    if (parentId == null || !byId.containsKey(parentId)) {
+                        roots.add(node);
+                    }
+                }
+            }
+
+            return new CategoryTree(Map.copyOf(builder.nodes), List.copyOf(roots), List.copyOf(activeFlat));
+        }
+
+        /**
+         * 상위 카테고리 ID (지연 로딩 프록시의 ID만 읽으므로 추가 쿼리 없음)
+         */
+        static Long parentIdOf(CourseCategory category) {
+            return category.getParent() != null ? category.getParent().getId() : null;
+        }
+    }
+
+    /**
+     * 하위 노드부터 응답 객체를 조립하는 빌더 (순환 참조 데이터는 끊어서 조립)
+     */
+    private static final class Builder {
+
+        final Map<Long, CourseCategory> byId;
+        final Map<Long, List<CourseCategory>> childrenOf;
+        final Map<Long, CourseCategoryResponse> nodes = new HashMap<>();
+        final Set<Long> visiting = new HashSet<>();
+
+        Builder(Map<Long, CourseCategory> byId, Map<Long, List<CourseCategory>> childrenOf) {
+            this.byId = byId;
+            this.childrenOf = childrenOf;
+        }
+
+        CourseCategoryResponse build(CourseCategory category) {
+            CourseCategoryResponse built = nodes.get(category.getId());
+            if (built != null) {
+                return built;
+            }
+            visiting.add(category.getId());
+
+            List<CourseCategoryResponse> children = new ArrayList<>();
+            for (CourseCategory child : childrenOf.getOrDefault(category.getId(), Collections.emptyList())) {
+                if (child.isActive() && !visiting.contains(child.getId())) {
+                    children.add(build(child));
+                }
+            }
+
+            CourseCategoryResponse node = response(category, children.isEmpty() ? null : List.copyOf(children));
+            visiting.remove(category.getId());
+            nodes.put(category.getId(), node);
+            return node;
+        }
+
+        CourseCategoryResponse flat(CourseCategory category) {
+            return response(category, null);
+        }
+
+        private CourseCategoryResponse response(CourseCategory category, List<CourseCategoryResponse> children) {
+            Long parentId = CategoryTree.parentIdOf(category);
+            CourseCategory parent = parentId != null ? byId.get(parentId) : null;
+            return CourseCategoryResponse.builder()
+                    .id(category.getId())
+                    .code(category.getCode())
+                    .name(category.getName())
+                    .description(category.getDescription())
+                    .parentId(parentId)
+                    .parentName(parent != null ? parent.getName() : null)
+                    .sortOrder(category.getSortOrder())
+                    .active(category.isActive())
+                    .directCourseCount(category.getDirectCourseCount())
+                    .totalCourseCount(category.getTotalCourseCount())
+                    .children(children)
+                    .createdAt(category.getCreatedAt())
+                    .updatedAt(category.getUpdatedAt())
+                    .build();
+        }
+    }
+}
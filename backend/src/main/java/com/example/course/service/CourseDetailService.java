@@ -0,0 +1,138 @@
+package com.example.course.service;
+
+import com.example.course.dto.CourseDetailResponse;
+import com.example.course.dto.CourseResponse;
+import com.example.course.dto.CourseSessionResponse;
+import com.example.course.repository.CourseBookmarkRepository;
+import com.example.course.repository.CourseSessionRepository;
+import com.example.survey.dto.SurveySummaryResponse;
+import com.example.survey.repository.SurveyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 교육 과정 상세 페이지 조회 서비스
+ * 과정, 차수, 설문, 즐겨찾기 정보를 병렬로 조회하여 하나의 응답으로 병합
+ * 과정 정보 외의 하위 조회는 개별 제한 시간을 가지며, 실패 시 기본값으로 대체됨
+ */
+@Slf4j
+@Service
+public class CourseDetailService {
+
+    private final CourseService courseService;
+    private final CourseSessionRepository sessionRepository;
+    private final SurveyRepository surveyRepository;
+    private final CourseBookmarkRepository bookmarkRepository;
+    private final CourseBookmarkCounterService bookmarkCounterService;
+    private final Executor executor;
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * 하위 조회 제한 시간 (밀리초)
+     */
+    @Value("${course.detail.timeout-ms:800}")
+    private long timeoutMs;
+
+    public CourseDetailService(CourseService courseService,
+                               CourseSessionRepository sessionRepository,
+                               SurveyRepository surveyRepository,
+                               CourseBookmarkRepository bookmarkRepository,
+                               CourseBookmarkCounterService bookmarkCounterService,
+                               PlatformTransactionManager transactionManager,
+                               @Qualifier("courseDetailExecutor") Executor executor) {
+        this.courseService = courseService;
+        this.sessionRepository = sessionRepository;
+        this.surveyRepository = surveyRepository;
+        this.bookmarkRepository = bookmarkRepository;
+        this.bookmarkCounterService = bookmarkCounterService;
+        this.executor = executor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 과정 상세 정보 조회
+     * @param courseId 과정 ID
+     * @param userId 사용자 ID (비로그인 시 null)
+     * @return 과정 상세 정보
+     */
+    public CourseDetailResponse getCourseDetail(Long courseId, Long userId) {
+        Queue<String> degraded = new ConcurrentLinkedQueue<>();
+
+        CompletableFuture<CourseResponse> course = CompletableFuture
+                .supplyAsync(() -> courseService.findCourseById(courseId), executor)
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+
+        CompletableFuture<List<CourseSessionResponse>> sessions = fetch("sessions",
+                () -> sessionRepository.findByCourseId(courseId).stream()
+                        .map(CourseSessionResponse::from)
+                        .collect(Collectors.toList()),
+                Collections.emptyList(), degraded);
+
+        CompletableFuture<List<SurveySummaryResponse>> surveys = fetch("surveys",
+                () -> surveyRepository.findByCourseId(courseId).stream()
+                        .map(SurveySummaryResponse::from)
+                        .collect(Collectors.toList()),
+                Collections.emptyList(), degraded);
+
+        CompletableFuture<Boolean> bookmarked = userId == null
+                ? CompletableFuture.completedFuture(false)
+                : fetch("bookmarked", () -> bookmarkRepository.existsByUserIdAndCourseId(userId, courseId), null, degraded);
+
+        CourseResponse courseResponse = joinRequired(course, courseId);
+        CompletableFuture.allOf(sessions, surveys, bookmarked).join();
+
+        return CourseDetailResponse.builder()
+                .course(courseResponse)
+                .sessions(sessions.join())
+                .surveys(surveys.join())
+                .bookmarkCount(bookmarkCounterService.getBookmarkCount(courseId, courseResponse.getBookmarkCount()))
+                .bookmarked(bookmarked.join())
+                .degradedSections(degraded.isEmpty() ? null : new ArrayList<>(degraded))
+                .build();
+    }
+
+    /**
+     * 읽기 전용 트랜잭션에서 하위 조회를 비동기로 실행하고, 시간 초과/오류 시 기본값으로 대체
+     */
+    private <T> CompletableFuture<T> fetch(String section, Supplier<T> query, T fallback, Queue<String> degraded) {
+        return CompletableFuture
+                .supplyAsync(() -> readOnlyTransaction.execute(status -> query.get()), executor)
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    log.warn("과정 상세 하위 조회 실패, 기본값 사용. 항목: {}", section, ex);
+                    degraded.add(section);
+                    return fallback;
+                });
+    }
+
+    /**
+     * 필수 조회 결과 대기 (과정 정보가 없으면 상세 응답을 만들 수 없으므로 예외를 그대로 전달)
+     */
+    private CourseResponse joinRequired(CompletableFuture<CourseResponse> future, Long courseId) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("과정 정보를 조회하지 못했습니다. ID: " + courseId, e.getCause());
+        }
+    }
+}
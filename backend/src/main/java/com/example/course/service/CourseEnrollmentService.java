@@ -8,12 +8,16 @@ import com.example.course.entity.Course;
 import com.example.course.entity.CourseEnrollment;
 import com.example.course.entity.CourseSession;
 import com.example.course.entity.EnrollmentStatus;
+import com.example.course.event.EnrollmentChangedEvent;
 import com.example.course.repository.CourseEnrollmentRepository;
 import com.example.course.repository.CourseRepository;
 import com.example.course.repository.CourseSessionRepository;
+import com.example.course.service.LearnerTimetableService.ConflictMode;
 import com.example.user.entity.User;
 import com.example.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +37,14 @@ public class CourseEnrollmentService {
     private final CourseRepository courseRepository;
     private final CourseSessionRepository sessionRepository;
     private final UserRepository userRepository;
+    private final LearnerTimetableService timetableService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 수강 일정 중복 처리 방식 (REJECT: 신청 거부, FLAG: 신청 후 응답에 표시)
+     */
+    @Value("${course.timetable.conflict-mode:FLAG}")
+    private ConflictMode conflictMode;
 
     /**
      * 사용자의 수강 중인 과정 목록 조회
@@ -103,6 +115,12 @@ public class CourseEnrollmentService {
             throw new InvalidOperationException("수강 신청 기간이 종료되었습니다.");
         }
 
+        // 수강 일정 중복 확인
+        List<Long> conflictingSessionIds = timetableService.findConflictingSessionIds(userId, session);
+        if (!conflictingSessionIds.isEmpty() && conflictMode == ConflictMode.REJECT) {
+            throw new InvalidOperationException("수강 일정이 겹치는 차수가 있습니다. 차수 ID: " + conflictingSessionIds);
+        }
+
         // 수강 신청 생성
         CourseEnrollment enrollment = CourseEnrollment.builder()
                 .user(user)
@@ -121,7 +139,11 @@ public class CourseEnrollmentService {
             savedEnrollment = enrollmentRepository.findById(savedEnrollment.getId()).get();
         }
 
-        return CourseEnrollmentResponse.from(savedEnrollment);
+        CourseEnrollmentResponse response = CourseEnrollmentResponse.from(savedEnrollment);
+        if (conflictingSessionIds.isEmpty()) {
+            return response;
+        }
+        return response.toBuilder().conflictingSessionIds(conflictingSessionIds).build();
     }
 
     /**
@@ -146,19 +168,21 @@ public class CourseEnrollmentService {
             throw new InvalidOperationException("이미 취소된 수강신청입니다.");
         }
 
-        // 취소 처리
+        // 취소 처리 (상태 변경 전에 승인 여부를 기록해야 수강 인원이 감소됨)
+        boolean wasApproved = enrollment.getStatus() == EnrollmentStatus.APPROVED;
         enrollment.setStatus(EnrollmentStatus.CANCELLED);
         enrollment.setCancelledAt(LocalDateTime.now());
         enrollment.setCancelReason(reason);
 
         // 수강 인원 감소
         CourseSession session = enrollment.getSession();
-        if (enrollment.getStatus() == EnrollmentStatus.APPROVED) {
+        if (wasApproved) {
             session.decrementCurrentEnrollment();
             session.getCourse().decrementEnrollmentCount();
         }
 
         CourseEnrollment updatedEnrollment = enrollmentRepository.save(enrollment);
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(userId, session.getId(), EnrollmentStatus.CANCELLED));
         return CourseEnrollmentResponse.from(updatedEnrollment);
     }
 
@@ -196,6 +220,8 @@ public class CourseEnrollmentService {
         course.incrementEnrollmentCount();
 
         CourseEnrollment updatedEnrollment = enrollmentRepository.save(enrollment);
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(
+                enrollment.getUser().getId(), session.getId(), EnrollmentStatus.APPROVED));
         return CourseEnrollmentResponse.from(updatedEnrollment);
     }
     
@@ -221,6 +247,8 @@ public class CourseEnrollmentService {
         enrollment.setProcessReason(reason);
 
         CourseEnrollment updatedEnrollment = enrollmentRepository.save(enrollment);
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(
+                enrollment.getUser().getId(), enrollment.getSession().getId(), EnrollmentStatus.REJECTED));
         return CourseEnrollmentResponse.from(updatedEnrollment);
     }
     
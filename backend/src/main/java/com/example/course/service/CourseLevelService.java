@@ -2,13 +2,15 @@ package com.example.course.service;
 
 import com.example.course.dto.CourseLevelResponse;
 import com.example.course.entity.CourseLevel;
+import com.example.course.event.CatalogChangedEvent;
+import com.example.course.event.CatalogChangedEvent.CatalogScope;
 import com.example.course.repository.CourseLevelRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 교육 과정 레벨 서비스
@@ -19,23 +21,25 @@ import java.util.stream.Collectors;
 public class CourseLevelService {
 
     private final CourseLevelRepository levelRepository;
+    private final ReferenceDataRegistry referenceData;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 모든 활성화된 레벨 목록 조회
+     * 모든 활성화된 레벨 목록 조회 (참조 데이터 레지스트리에서 조회)
      */
     public List<CourseLevelResponse> findAllActiveLevels() {
-        return levelRepository.findByActiveTrueOrderBySortOrderAsc().stream()
-                .map(CourseLevelResponse::from)
-                .collect(Collectors.toList());
+        return referenceData.getActiveLevels();
     }
 
     /**
      * 레벨 ID로 레벨 조회
      */
     public CourseLevelResponse findLevelById(Long id) {
-        CourseLevel level = levelRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("레벨을 찾을 수 없습니다. ID: " + id));
-        return CourseLevelResponse.from(level);
+        CourseLevelResponse level = referenceData.findLevel(id);
+        if (level == null) {
+            throw new RuntimeException("레벨을 찾을 수 없습니다. ID: " + id);
+        }
+        return level;
     }
 
     /**
@@ -56,6 +60,7 @@ public class CourseLevelService {
                 .build();
 
         CourseLevel savedLevel = levelRepository.save(level);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogScope.LEVEL));
         return CourseLevelResponse.from(savedLevel);
     }
 
@@ -73,6 +78,7 @@ public class CourseLevelService {
         }
 
         level.update(name, sortOrder, level.isActive(), description);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogScope.LEVEL));
         return CourseLevelResponse.from(level);
     }
 
@@ -84,5 +90,6 @@ public class CourseLevelService {
         CourseLevel level = levelRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("레벨을 찾을 수 없습니다. ID: " + id));
         level.setActive(active);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogScope.LEVEL));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,485 @@
+package com.example.course.service;
+
+import com.example.course.dto.CourseRecommendationResponse;
+import com.example.course.entity.Course;
+import com.example.course.repository.CourseBookmarkRepository;
+import com.example.course.repository.CourseEnrollmentRepository;
+import com.example.course.repository.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 과정 추천 서비스 ("이 과정을 수강한 학습자가 함께 수강한 과정")
+ * 수강 승인 및 즐겨찾기 신호로 과정-과정 코사인 유사도를 주기적으로 계산하여
+ * 과정별 상위 N개 이웃만 메모리에 보관하고, 요청 시에는 조인 없이 메모리에서 응답함
+ *
+ * 신호는 (사용자 ID, 과정 ID, 신호 비트)를 하나의 long으로 인코딩한 정렬 배열로 보관하며,
+ * 유사도 계산은 과정/사용자를 밀집 int 인덱스로 변환한 원시 배열 위에서 수행함
+ * 증분 갱신은 새 신호로 벡터가 바뀐 과정과 그 과정과 함께 신호가 있는 과정의 이웃만 다시 계산하며,
+ * 즐겨찾기 삭제나 수강 취소처럼 사라진 신호는 전체 재생성 시 반영됨
+ * 응답 시에는 현재 활성 과정만 반환함 (이전 모델에서 이어받은 이웃 중 비활성화된 과정 제외)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CourseRecommendationService {
+
+    private static final int ENROLLED = 1;
+    private static final int BOOKMARKED = 2;
+    private static final long SIGNAL_MASK = 3L;
+    private static final long MAX_USER_ID = Integer.MAX_VALUE;
+    private static final long MAX_COURSE_ID = (1L << 30) - 1;
+
+    /**
+     * 증분 조회 경계에서 신호가 누락되지 않도록 겹쳐 조회하는 구간 (중복 신호는 병합되므로 무해)
+     */
+    private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(1);
+
+    private final CourseEnrollmentRepository enrollmentRepository;
+    private final CourseBookmarkRepository bookmarkRepository;
+    private final CourseRepository courseRepository;
+
+    /**
+     * 과정별로 보관할 이웃 수
+     */
+    @Value("${course.recommendation.neighbours:20}")
+    private int neighbourCount;
+
+    /**
+     * 즐겨찾기 신호 가중치 (수강 승인 신호는 1.0)
+     */
+    @Value("${course.recommendation.bookmark-weight:0.5}")
+    private float bookmarkWeight;
+
+    private volatile RecommendationModel model = RecommendationModel.EMPTY;
+
+    /**
+     * 특정 과정과 함께 수강/즐겨찾기된 과정 추천
+     * @param courseId 기준 과정 ID
+     * @param limit 최대 추천 수 (0 이하이면 빈 목록)
+     * @return 추천 과정 목록 (점수 내림차순)
+     */
+    public List<CourseRecommendationResponse> recommendForCourse(Long courseId, int limit) {
+        RecommendationModel current = model;
+        int index = current.matrix.indexOfCourse(courseId);
+        if (index < 0 || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        long[] ids = current.neighbourIds[index];
+        float[] scores = current.neighbourScores[index];
+        List<CourseRecommendationResponse> result = new ArrayList<>(Math.min(limit, ids.length));
+        for (int k = 0; k < ids.length && result.size() < limit; k++) {
+            if (current.catalog.indexOf(ids[k]) >= 0) {
+                result.add(current.catalog.toResponse(ids[k], scores[k]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 사용자의 수강/즐겨찾기 이력을 기반으로 한 개인화 추천
+     * 사용자가 이미 신호를 남긴 과정은 제외하고, 각 과정 이웃 점수를 합산하여 정렬함
+     * @param userId 사용자 ID
+     * @param limit 최대 추천 수 (0 이하이면 빈 목록)
+     * @return 추천 과정 목록 (점수 내림차순)
+     */
+    public List<CourseRecommendationResponse> recommendForUser(Long userId, int limit) {
+        RecommendationModel current = model;
+        SignalMatrix matrix = current.matrix;
+        int user = matrix.indexOfUser(userId);
+        if (user < 0 || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        int[] taken = matrix.userCourses[user];
+        Map<Long, Double> candidates = new HashMap<>();
+        for (int course : taken) {
+            long[] ids = current.neighbourIds[course];
+            float[] scores = current.neighbourScores[course];
+            for (int k = 0; k < ids.length; k++) {
+                if (current.catalog.indexOf(ids[k]) >= 0) {
+                    candidates.merge(ids[k], (double) scores[k], Double::sum);
+                }
+            }
+        }
+        for (int course : taken) {
+            candidates.remove(matrix.courseIds[course]);
+        }
+
+        return candidates.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(entry -> current.catalog.toResponse(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * 전체 재생성: 모든 신호를 다시 읽어 유사도 행렬 전체를 계산
+     */
+    @Scheduled(cron = "${course.recommendation.full-rebuild-cron:0 0 3 * * *}")
+    public synchronized void rebuild() {
+        LocalDateTime watermark = LocalDateTime.now().minus(WATERMARK_OVERLAP);
+        long[] signals = encodeSignals(
+                enrollmentRepository.findApprovedUserCoursePairs(),
+                bookmarkRepository.findUserCoursePairs());
+
+        SignalMatrix matrix = SignalMatrix.of(signals, bookmarkWeight);
+        CourseCatalog catalog = loadCatalog();
+        BitSet all = new BitSet(matrix.courseIds.length);
+        all.set(0, matrix.courseIds.length);
+
+        model = computeModel(signals, matrix, catalog, watermark, all, RecommendationModel.EMPTY);
+        log.info("과정 추천 모델 재생성 완료. 신호 수: {}, 과정 수: {}", signals.length, matrix.courseIds.length);
+    }
+
+    /**
+     * 증분 갱신: 마지막 갱신 이후의 신호만 읽어 병합하고, 영향을 받은 과정의 이웃만 다시 계산
+     * 새 신호가 있는 사용자의 과정은 벡터(노름)가 바뀌므로, 그 과정과 공동 신호가 있는 과정의 점수도 바뀌어
+     * 두 단계(새 신호 과정 → 그 과정을 함께 가진 사용자의 과정)까지 다시 계산함
+     * 모델이 아직 없으면 전체 재생성을 수행
+     */
+    @Scheduled(fixedDelayString = "${course.recommendation.refresh-interval-ms:600000}",
+               initialDelayString = "${course.recommendation.initial-delay-ms:30000}")
+    public synchronized void refresh() {
+        RecommendationModel current = model;
+        if (current.watermark == null) {
+            rebuild();
+            return;
+        }
+
+        LocalDateTime watermark = LocalDateTime.now().minus(WATERMARK_OVERLAP);
+        long[] fresh = encodeSignals(
+                enrollmentRepository.findApprovedUserCoursePairsProcessedAfter(current.watermark),
+                bookmarkRepository.findUserCoursePairsBookmarkedAfter(current.watermark));
+        if (fresh.length == 0) {
+            return;
+        }
+
+        long[] merged = new long[current.signals.length + fresh.length];
+        System.arraycopy(current.signals, 0, merged, 0, current.signals.length);
+        System.arraycopy(fresh, 0, merged, current.signals.length, fresh.length);
+        long[] signals = normalize(merged, merged.length);
+
+        SignalMatrix matrix = SignalMatrix.of(signals, bookmarkWeight);
+        BitSet changed = new BitSet(matrix.courseIds.length);
+        for (long key : fresh) {
+            int user = matrix.indexOfUser(key >>> 32);
+            for (int course : matrix.userCourses[user]) {
+                changed.set(course);
+            }
+        }
+        BitSet affected = (BitSet) changed.clone();
+        for (int course = changed.nextSetBit(0); course >= 0; course = changed.nextSetBit(course + 1)) {
+            for (int user : matrix.courseUsers[course]) {
+                for (int other : matrix.userCourses[user]) {
+                    affected.set(other);
+                }
+            }
+        }
+
+        model = computeModel(signals, matrix, loadCatalog(), watermark, affected, current);
+        log.debug("과정 추천 모델 증분 갱신 완료. 신규 신호 수: {}, 재계산 과정 수: {}", fresh.length, affected.cardinality());
+    }
+
+    /**
+     * 지정된 과정의 이웃은 새로 계산하고, 나머지는 이전 모델의 이웃을 그대로 사용
+     */
+    private RecommendationModel computeModel(long[] signals, SignalMatrix matrix, CourseCatalog catalog,
+                                             LocalDateTime watermark, BitSet recompute, RecommendationModel previous) {
+        int courseCount = matrix.courseIds.length;
+        long[][] neighbourIds = new long[courseCount][];
+        float[][] neighbourScores = new float[courseCount][];
+        float[] accumulator = new float[courseCount];
+        int[] touched = new int[courseCount];
+
+        for (int course = 0; course < courseCount; course++) {
+            int previousIndex = previous.matrix.indexOfCourse(matrix.courseIds[course]);
+            if (!recompute.get(course) && previousIndex >= 0) {
+                neighbourIds[course] = previous.neighbourIds[previousIndex];
+                neighbourScores[course] = previous.neighbourScores[previousIndex];
+                continue;
+            }
+            computeNeighbours(matrix, catalog, course, accumulator, touched, neighbourIds, neighbourScores);
+        }
+
+        return new RecommendationModel(signals, matrix, neighbourIds, neighbourScores, catalog, watermark);
+    }
+
+    /**
+     * 한 과정의 상위 N개 이웃 계산 (공동 신호 가중합 / 두 과정 벡터 노름의 곱)
+     */
+    private void computeNeighbours(SignalMatrix matrix, CourseCatalog catalog, int course,
+                                   float[] accumulator, int[] touched,
+                                   long[][] neighbourIds, float[][] neighbourScores) {
+        int touchedCount = 0;
+        int[] users = matrix.courseUsers[course];
+        float[] userWeights = matrix.courseUserWeights[course];
+        for (int a = 0; a < users.length; a++) {
+            int[] courses = matrix.userCourses[users[a]];
+            float[] weights = matrix.userWeights[users[a]];
+            for (int b = 0; b < courses.length; b++) {
+                int other = courses[b];
+                if (other == course) {
+                    continue;
+                }
+                if (accumulator[other] == 0f) {
+                    touched[touchedCount++] = other;
+                }
+                accumulator[other] += userWeights[a] * weights[b];
+            }
+        }
+
+        int capacity = Math.max(neighbourCount, 0);
+        long[] topIds = new long[capacity];
+        float[] topScores = new float[capacity];
+        int size = 0;
+        for (int t = 0; t < touchedCount; t++) {
+            int other = touched[t];
+            float score = (float) (accumulator[other] / (matrix.norms[course] * matrix.norms[other]));
+            accumulator[other] = 0f;
+
+            long otherId = matrix.courseIds[other];
+            if (capacity == 0 || catalog.indexOf(otherId) < 0 || (size == capacity && score <= topScores[size - 1])) {
+                continue;
+            }
+            int position = size < capacity ? size++ : capacity - 1;
+            while (position > 0 && topScores[position - 1] < score) {
+                topScores[position] = topScores[position - 1];
+                topIds[position] = topIds[position - 1];
+                position--;
+            }
+            topScores[position] = score;
+            topIds[position] = otherId;
+        }
+
+        neighbourIds[course] = Arrays.copyOf(topIds, size);
+        neighbourScores[course] = Arrays.copyOf(topScores, size);
+    }
+
+    private CourseCatalog loadCatalog() {
+        List<Course> courses = new ArrayList<>(courseRepository.findByActiveTrue());
+        courses.sort(Comparator.comparing(Course::getId));
+
+        long[] ids = new long[courses.size()];
+        String[] codes = new String[courses.size()];
+        String[] names = new String[courses.size()];
+        for (int i = 0; i < courses.size(); i++) {
+            ids[i] = courses.get(i).getId();
+            codes[i] = courses.get(i).getCode();
+            names[i] = courses.get(i).getName();
+        }
+        return new CourseCatalog(ids, codes, names);
+    }
+
+    /**
+     * (사용자 ID, 과정 ID) 쌍 목록을 정렬/병합된 신호 배열로 변환
+     */
+    private long[] encodeSignals(List<Object[]> enrollments, List<Object[]> bookmarks) {
+        long[] keys = new long[enrollments.size() + bookmarks.size()];
+        int size = encodeInto(enrollments, ENROLLED, keys, 0);
+        size = encodeInto(bookmarks, BOOKMARKED, keys, size);
+        return normalize(keys, size);
+    }
+
+    private int encodeInto(List<Object[]> pairs, int signal, long[] keys, int size) {
+        for (Object[] pair : pairs) {
+            long userId = ((Number) pair[0]).longValue();
+            long courseId = ((Number) pair[1]).longValue();
+            if (userId > MAX_USER_ID || courseId > MAX_COURSE_ID) {
+                log.warn("추천 신호 인코딩 범위를 벗어난 ID는 제외됩니다. 사용자: {}, 과정: {}", userId, courseId);
+                continue;
+            }
+            keys[size++] = (userId << 32) | (courseId << 2) | signal;
+        }
+        return size;
+    }
+
+    /**
+     * 신호 배열을 정렬하고 같은 (사용자, 과정) 쌍의 신호 비트를 하나로 병합
+     */
+    private static long[] normalize(long[] keys, int size) {
+        Arrays.sort(keys, 0, size);
+        int out = 0;
+        for (int k = 0; k < size; k++) {
+            if (out > 0 && (keys[out - 1] & ~SIGNAL_MASK) == (keys[k] & ~SIGNAL_MASK)) {
+                keys[out - 1] |= keys[k] & SIGNAL_MASK;
+            } else {
+                keys[out++] = keys[k];
+            }
+        }
+        return Arrays.copyOf(keys, out);
+    }
+
+    private static long courseOf(long key) {
+        return (key >>> 2) & MAX_COURSE_ID;
+    }
+
+    /**
+     * 사용자-과정 신호 희소 행렬 (밀집 인덱스 기반 원시 배열)
+     */
+    private static final class SignalMatrix {
+
+        final long[] userIds;
+        final long[] courseIds;
+        final int[][] userCourses;
+        final float[][] userWeights;
+        final int[][] courseUsers;
+        final float[][] courseUserWeights;
+        final double[] norms;
+
+        private SignalMatrix(long[] userIds, long[] courseIds, int[][] userCourses, float[][] userWeights,
+                             int[][] courseUsers, float[][] courseUserWeights, double[] norms) {
+            this.userIds = userIds;
+            this.courseIds = courseIds;
+            this.userCourses = userCourses;
+            this.userWeights = userWeights;
+            this.courseUsers = courseUsers;
+            this.courseUserWeights = courseUserWeights;
+            this.norms = norms;
+        }
+
+        /**
+         * 정렬/병합된 신호 배열로 행렬 생성 (신호는 사용자 ID 순으로 정렬되어 있음)
+         */
+        static SignalMatrix of(long[] signals, float bookmarkWeight) {
+            long[] users = new long[signals.length];
+            long[] courses = new long[signals.length];
+            int userCount = 0;
+            for (int k = 0; k < signals.length; k++) {
+                long userId = signals[k] >>> 32;
+                if (userCount == 0 || users[userCount - 1] != userId) {
+                    users[userCount++] = userId;
+                }
+                courses[k] = courseOf(signals[k]);
+            }
+            long[] userIds = Arrays.copyOf(users, userCount);
+            long[] courseIds = Arrays.stream(courses).sorted().distinct().toArray();
+
+            int[][] userCourses = new int[userCount][];
+            float[][] userWeights = new float[userCount][];
+            int[] courseDegrees = new int[courseIds.length];
+            int start = 0;
+            for (int user = 0; user < userCount; user++) {
+                int end = start;
+                while (end < signals.length && (signals[end] >>> 32) == userIds[user]) {
+                    end++;
+                }
+                userCourses[user] = new int[end - start];
+                userWeights[user] = new float[end - start];
+                for (int k = start; k < end; k++) {
+                    int course = Arrays.binarySearch(courseIds, courses[k]);
+                    int bits = (int) (signals[k] & SIGNAL_MASK);
+                    userCourses[user][k - start] = course;
+                    userWeights[user][k - start] = ((bits & ENROLLED) != 0 ? 1f : 0f)
+                            + ((bits & BOOKMARKED) != 0 ? bookmarkWeight : 0f);
+                    courseDegrees[course]++;
+                }
+                start = end;
+            }
+
+            int[][] courseUsers = new int[courseIds.length][];
+            float[][] courseUserWeights = new float[courseIds.length][];
+            for (int course = 0; course < courseIds.length; course++) {
+                courseUsers[course] = new int[courseDegrees[course]];
+                courseUserWeights[course] = new float[courseDegrees[course]];
+            }
+            int[] fill = new int[courseIds.length];
+            double[] norms = new double[courseIds.length];
+            for (int user = 0; user < userCount; user++) {
+                for (int k = 0; k < userCourses[user].length; k++) {
+                    int course = userCourses[user][k];
+                    float weight = userWeights[user][k];
+                    courseUsers[course][fill[course]] = user;
+                    courseUserWeights[course][fill[course]++] = weight;
+                    norms[course] += weight * weight;
+                }
+            }
+            for (int course = 0; course < norms.length; course++) {
+                norms[course] = Math.sqrt(norms[course]);
+            }
+
+            return new SignalMatrix(userIds, courseIds, userCourses, userWeights, courseUsers, courseUserWeights, norms);
+        }
+
+        int indexOfUser(long userId) {
+            return Arrays.binarySearch(userIds, userId);
+        }
+
+        int indexOfCourse(long courseId) {
+            return Arrays.binarySearch(courseIds, courseId);
+        }
+    }
+
+    /**
+     * 활성 과정 정보 (ID 정렬 배열)
+     */
+    private static final class CourseCatalog {
+
+        static final CourseCatalog EMPTY = new CourseCatalog(new long[0], new String[0], new String[0]);
+
+        final long[] ids;
+        final String[] codes;
+        final String[] names;
+
+        CourseCatalog(long[] ids, String[] codes, String[] names) {
+            this.ids = ids;
+            this.codes = codes;
+            this.names = names;
+        }
+
+        int indexOf(long courseId) {
+            return Arrays.binarySearch(ids, courseId);
+        }
+
+        CourseRecommendationResponse toResponse(long courseId, double score) {
+            int index = indexOf(courseId);
+            return CourseRecommendationResponse.builder()
+                    .courseId(courseId)
+                    .code(index >= 0 ? codes[index] : null)
+                    .name(index >= 0 ? names[index] : null)
+                    .score(score)
+                    .build();
+        }
+    }
+
+    /**
+     * 불변 추천 모델 (과정 밀집 인덱스별 상위 이웃)
+     */
+    private static final class RecommendationModel {
+
+        static final RecommendationModel EMPTY = new RecommendationModel(new long[0], SignalMatrix.of(new long[0], 0f),
+                new long[0][], new float[0][], CourseCatalog.EMPTY, null);
+
+        final long[] signals;
+        final SignalMatrix matrix;
+        final long[][] neighbourIds;
+        final float[][] neighbourScores;
+        final CourseCatalog catalog;
+        final LocalDateTime watermark;
+
+        RecommendationModel(long[] signals, SignalMatrix matrix, long[][] neighbourIds, float[][] neighbourScores,
+                            CourseCatalog catalog, LocalDateTime watermark) {
+            this.signals = signals;
+            this.matrix = matrix;
+            this.neighbourIds = neighbourIds;
+            this.neighbourScores = neighbourScores;
+            this.catalog = catalog;
+            this.watermark = watermark;
+        }
+    }
+}
@@ -1,20 +1,25 @@
 package com.example.course.service;
 
+import com.example.common.cache.SingleFlight;
 import com.example.course.dto.CourseResponse;
 import com.example.course.dto.CourseCreateRequest;
 import com.example.course.dto.CourseUpdateRequest;
 import com.example.course.entity.Course;
-import com.example.course.entity.CourseCategory;
-import com.example.course.entity.CourseType;
+import com.example.course.event.CatalogChangedEvent;
+import com.example.course.event.CatalogChangedEvent.CatalogScope;
 import com.example.course.repository.CourseCategoryRepository;
 import com.example.course.repository.CourseRepository;
 import com.example.course.repository.CourseTypeRepository;
+import com.example.course.service.ReferenceDataRegistry.CategoryRef;
+import com.example.course.service.ReferenceDataRegistry.TypeRef;
 import com.example.common.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,30 +30,45 @@ public class CourseService {
     private final CourseRepository courseRepository;
     private final CourseCategoryRepository categoryRepository;
     private final CourseTypeRepository typeRepository;
+    private final ReferenceDataRegistry referenceData;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 동시 조회 병합 (캐시 만료/무효화 직후 동일 조회가 몰릴 때 한 번만 조회)
+     */
+    private final SingleFlight<String, List<CourseResponse>> courseListLoads = new SingleFlight<>();
+    private final SingleFlight<Long, CourseResponse> courseLoads = new SingleFlight<>();
 
     /**
      * 모든 활성화된 과정 목록 조회
      */
     public List<CourseResponse> findAllActiveCourses() {
-        return courseRepository.findByActiveTrue().stream()
+        return courseListLoads.load("active", () -> courseRepository.findByActiveTrue().stream()
                 .map(CourseResponse::from)
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList()));
     }
 
     /**
      * 과정 ID로 과정 조회
      */
     public CourseResponse findCourseById(Long id) {
-        Course course = courseRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("과정을 찾을 수 없습니다. ID: " + id));
-        return CourseResponse.from(course);
+        return courseLoads.load(id, () -> {
+            Course course = courseRepository.findById(id)
+                    .orElseThrow(() -> new EntityNotFoundException("과정을 찾을 수 없습니다. ID: " + id));
+            return CourseResponse.from(course);
+        });
     }
 
     /**
      * 카테고리별 과정 목록 조회
+     * @param categoryId 카테고리 ID
+     * @param includeSubcategories 하위 카테고리의 과정 포함 여부
      */
-    public List<CourseResponse> findCoursesByCategory(Long categoryId) {
-        return courseRepository.findByCategoryId(categoryId).stream()
+    public List<CourseResponse> findCoursesByCategory(Long categoryId, boolean includeSubcategories) {
+        List<Course> courses = includeSubcategories
+                ? courseRepository.findByCategorySubtree(categoryId)
+                : courseRepository.findByCategoryId(categoryId);
+        return courses.stream()
                 .map(CourseResponse::from)
                 .collect(Collectors.toList());
     }
@@ -58,11 +78,15 @@ public class CourseService {
      */
     @Transactional
     public CourseResponse createCourse(CourseCreateRequest request) {
-        CourseCategory category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new EntityNotFoundException("카테고리를 찾을 수 없습니다. ID: " + request.getCategoryId()));
+        CategoryRef category = referenceData.findCategory(request.getCategoryId());
+        if (category == null) {
+            throw new EntityNotFoundException("카테고리를 찾을 수 없습니다. ID: " + request.getCategoryId());
+        }
         
-        CourseType type = typeRepository.findById(request.getTypeId())
-                .orElseThrow(() -> new EntityNotFoundException("과정 유형을 찾을 수 없습니다. ID: " + request.getTypeId()));
+        TypeRef type = referenceData.findType(request.getTypeId());
+        if (type == null) {
+            throw new EntityNotFoundException("과정 유형을 찾을 수 없습니다. ID: " + request.getTypeId());
+        }
         
         Course course = Course.builder()
                 .code(request.getCode())
@@ -73,12 +97,16 @@ public class CourseService {
                 .maxEnrollment(request.getMaxEnrollment())
                 .minEnrollment(request.getMinEnrollment())
                 .active(request.isActive())
-                .category(category)
-                .type(type)
+                .category(categoryRepository.getReferenceById(category.id()))
+                .type(typeRepository.getReferenceById(type.id()))
                 .build();
         
         Course savedCourse = courseRepository.save(course);
-        return CourseResponse.from(savedCourse);
+        if (savedCourse.isActive()) {
+            categoryRepository.adjustCourseCounts(category.id(), 1);
+        }
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogScope.COURSE));
+        return CourseResponse.from(savedCourse, category.name(), type.name());
     }
 
     /**
@@ -88,17 +116,21 @@ public class CourseService {
     public CourseResponse updateCourse(Long id, CourseUpdateRequest request) {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("과정을 찾을 수 없습니다. ID: " + id));
+        Long previousCategoryId = course.getCategory() != null ? course.getCategory().getId() : null;
+        boolean wasActive = course.isActive();
         
         if (request.getCategoryId() != null) {
-            CourseCategory category = categoryRepository.findById(request.getCategoryId())
-                    .orElseThrow(() -> new EntityNotFoundException("카테고리를 찾을 수 없습니다. ID: " + request.getCategoryId()));
-            course.setCategory(category);
+            if (referenceData.findCategory(request.getCategoryId()) == null) {
+                throw new EntityNotFoundException("카테고리를 찾을 수 없습니다. ID: " + request.getCategoryId());
+            }
+            course.setCategory(categoryRepository.getReferenceById(request.getCategoryId()));
         }
         
         if (request.getTypeId() != null) {
-            CourseType type = typeRepository.findById(request.getTypeId())
-                    .orElseThrow(() -> new EntityNotFoundException("과정 유형을 찾을 수 없습니다. ID: " + request.getTypeId()));
-            course.setType(type);
+            if (referenceData.findType(request.getTypeId()) == null) {
+                throw new EntityNotFoundException("과정 유형을 찾을 수 없습니다. ID: " + request.getTypeId());
+            }
+            course.setType(typeRepository.getReferenceById(request.getTypeId()));
         }
         
         if (request.getName() != null) course.setName(request.getName());
@@ -110,6 +142,9 @@ public class CourseService {
         if (request.getActive() != null) course.setActive(request.getActive());
         
         Course updatedCourse = courseRepository.save(course);
+        updateCategoryCourseCounts(previousCategoryId, wasActive,
+                updatedCourse.getCategory() != null ? updatedCourse.getCategory().getId() : null, updatedCourse.isActive());
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogScope.COURSE));
         return CourseResponse.from(updatedCourse);
     }
 
@@ -120,7 +155,27 @@ public class CourseService {
     public void deactivateCourse(Long id) {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("과정을 찾을 수 없습니다. ID: " + id));
+        boolean wasActive = course.isActive();
         course.setActive(false);
         courseRepository.save(course);
+        if (wasActive && course.getCategory() != null) {
+            categoryRepository.adjustCourseCounts(course.getCategory().getId(), -1);
+        }
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogScope.COURSE));
+    }
+
+    /**
+     * 과정의 카테고리 이동/활성 상태 변경을 카테고리별 활성 과정 수에 반영 (상위 카테고리까지 전파)
+     */
+    private void updateCategoryCourseCounts(Long previousCategoryId, boolean wasActive, Long categoryId, boolean active) {
+        if (Objects.equals(previousCategoryId, categoryId) && wasActive == active) {
+            return;
+        }
+        if (wasActive && previousCategoryId != null) {
+            categoryRepository.adjustCourseCounts(previousCategoryId, -1);
+        }
+        if (active && categoryId != null) {
+            categoryRepository.adjustCourseCounts(categoryId, 1);
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,246 @@
+package com.example.course.service;
+
+import com.example.common.index.IntervalIndex;
+import com.example.course.dto.CourseSessionResponse;
+import com.example.course.entity.CourseSession;
+import com.example.course.entity.CourseSessionStatus;
+import com.example.course.event.CatalogChangedEvent;
+import com.example.course.event.CatalogChangedEvent.CatalogScope;
+import com.example.course.event.CourseSessionChangedEvent;
+import com.example.course.event.CourseSessionStatusChangedEvent;
+import com.example.course.repository.CourseSessionRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 교육 과정 차수 달력 조회 서비스
+ * 차수의 교육 기간(startDate~endDate)과 모집 기간(recruitmentStartAt~recruitmentEndAt)을
+ * 메모리 구간 인덱스로 보관하여 달력/모집 중 위젯 조회를 SQL 없이 처리
+ *
+ * 인덱스는 첫 조회 시 한 번 적재되며, 이후에는 차수 변경 이벤트로 모인 차수 ID를 주기적으로
+ * (course.session.calendar-refresh-ms) 한 번에 다시 읽어 새 인덱스를 만들어 교체함
+ * 수강 인원 변경처럼 잦은 변경도 주기당 한 번만 다시 만들며, 조회 중인 요청은 이전 인덱스를 그대로 사용함
+ * 취소된 차수는 인덱스에 포함하지 않음
+ */
+@Service
+public class CourseSessionCalendarService {
+
+    private final CourseSessionRepository sessionRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile CalendarIndex index;
+
+    /**
+     * 아직 인덱스에 반영되지 않은 변경 차수 ID
+     */
+    private final Set<Long> changedSessionIds = ConcurrentHashMap.newKeySet();
+
+    public CourseSessionCalendarService(CourseSessionRepository sessionRepository,
+                                        PlatformTransactionManager transactionManager) {
+        this.sessionRepository = sessionRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 기간 내 교육이 진행되는 차수 조회 (교육 기간이 [from, to]와 겹치는 차수)
+     * @param from 조회 시작일
+     * @param to 조회 종료일
+     * @param categoryId 카테고리 ID (선택)
+     * @param courseId 교육 과정 ID (선택)
+     * @return 차수 목록 (교육 시작일 오름차순)
+     */
+    public List<CourseSessionResponse> findRunning(LocalDate from, LocalDate to, Long categoryId, Long courseId) {
+        return filter(current().running.query(from.toEpochDay(), to.toEpochDay()), categoryId, courseId);
+    }
+
+    /**
+     * 기간 내 모집하는 차수 조회 (모집 기간이 [from, to]와 겹치는 차수)
+     * @param from 조회 시작일
+     * @param to 조회 종료일
+     * @param categoryId 카테고리 ID (선택)
+     * @param courseId 교육 과정 ID (선택)
+     * @return 차수 목록 (모집 시작일시 오름차순)
+     */
+    public List<CourseSessionResponse> findRecruiting(LocalDate from, LocalDate to, Long categoryId, Long courseId) {
+        long start = toEpochSecond(from.atStartOfDay());
+        long end = toEpochSecond(to.atTime(LocalTime.MAX));
+        return filter(current().recruiting.query(start, end), categoryId, courseId);
+    }
+
+    /**
+     * 현재 모집 중인 차수 조회
+     * @param categoryId 카테고리 ID (선택)
+     * @param courseId 교육 과정 ID (선택)
+     * @return 차수 목록 (모집 시작일시 오름차순)
+     */
+    public List<CourseSessionResponse> findRecruitingNow(Long categoryId, Long courseId) {
+        long now = toEpochSecond(LocalDateTime.now());
+        return filter(current().recruiting.query(now, now), categoryId, courseId);
+    }
+
+    /**
+     * 차수 변경 커밋 이후 변경된 차수 ID 기록 (다음 반영 주기에 다시 읽음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionChanged(CourseSessionChangedEvent event) {
+        changedSessionIds.addAll(event.getSessionIds());
+    }
+
+    /**
+     * 일정에 따른 상태 일괄 전환 커밋 이후 전환된 차수 ID 기록 (다음 반영 주기에 다시 읽음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionStatusChanged(CourseSessionStatusChangedEvent event) {
+        changedSessionIds.addAll(event.getSessionIds());
+    }
+
+    /**
+     * 모인 변경 차수를 한 번에 다시 읽어 인덱스 교체
+     * @return 다시 읽은 차수 수
+     */
+    @Scheduled(fixedDelayString = "${course.session.calendar-refresh-ms:1000}")
+    public int refreshChanged() {
+        if (changedSessionIds.isEmpty()) {
+            return 0;
+        }
+        // 꺼낸 뒤에 DB 를 읽으므로, 꺼내는 사이 다시 기록된 변경도 이번에 읽는 값에 포함됨
+        List<Long> sessionIds = new ArrayList<>(changedSessionIds);
+        sessionIds.forEach(changedSessionIds::remove);
+        refresh(sessionIds);
+        return sessionIds.size();
+    }
+
+    /**
+     * 과정 변경(카테고리 이동, 비활성화 등) 커밋 이후 인덱스 폐기 (다음 조회 시 전체 재적재)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.getScope() == CatalogScope.COURSE || event.getScope() == CatalogScope.CATEGORY) {
+            synchronized (this) {
+                index = null;
+            }
+        }
+    }
+
+    private CalendarIndex current() {
+        CalendarIndex current = index;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (index == null) {
+                index = CalendarIndex.of(readOnlyTransaction.execute(status ->
+                        toEntries(sessionRepository.findAllWithCourse())));
+            }
+            return index;
+        }
+    }
+
+    private synchronized void refresh(Collection<Long> sessionIds) {
+        CalendarIndex current = index;
+        if (current == null || sessionIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, SessionEntry> entries = new HashMap<>(current.entries);
+        sessionIds.forEach(entries::remove);
+        entries.putAll(readOnlyTransaction.execute(status ->
+                toEntries(sessionRepository.findAllWithCourseByIdIn(sessionIds))));
+        index = CalendarIndex.of(entries);
+    }
+
+    private static Map<Long, SessionEntry> toEntries(List<CourseSession> sessions) {
+        Map<Long, SessionEntry> entries = new HashMap<>(sessions.size() * 2);
+        for (CourseSession session : sessions) {
+            if (session.getStatus() == CourseSessionStatus.CANCELLED) {
+                continue;
+            }
+            Long categoryId = session.getCourse() != null && session.getCourse().getCategory() != null
+                    ? session.getCourse().getCategory().getId() : null;
+            entries.put(session.getId(), new SessionEntry(CourseSessionResponse.from(session), categoryId));
+        }
+        return entries;
+    }
+
+    private static List<CourseSessionResponse> filter(List<SessionEntry> entries, Long categoryId, Long courseId) {
+        if (entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return entries.stream()
+                .filter(entry -> categoryId == null || categoryId.equals(entry.categoryId()))
+                .filter(entry -> courseId == null || courseId.equals(entry.session().getCourseId()))
+                .map(SessionEntry::session)
+                .toList();
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * 인덱스 항목 (응답 DTO와 필터용 카테고리 ID)
+     */
+    private record SessionEntry(CourseSessionResponse session, Long categoryId) {
+    }
+
+    /**
+     * 불변 차수 인덱스 (교육 기간: epoch day, 모집 기간: epoch second)
+     */
+    private static final class CalendarIndex {
+
+        final Map<Long, SessionEntry> entries;
+        final IntervalIndex<SessionEntry> running;
+        final IntervalIndex<SessionEntry> recruiting;
+
+        private CalendarIndex(Map<Long, SessionEntry> entries,
+                              IntervalIndex<SessionEntry> running,
+                              IntervalIndex<SessionEntry> recruiting) {
+            this.entries = entries;
+            this.running = running;
+            this.recruiting = recruiting;
+        }
+
+        static CalendarIndex of(Map<Long, SessionEntry> entries) {
+            IntervalIndex.Builder<SessionEntry> running = IntervalIndex.builder();
+            IntervalIndex.Builder<SessionEntry> recruiting = IntervalIndex.builder();
+
+            for (SessionEntry entry : entries.values()) {
+                CourseSessionResponse session = entry.session();
+                if (session.getStartDate() != null && session.getEndDate() != null
+                        && !session.getEndDate().isBefore(session.getStartDate())) {
+                    running.add(session.getStartDate().toEpochDay(), session.getEndDate().toEpochDay(), entry);
+                }
+
+                LocalDateTime recruitmentStart = session.getRecruitmentStartAt();
+                LocalDateTime recruitmentEnd = session.getRecruitmentEndAt();
+                if (recruitmentStart == null && recruitmentEnd == null) {
+                    continue;
+                }
+                long start = recruitmentStart != null ? toEpochSecond(recruitmentStart) : Long.MIN_VALUE;
+                long end = recruitmentEnd != null ? toEpochSecond(recruitmentEnd) : Long.MAX_VALUE;
+                if (start <= end) {
+                    recruiting.add(start, end, entry);
+                }
+            }
+
+            return new CalendarIndex(Map.copyOf(entries), running.build(), recruiting.build());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.course.service;
+
+import com.example.course.entity.CourseSessionStatus;
+import com.example.course.event.CourseSessionStatusChangedEvent;
+import com.example.course.repository.CourseSessionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 교육 과정 차수 상태 전환 서비스
+ * 주기적으로 날짜가 도래한 차수의 상태를 일괄 전환하여, 상태 조건 조회가 날짜를 다시 계산하지 않고
+ * (status, 날짜) 인덱스만으로 정확한 결과를 반환하도록 함
+ *
+ * 전환 순서: 예정 → 모집 중 → 모집 마감 → 진행 중 → 종료 (취소된 차수는 대상에서 제외)
+ * 각 전환의 날짜 조건은 서로 겹치지 않으므로, 여러 단계를 건너뛴 차수도 한 번에 최종 상태로 전환됨
+ */
+@Service
+@RequiredArgsConstructor
+public class CourseSessionLifecycleService {
+
+    /**
+     * 한 번의 UPDATE에 포함할 최대 차수 수
+     */
+    private static final int UPDATE_CHUNK_SIZE = 1000;
+
+    private static final Set<CourseSessionStatus> BEFORE_RECRUITING =
+            EnumSet.of(CourseSessionStatus.UPCOMING);
+    private static final Set<CourseSessionStatus> BEFORE_RECRUITMENT_CLOSED =
+            EnumSet.of(CourseSessionStatus.UPCOMING, CourseSessionStatus.RECRUITING);
+    private static final Set<CourseSessionStatus> BEFORE_IN_PROGRESS =
+            EnumSet.of(CourseSessionStatus.UPCOMING, CourseSessionStatus.RECRUITING,
+                    CourseSessionStatus.RECRUITMENT_CLOSED);
+    private static final Set<CourseSessionStatus> BEFORE_COMPLETED =
+            EnumSet.of(CourseSessionStatus.UPCOMING, CourseSessionStatus.RECRUITING,
+                    CourseSessionStatus.RECRUITMENT_CLOSED, CourseSessionStatus.IN_PROGRESS);
+
+    private final CourseSessionRepository sessionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 날짜가 도래한 상태 전환 일괄 적용
+     * @return 상태가 전환된 차수 수
+     */
+    @Scheduled(fixedDelayString = "${course.session.lifecycle-interval-ms:60000}",
+               initialDelayString = "${course.session.lifecycle-initial-delay-ms:10000}")
+    @Transactional
+    public int applyDueTransitions() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+
+        int transitioned = 0;
+        transitioned += transition(sessionRepository.findIdsEndedBefore(BEFORE_COMPLETED, today),
+                BEFORE_COMPLETED, CourseSessionStatus.COMPLETED);
+        transitioned += transition(sessionRepository.findIdsRunningOn(BEFORE_IN_PROGRESS, today),
+                BEFORE_IN_PROGRESS, CourseSessionStatus.IN_PROGRESS);
+        transitioned += transition(sessionRepository.findIdsRecruitmentEndedAt(BEFORE_RECRUITMENT_CLOSED, now, today),
+                BEFORE_RECRUITMENT_CLOSED, CourseSessionStatus.RECRUITMENT_CLOSED);
+        transitioned += transition(sessionRepository.findIdsRecruitingAt(BEFORE_RECRUITING, now, today),
+                BEFORE_RECRUITING, CourseSessionStatus.RECRUITING);
+        return transitioned;
+    }
+
+    private int transition(List<Long> ids, Set<CourseSessionStatus> from, CourseSessionStatus to) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int updated = 0;
+        for (int start = 0; start < ids.size(); start += UPDATE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(start, Math.min(start + UPDATE_CHUNK_SIZE, ids.size()));
+            updated += sessionRepository.updateStatus(chunk, from, to);
+        }
+
+        eventPublisher.publishEvent(new CourseSessionStatusChangedEvent(List.copyOf(ids), to));
+        return updated;
+    }
+}
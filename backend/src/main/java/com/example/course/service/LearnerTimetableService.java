@@ -0,0 +1,224 @@
+package com.example.course.service;
+
+import com.example.common.index.IntervalIndex;
+import com.example.course.dto.TimetableSlotResponse;
+import com.example.course.entity.CourseSchedule;
+import com.example.course.entity.CourseSession;
+import com.example.course.event.EnrollmentChangedEvent;
+import com.example.course.repository.CourseSessionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 학습자 시간표 서비스
+ * 사용자별로 승인된 차수의 수업 일정을 구간 인덱스로 보관하여
+ * 수강 신청 시 일정 중복을 O(log n)으로 확인하고, 내 시간표 조회도 같은 구조에서 응답함
+ *
+ * 일정(CourseSchedule)이 있는 차수는 각 수업 시간을, 일정이 없는 차수는 교육 기간 전체를 하나의 구간으로 사용
+ * 시간표는 처음 필요할 때 사용자당 한 번의 쿼리로 적재되며, 이후 승인/취소 이벤트로 해당 차수만 추가/제거됨
+ */
+@Service
+public class LearnerTimetableService {
+
+    private final CourseSessionRepository sessionRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<Long, UserTimetable> timetables;
+
+    public LearnerTimetableService(CourseSessionRepository sessionRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${course.timetable.cache-size:10000}") long cacheSize,
+                                   @Value("${course.timetable.expire-after-write-minutes:30}") long expireAfterWriteMinutes) {
+        this.sessionRepository = sessionRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.timetables = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .build();
+    }
+
+    /**
+     * 내 시간표 조회
+     * @param userId 사용자 ID
+     * @param from 조회 시작일 (null이면 제한 없음)
+     * @param to 조회 종료일 (null이면 제한 없음)
+     * @return 시간표 항목 목록 (시작 일시 오름차순)
+     */
+    public List<TimetableSlotResponse> getTimetable(Long userId, LocalDate from, LocalDate to) {
+        long start = from != null ? toEpochSecond(from.atStartOfDay()) : Long.MIN_VALUE;
+        long end = to != null ? toEpochSecond(to.atTime(LocalTime.MAX)) : Long.MAX_VALUE;
+        return timetableOf(userId).index.query(start, end);
+    }
+
+    /**
+     * 신청하려는 차수와 일정이 겹치는 기존 승인 차수 조회
+     * @param userId 사용자 ID
+     * @param session 신청하려는 차수
+     * @return 겹치는 차수 ID 목록 (없으면 빈 목록)
+     */
+    public List<Long> findConflictingSessionIds(Long userId, CourseSession session) {
+        UserTimetable timetable = timetableOf(userId);
+        if (timetable.slots.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<Long> conflicts = new LinkedHashSet<>();
+        for (TimetableSlotResponse slot : slotsOf(session)) {
+            timetable.index.query(startOf(slot), endOf(slot), existing -> {
+                if (!existing.getSessionId().equals(session.getId())) {
+                    conflicts.add(existing.getSessionId());
+                }
+            });
+        }
+        return new ArrayList<>(conflicts);
+    }
+
+    /**
+     * 수강 승인/취소 커밋 이후 적재된 시간표에 해당 차수를 추가/제거
+     * 시간표가 적재되지 않은 사용자는 다음 조회 시 최신 상태로 적재되므로 무시함
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        Long sessionId = event.getSessionId();
+        switch (event.getStatus()) {
+            case APPROVED -> {
+                if (timetables.getIfPresent(event.getUserId()) == null) {
+                    return;
+                }
+                List<TimetableSlotResponse> slots = readOnlyTransaction.execute(status ->
+                        sessionRepository.findWithSchedulesById(sessionId)
+                                .map(LearnerTimetableService::slotsOf)
+                                .orElse(Collections.emptyList()));
+                timetables.asMap().computeIfPresent(event.getUserId(),
+                        (userId, timetable) -> timetable.with(sessionId, slots));
+            }
+            case CANCELLED, REJECTED -> timetables.asMap().computeIfPresent(event.getUserId(),
+                    (userId, timetable) -> timetable.without(sessionId));
+            default -> {
+            }
+        }
+    }
+
+    private UserTimetable timetableOf(Long userId) {
+        return timetables.get(userId, id -> readOnlyTransaction.execute(status -> {
+            List<TimetableSlotResponse> slots = new ArrayList<>();
+            for (CourseSession session : sessionRepository.findApprovedSessionsWithSchedules(id)) {
+                slots.addAll(slotsOf(session));
+            }
+            return UserTimetable.of(slots);
+        }));
+    }
+
+    /**
+     * 차수의 시간표 항목 목록 (일정이 없으면 교육 기간 전체)
+     */
+    private static List<TimetableSlotResponse> slotsOf(CourseSession session) {
+        List<TimetableSlotResponse> slots = new ArrayList<>();
+        for (CourseSchedule schedule : session.getSchedules()) {
+            if (schedule.getStartAt() == null || schedule.getEndAt() == null) {
+                continue;
+            }
+            slots.add(slot(session, schedule.getTitle(), schedule.getStartAt(), schedule.getEndAt(),
+                    schedule.getLocation() != null ? schedule.getLocation() : session.getLocation()));
+        }
+        if (slots.isEmpty() && session.getStartDate() != null && session.getEndDate() != null) {
+            slots.add(slot(session, null, session.getStartDate().atStartOfDay(),
+                    session.getEndDate().atTime(LocalTime.MAX), session.getLocation()));
+        }
+        return slots;
+    }
+
+    private static TimetableSlotResponse slot(CourseSession session, String title,
+                                              LocalDateTime startAt, LocalDateTime endAt, String location) {
+        return TimetableSlotResponse.builder()
+                .courseId(session.getCourse().getId())
+                .courseName(session.getCourse().getName())
+                .sessionId(session.getId())
+                .sessionName(session.getName())
+                .title(title)
+                .startAt(startAt)
+                .endAt(endAt)
+                .location(location)
+                .build();
+    }
+
+    private static long startOf(TimetableSlotResponse slot) {
+        return toEpochSecond(slot.getStartAt());
+    }
+
+    /**
+     * 구간 종료값 (종료 시각은 포함하지 않으므로 연속된 수업은 겹치지 않음)
+     */
+    private static long endOf(TimetableSlotResponse slot) {
+        return Math.max(startOf(slot), toEpochSecond(slot.getEndAt()) - 1);
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * 일정 중복 처리 방식
+     */
+    public enum ConflictMode {
+        /**
+         * 중복 시 수강 신청 거부
+         */
+        REJECT,
+
+        /**
+         * 수강 신청은 진행하고 응답에 중복 차수를 표시
+         */
+        FLAG
+    }
+
+    /**
+     * 사용자 시간표 (불변)
+     */
+    private static final class UserTimetable {
+
+        final List<TimetableSlotResponse> slots;
+        final IntervalIndex<TimetableSlotResponse> index;
+
+        private UserTimetable(List<TimetableSlotResponse> slots, IntervalIndex<TimetableSlotResponse> index) {
+            this.slots = slots;
+            this.index = index;
+        }
+
+        static UserTimetable of(List<TimetableSlotResponse> slots) {
+            IntervalIndex.Builder<TimetableSlotResponse> builder = IntervalIndex.builder();
+            for (TimetableSlotResponse slot : slots) {
+                builder.add(startOf(slot), endOf(slot), slot);
+            }
+            return new UserTimetable(List.copyOf(slots), builder.build());
+        }
+
+        UserTimetable with(Long sessionId, List<TimetableSlotResponse> added) {
+            List<TimetableSlotResponse> slots = new ArrayList<>(without(sessionId).slots);
+            slots.addAll(added);
+            return of(slots);
+        }
+
+        UserTimetable without(Long sessionId) {
+            return of(slots.stream()
+                    .filter(slot -> !slot.getSessionId().equals(sessionId))
+                    .toList());
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.course.service;
+
+import com.example.common.index.LongKeyMap;
+import com.example.course.dto.CourseLevelResponse;
+import com.example.course.entity.CourseCategory;
+import com.example.course.entity.CourseLevel;
+import com.example.course.entity.CourseType;
+import com.example.course.event.CatalogChangedEvent;
+import com.example.course.repository.CourseCategoryRepository;
+import com.example.course.repository.CourseLevelRepository;
+import com.example.course.repository.CourseTypeRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 참조 데이터 레지스트리
+ * 레벨, 유형, 카테고리 테이블을 기동 시 한 번 읽어 ID(정렬된 long 배열)와 코드(불변 맵)로 찾는
+ * 불변 스냅샷을 만들고, 조회는 이 스냅샷에서 쿼리와 객체 생성 없이 처리
+ *
+ * 관리자 변경(CatalogChangedEvent) 커밋 이후 전체를 다시 읽어 새 스냅샷으로 한 번에 교체하므로
+ * 조회 중인 요청은 항상 일관된 이전 또는 새 스냅샷 중 하나만 봄
+ */
+@Service
+public class ReferenceDataRegistry {
+
+    private final CourseLevelRepository levelRepository;
+    private final CourseTypeRepository typeRepository;
+    private final CourseCategoryRepository categoryRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile ReferenceData data;
+
+    public ReferenceDataRegistry(CourseLevelRepository levelRepository,
+                                 CourseTypeRepository typeRepository,
+                                 CourseCategoryRepository categoryRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.levelRepository = levelRepository;
+        this.typeRepository = typeRepository;
+        this.categoryRepository = categoryRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * ID로 카테고리 조회
+     * @param id 카테고리 ID
+     * @return 카테고리 (없으면 null)
+     */
+    public CategoryRef findCategory(long id) {
+        return current().categories.get(id);
+    }
+
+    /**
+     * 코드로 카테고리 조회
+     * @param code 카테고리 코드
+     * @return 카테고리 (없으면 null)
+     */
+    public CategoryRef findCategoryByCode(String code) {
+        return current().categoriesByCode.get(code);
+    }
+
+    /**
+     * ID로 과정 유형 조회
+     * @param id 유형 ID
+     * @return 유형 (없으면 null)
+     */
+    public TypeRef findType(long id) {
+        return current().types.get(id);
+    }
+
+    /**
+     * 코드로 과정 유형 조회
+     * @param code 유형 코드
+     * @return 유형 (없으면 null)
+     */
+    public TypeRef findTypeByCode(String code) {
+        return current().typesByCode.get(code);
+    }
+
+    /**
+     * ID로 레벨 조회
+     * @param id 레벨 ID
+     * @return 레벨 (없으면 null)
+     */
+    public CourseLevelResponse findLevel(long id) {
+        return current().levels.get(id);
+    }
+
+    /**
+     * 이름으로 레벨 조회 (레벨은 이름이 고유 키)
+     * @param name 레벨 이름
+     * @return 레벨 (없으면 null)
+     */
+    public CourseLevelResponse findLevelByName(String name) {
+        return current().levelsByName.get(name);
+    }
+
+    /**
+     * 활성화된 레벨 목록 (정렬 순서)
+     */
+    public List<CourseLevelResponse> getActiveLevels() {
+        return current().activeLevels;
+    }
+
+    /**
+     * 기동 시 미리 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        reload();
+    }
+
+    /**
+     * 카테고리/레벨/유형 변경 커밋 이후 새 스냅샷으로 교체
+     * 레벨 목록으로 만드는 카탈로그 스냅샷보다 먼저 교체되도록 가장 앞 순서로 실행함
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        switch (event.getScope()) {
+            case CATEGORY, LEVEL, TYPE -> reload();
+            default -> {
+            }
+        }
+    }
+
+    private ReferenceData current() {
+        ReferenceData current = data;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (data == null) {
+                data = load();
+            }
+            return data;
+        }
+    }
+
+    private synchronized void reload() {
+        data = load();
+    }
+
+    private ReferenceData load() {
+        return readOnlyTransaction.execute(status -> ReferenceData.of(
+                levelRepository.findAll(), typeRepository.findAll(), categoryRepository.findAll()));
+    }
+
+    private static <K, V> Map<K, V> indexBy(List<V> values, Function<V, K> keyOf) {
+        Map<K, V> map = new HashMap<>(values.size() * 2);
+        for (V value : values) {
+            K key = keyOf.apply(value);
+            if (key != null) {
+                map.put(key, value);
+            }
+        }
+        return Map.copyOf(map);
+    }
+
+    /**
+     * 카테고리 참조 정보
+     */
+    public record CategoryRef(Long id, String code, String name, Long parentId, boolean active) {
+
+        static CategoryRef from(CourseCategory category) {
+            return new CategoryRef(category.getId(), category.getCode(), category.getName(),
+                    category.getParent() != null ? category.getParent().getId() : null, category.isActive());
+        }
+    }
+
+    /**
+     * 과정 유형 참조 정보
+     */
+    public record TypeRef(Long id, String code, String name, boolean active) {
+
+        static TypeRef from(CourseType type) {
+            return new TypeRef(type.getId(), type.getCode(), type.getName(), type.isActive());
+        }
+    }
+
+    /**
+     * 불변 참조 데이터 스냅샷
+     */
+    private record ReferenceData(LongKeyMap<CategoryRef> categories,
+                                 Map<String, CategoryRef> categoriesByCode,
+                                 LongKeyMap<TypeRef> types,
+                                 Map<String, TypeRef> typesByCode,
+                                 LongKeyMap<CourseLevelResponse> levels,
+                                 Map<String, CourseLevelResponse> levelsByName,
+                                 List<CourseLevelResponse> activeLevels) {
+
+        static ReferenceData of(List<CourseLevel> levels, List<CourseType> types, List<CourseCategory> categories) {
+            List<CategoryRef> categoryRefs = categories.stream().map(CategoryRef::from).toList();
+            List<TypeRef> typeRefs = types.stream().map(TypeRef::from).toList();
+            List<CourseLevelResponse> levelResponses = levels.stream().map(CourseLevelResponse::from).toList();
+
+            List<CourseLevelResponse> activeLevels = levels.stream()
+                    .filter(CourseLevel::isActive)
+                    .sorted(Comparator.comparing(CourseLevel::getSortOrder, Comparator.nullsLast(Comparator.naturalOrder())))
+                    .map(CourseLevelResponse::from)
+                    .toList();
+
+            return new ReferenceData(
+                    LongKeyMap.of(categoryRefs, CategoryRef::id),
+                    indexBy(categoryRefs, CategoryRef::code),
+                    LongKeyMap.of(typeRefs, TypeRef::id),
+                    indexBy(typeRefs, TypeRef::code),
+                    LongKeyMap.of(levelResponses, CourseLevelResponse::getId),
+                    indexBy(levelResponses, CourseLevelResponse::getName),
+                    activeLevels);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.survey.controller;
+
+import com.example.survey.dto.PendingSurveyResponse;
+import com.example.survey.dto.ScaleStatisticsResponse;
+import com.example.survey.dto.SurveyCrossTabResponse;
+import com.example.survey.dto.SurveyDefinitionResponse;
+import com.example.survey.dto.SurveyDraftRequest;
+import com.example.survey.dto.SurveyDraftResponse;
+import com.example.survey.dto.SurveyStatisticsResponse;
+import com.example.survey.dto.SurveySubmitRequest;
+import com.example.survey.dto.SurveySubmitResponse;
+import com.example.survey.dto.SurveyTermFrequencyResponse;
+import com.example.survey.dto.SurveyTextSearchResponse;
+import com.example.survey.service.PendingSurveyService;
+import com.example.survey.service.SurveyAnalyticsService;
+import com.example.survey.service.SurveyDefinitionService;
+import com.example.survey.service.SurveyDraftService;
+import com.example.survey.service.SurveyExportService;
+import com.example.survey.service.SurveyStatisticsService;
+import com.example.survey.service.SurveySubmissionService;
+import com.example.survey.service.SurveyTextAnalyticsService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 설문 관련 API를 제공하는 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/v1/surveys")
+@RequiredArgsConstructor
+public class SurveyController {
+
+    private final SurveyDefinitionService definitionService;
+    private final SurveySubmissionService submissionService;
+    private final SurveyDraftService draftService;
+    private final SurveyStatisticsService statisticsService;
+    private final SurveyAnalyticsService analyticsService;
+    private final SurveyTextAnalyticsService textAnalyticsService;
+    private final SurveyExportService exportService;
+    private final PendingSurveyService pendingSurveyService;
+
+    /**
+     * 현재 사용자가 응답해야 할 설문 목록 조회
+     * @param authentication 인증 정보
+     * @return 응답 기간 중인 미응답 설문 목록
+     */
+    @GetMapping("/pending")
+    public ResponseEntity<List<PendingSurveyResponse>> getPendingSurveys(Authentication authentication) {
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        Long userId = Long.parseLong(userDetails.getUsername());
+
+        return ResponseEntity.ok(pendingSurveyService.getPendingSurveys(userId));
+    }
+
+    /**
+     * 설문 정의 조회 (활성 문항과 선택지 포함)
+     * @param id 설문 ID
+     * @return 설문 정의
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<SurveyDefinitionResponse> getSurvey(@PathVariable Long id) {
+        return ResponseEntity.ok(definitionService.getDefinition(id).getResponse());
+    }
+
+    /**
+     * 설문 응답 제출 (이미 제출한 경우 기존 응답을 반환)
+     * @param authentication 인증 정보
+     * @param id 설문 ID
+     * @param request 제출 요청
+     * @return 제출 결과
+     */
+    @PostMapping("/{id}/responses")
+    public ResponseEntity<SurveySubmitResponse> submitResponse(
+            Authentication authentication,
+            @PathVariable Long id,
+            @Valid @RequestBody SurveySubmitRequest request) {
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        Long userId = Long.parseLong(userDetails.getUsername());
+
+        SurveySubmitResponse response = submissionService.submit(id, userId, request);
+        return ResponseEntity.status(response.isAlreadySubmitted() ? HttpStatus.OK : HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 현재 사용자의 임시 답변 조회
+     * @param authentication 인증 정보
+     * @param id 설문 ID
+     * @return 임시 답변
+     */
+    @GetMapping("/{id}/draft")
+    public ResponseEntity<SurveyDraftResponse> getDraft(Authentication authentication, @PathVariable Long id) {
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        Long userId = Long.parseLong(userDetails.getUsername());
+
+        return ResponseEntity.ok(draftService.getDraft(id, userId));
+    }
+
+    /**
+     * 임시 답변 자동 저장 (바뀐 문항만 전송)
+     * @param authentication 인증 정보
+     * @param id 설문 ID
+     * @param request 바뀐 문항의 답변
+     * @return 저장 후 임시 답변
+     */
+    @PutMapping("/{id}/draft")
+    public ResponseEntity<SurveyDraftResponse> saveDraft(
+            Authentication authentication,
+            @PathVariable Long id,
+            @Valid @RequestBody SurveyDraftRequest request) {
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        Long userId = Long.parseLong(userDetails.getUsername());
+
+        return ResponseEntity.ok(draftService.saveDraft(id, userId, request));
+    }
+
+    /**
+     * 임시 답변으로 설문 제출
+     * @param authentication 인증 정보
+     * @param id 설문 ID
+     * @return 제출 결과
+     */
+    @PostMapping("/{id}/draft/submit")
+    public ResponseEntity<SurveySubmitResponse> submitDraft(Authentication authentication, @PathVariable Long id) {
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        Long userId = Long.parseLong(userDetails.getUsername());
+
+        SurveySubmitResponse response = draftService.submitDraft(id, userId);
+        return ResponseEntity.status(response.isAlreadySubmitted() ? HttpStatus.OK : HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 설문 결과 통계 조회
+     * @param id 설문 ID
+     * @return 설문 결과 통계
+     */
+    @GetMapping("/{id}/statistics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SurveyStatisticsResponse> getStatistics(@PathVariable Long id) {
+        return ResponseEntity.ok(statisticsService.getStatistics(id));
+    }
+
+    /**
+     * 교육과정 척도형 응답 통계 조회 (과정의 모든 설문 척도형 문항 병합)
+     * @param courseId 교육과정 ID
+     * @return 병합된 척도형 응답 통계
+     */
+    @GetMapping("/courses/{courseId}/scale-statistics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ScaleStatisticsResponse> getCourseScaleStatistics(@PathVariable Long courseId) {
+        return ResponseEntity.ok(statisticsService.getCourseScaleStatistics(courseId));
+    }
+
+    /**
+     * 설문 교차표 조회
+     * @param id 설문 ID
+     * @param row 행 차원 ("session" 또는 선택형/척도형 문항 ID)
+     * @param column 열 차원 ("session" 또는 선택형/척도형 문항 ID)
+     * @param filterQuestionId 필터 문항 ID
+     * @param filterKey 필터 문항의 선택지 ID 또는 척도 값
+     * @return 교차표
+     */
+    @GetMapping("/{id}/crosstab")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SurveyCrossTabResponse> getCrossTab(
+            @PathVariable Long id,
+            @RequestParam String row,
+            @RequestParam String column,
+            @RequestParam(required = false) Long filterQuestionId,
+            @RequestParam(required = false) Long filterKey) {
+        return ResponseEntity.ok(analyticsService.crossTab(id, row, column, filterQuestionId, filterKey));
+    }
+
+    /**
+     * 주관식 문항의 많이 쓰인 용어 조회
+     * @param id 설문 ID
+     * @param questionId 문항 ID
+     * @param limit 최대 개수
+     * @return 용어 빈도 목록
+     */
+    @GetMapping("/{id}/questions/{questionId}/terms")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<SurveyTermFrequencyResponse>> getTopTerms(
+            @PathVariable Long id,
+            @PathVariable Long questionId,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(textAnalyticsService.getTopTerms(id, questionId, limit));
+    }
+
+    /**
+     * 검색어를 포함한 주관식 답변 조회
+     * @param id 설문 ID
+     * @param questionId 문항 ID
+     * @param keyword 검색어
+     * @param limit 반환할 최대 답변 수
+     * @return 검색 결과
+     */
+    @GetMapping("/{id}/questions/{questionId}/answers")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SurveyTextSearchResponse> searchAnswers(
+            @PathVariable Long id,
+            @PathVariable Long questionId,
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(textAnalyticsService.searchAnswers(id, questionId, keyword, limit));
+    }
+
+    /**
+     * 설문 응답 CSV 내보내기 (응답당 한 행, 문항당 한 열)
+     * @param id 설문 ID
+     * @return CSV 파일 스트림
+     */
+    @GetMapping("/{id}/responses/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseBodyEmitter> exportResponses(@PathVariable Long id) {
+        ResponseBodyEmitter body = exportService.exportCsv(id);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"survey-" + id + "-responses.csv\"")
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
+    }
+}
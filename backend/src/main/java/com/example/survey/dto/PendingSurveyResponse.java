@@ -0,0 +1,45 @@
+package com.example.survey.dto;
+
+import com.example.survey.entity.Survey;
+import com.example.survey.entity.SurveyType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 응답해야 할 설문 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PendingSurveyResponse {
+
+    private Long surveyId;
+    private Long courseId;
+    private String courseName;
+    private String title;
+    private SurveyType type;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+
+    /**
+     * 엔티티를 DTO로 변환 (과정은 함께 조회되어 있어야 함)
+     * @param survey 설문 엔티티
+     * @return 응답해야 할 설문 DTO
+     */
+    public static PendingSurveyResponse from(Survey survey) {
+        return PendingSurveyResponse.builder()
+                .surveyId(survey.getId())
+                .courseId(survey.getCourse().getId())
+                .courseName(survey.getCourse().getName())
+                .title(survey.getTitle())
+                .type(survey.getType())
+                .startDate(survey.getStartDate())
+                .endDate(survey.getEndDate())
+                .build();
+    }
+}
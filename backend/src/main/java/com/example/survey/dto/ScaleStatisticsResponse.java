@@ -0,0 +1,58 @@
+package com.example.survey.dto;
+
+import com.example.common.stats.ScaleDistribution;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 척도형 응답 통계 DTO
+ * 응답이 없으면 수치 항목은 null
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScaleStatisticsResponse {
+
+    private long count;
+    private long sum;
+    private Double mean;
+    private Double standardDeviation;
+    private Double min;
+    private Double max;
+    private Double median;
+    private Double percentile25;
+    private Double percentile75;
+    private Double percentile90;
+
+    /**
+     * 척도 값별 응답 수 (값 오름차순)
+     */
+    private Map<Integer, Long> histogram;
+
+    /**
+     * 분포를 DTO로 변환
+     * @param distribution 척도 값 분포
+     * @return 척도형 응답 통계 DTO
+     */
+    public static ScaleStatisticsResponse from(ScaleDistribution distribution) {
+        boolean empty = distribution.isEmpty();
+        return ScaleStatisticsResponse.builder()
+                .count(distribution.getCount())
+                .sum(distribution.getSum())
+                .mean(empty ? null : distribution.getMean())
+                .standardDeviation(empty ? null : distribution.getStandardDeviation())
+                .min(empty ? null : distribution.getObservedMin())
+                .max(empty ? null : distribution.getObservedMax())
+                .median(empty ? null : distribution.getMedian())
+                .percentile25(empty ? null : distribution.percentile(0.25))
+                .percentile75(empty ? null : distribution.percentile(0.75))
+                .percentile90(empty ? null : distribution.percentile(0.9))
+                .histogram(distribution.histogram())
+                .build();
+    }
+}
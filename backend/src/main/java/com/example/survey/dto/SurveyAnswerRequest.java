@@ -0,0 +1,41 @@
+package com.example.survey.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 설문 문항 답변 요청 DTO
+ * 문항 유형에 따라 선택지 ID 목록, 텍스트, 척도 값 중 하나를 채움
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SurveyAnswerRequest {
+
+    /**
+     * 문항 ID
+     */
+    @NotNull(message = "문항 ID는 필수입니다.")
+    private Long questionId;
+
+    /**
+     * 선택한 선택지 ID 목록 (객관식, 찬반형)
+     */
+    private List<@NotNull(message = "선택지 ID는 비어 있을 수 없습니다.") Long> optionIds;
+
+    /**
+     * 텍스트 답변 (주관식, 날짜 선택은 yyyy-MM-dd)
+     */
+    private String textAnswer;
+
+    /**
+     * 척도 값 (척도형)
+     */
+    private Integer scaleValue;
+}
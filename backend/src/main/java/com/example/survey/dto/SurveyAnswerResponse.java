@@ -0,0 +1,23 @@
+package com.example.survey.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 설문 문항 답변 응답 DTO (임시 저장된 답변)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SurveyAnswerResponse {
+
+    private Long questionId;
+    private List<Long> optionIds;
+    private String textAnswer;
+    private Integer scaleValue;
+}
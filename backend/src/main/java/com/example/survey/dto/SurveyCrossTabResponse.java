@@ -0,0 +1,39 @@
+package com.example.survey.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 설문 교차표 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SurveyCrossTabResponse {
+
+    private Long surveyId;
+
+    /**
+     * 필터를 적용한 완료 응답 수
+     */
+    private long responseCount;
+
+    /**
+     * 행/열 차원 ("session" 또는 문항 ID)
+     */
+    private String row;
+    private String column;
+
+    /**
+     * 열 범주 키와 이름
+     */
+    private List<Long> columnKeys;
+    private List<String> columnLabels;
+
+    private List<SurveyCrossTabRowResponse> rows;
+}
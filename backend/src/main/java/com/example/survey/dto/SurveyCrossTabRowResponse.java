@@ -0,0 +1,35 @@
+package com.example.survey.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 교차표 행 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SurveyCrossTabRowResponse {
+
+    /**
+     * 행 범주 키 (선택지 ID, 척도 값, 차수 ID)
+     */
+    private Long key;
+    private String label;
+
+    /**
+     * 열 범주별 응답 수 (열 범주 순서)
+     */
+    private List<Long> counts;
+    private long total;
+
+    /**
+     * 열이 척도형 문항인 경우 행 범주별 척도 통계 (그 외 null)
+     */
+    private ScaleStatisticsResponse scale;
+}
@@ -0,0 +1,51 @@
+package com.example.survey.dto;
+
+import com.example.survey.entity.Survey;
+import com.example.survey.entity.SurveyType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 설문 정의 응답 DTO (설문 화면 렌더링용: 설문, 활성 문항, 활성 선택지)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SurveyDefinitionResponse {
+
+    private Long id;
+    private Long courseId;
+    private String title;
+    private String description;
+    private SurveyType type;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private boolean active;
+    private List<SurveyQuestionResponse> questions;
+
+    /**
+     * 엔티티를 DTO로 변환 (문항은 호출 측에서 전달)
+     * @param survey 설문 엔티티
+     * @param questions 활성 문항 목록 (표시 순서)
+     * @return 설문 정의 응답 DTO
+     */
+    public static SurveyDefinitionResponse from(Survey survey, List<SurveyQuestionResponse> questions) {
+        return SurveyDefinitionResponse.builder()
+                .id(survey.getId())
+                .courseId(survey.getCourse() != null ? survey.getCourse().getId() : null)
+                .title(survey.getTitle())
+                .description(survey.getDescription())
+                .type(survey.getType())
+                .startDate(survey.getStartDate())
+                .endDate(survey.getEndDate())
+                .active(survey.isActive())
+                .questions(questions)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.survey.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 설문 임시 저장 요청 DTO
+ * 바뀐 문항의 답변만 보내도 되며, 값이 모두 비어 있는 답변은 해당 문항의 임시 답변을 지움
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SurveyDraftRequest {
+
+    /**
+     * 문항별 답변 목록
+     */
+    @Valid
+    @NotNull(message = "답변 목록은 필수입니다.")
+    private List<@NotNull(message = "답변은 비어 있을 수 없습니다.") SurveyAnswerRequest> answers;
+}
@@ -0,0 +1,25 @@
+package com.example.survey.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 설문 임시 저장 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SurveyDraftResponse {
+
+    private Long surveyId;
+
+    /**
+     * 임시 저장된 답변 목록 (설문 문항 순서)
+     */
+    private List<SurveyAnswerResponse> answers;
+}
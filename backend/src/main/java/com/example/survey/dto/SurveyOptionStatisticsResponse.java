@@ -0,0 +1,25 @@
+package com.example.survey.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 설문 선택지별 통계 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SurveyOptionStatisticsResponse {
+
+    private Long optionId;
+    private String content;
+    private long count;
+
+    /**
+     * 문항 답변 수 대비 선택 비율 (%)
+     */
+    private double ratio;
+}
@@ -0,0 +1,34 @@
+package com.example.survey.dto;
+
+import com.example.survey.entity.SurveyQuestionOption;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 설문 문항 선택지 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SurveyQuestionOptionResponse {
+
+    private Long id;
+    private String content;
+    private Integer displayOrder;
+
+    /**
+     * 엔티티를 DTO로 변환
+     * @param option 선택지 엔티티
+     * @return 선택지 응답 DTO
+     */
+    public static SurveyQuestionOptionResponse from(SurveyQuestionOption option) {
+        return SurveyQuestionOptionResponse.builder()
+                .id(option.getId())
+                .content(option.getContent())
+                .displayOrder(option.getDisplayOrder())
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.survey.dto;
+
+import com.example.survey.entity.SurveyQuestion;
+import com.example.survey.entity.SurveyQuestionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 설문 문항 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SurveyQuestionResponse {
+
+    private Long id;
+    private String content;
+    private String description;
+    private SurveyQuestionType type;
+    private boolean required;
+    private Integer displayOrder;
+    private List<SurveyQuestionOptionResponse> options;
+
+    /**
+     * 엔티티를 DTO로 변환 (선택지는 호출 측에서 전달)
+     * @param question 문항 엔티티
+     * @param options 활성 선택지 목록 (표시 순서)
+     * @return 문항 응답 DTO
+     */
+    public static SurveyQuestionResponse from(SurveyQuestion question, List<SurveyQuestionOptionResponse> options) {
+        return SurveyQuestionResponse.builder()
+                .id(question.getId())
+                .content(question.getContent())
+                .description(question.getDescription())
+                .type(question.getType())
+                .required(question.isRequired())
+                .displayOrder(question.getDisplayOrder())
+                .options(options)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.survey.dto;
+
+import com.example.survey.entity.SurveyQuestionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 설문 문항별 통계 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SurveyQuestionStatisticsResponse {
+
+    private Long questionId;
+    private String content;
+    private SurveyQuestionType type;
+
+    /**
+     * 문항에 답변한 응답 수
+     */
+    private long answeredCount;
+
+    /**
+     * 선택지별 선택 수 (객관식, 찬반형)
+     */
+    private List<SurveyOptionStatisticsResponse> options;
+
+    /**
+     * 척도 값 분포 통계 (척도형만, 그 외 null)
+     */
+    private ScaleStatisticsResponse scale;
+}
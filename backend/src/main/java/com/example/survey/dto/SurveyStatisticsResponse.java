@@ -0,0 +1,31 @@
+package com.example.survey.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 설문 결과 통계 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SurveyStatisticsResponse {
+
+    private Long surveyId;
+    private String title;
+
+    /**
+     * 완료 응답 수
+     */
+    private long responseCount;
+
+    /**
+     * 활성 문항별 통계 (표시 순서)
+     */
+    private List<SurveyQuestionStatisticsResponse> questions;
+}
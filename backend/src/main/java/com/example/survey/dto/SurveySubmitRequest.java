@@ -0,0 +1,27 @@
+package com.example.survey.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 설문 응답 제출 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SurveySubmitRequest {
+
+    /**
+     * 문항별 답변 목록
+     */
+    @Valid
+    @NotNull(message = "답변 목록은 필수입니다.")
+    private List<@NotNull(message = "답변은 비어 있을 수 없습니다.") SurveyAnswerRequest> answers;
+}
@@ -0,0 +1,44 @@
+package com.example.survey.dto;
+
+import com.example.survey.entity.SurveyResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 설문 응답 제출 결과 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SurveySubmitResponse {
+
+    private Long responseId;
+    private Long surveyId;
+    private LocalDateTime completedAt;
+
+    /**
+     * 이미 제출된 응답이 있어 기존 응답을 반환했는지 여부
+     */
+    private boolean alreadySubmitted;
+
+    /**
+     * 엔티티를 DTO로 변환
+     * @param response 설문 응답 엔티티
+     * @param surveyId 설문 ID
+     * @param alreadySubmitted 기존 응답 반환 여부
+     * @return 제출 결과 DTO
+     */
+    public static SurveySubmitResponse from(SurveyResponse response, Long surveyId, boolean alreadySubmitted) {
+        return SurveySubmitResponse.builder()
+                .responseId(response.getId())
+                .surveyId(surveyId)
+                .completedAt(response.getCompletedAt())
+                .alreadySubmitted(alreadySubmitted)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.survey.dto;
+
+import com.example.survey.entity.Survey;
+import com.example.survey.entity.SurveyType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 설문 요약 정보 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SurveySummaryResponse {
+
+    private Long id;
+    private String title;
+    private SurveyType type;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private boolean active;
+
+    /**
+     * 엔티티를 DTO로 변환
+     * @param survey 설문 엔티티
+     * @return 설문 요약 응답 DTO
+     */
+    public static SurveySummaryResponse from(Survey survey) {
+        return SurveySummaryResponse.builder()
+                .id(survey.getId())
+                .title(survey.getTitle())
+                .type(survey.getType())
+                .startDate(survey.getStartDate())
+                .endDate(survey.getEndDate())
+                .active(survey.isActive())
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.survey.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주관식 답변 용어 빈도 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SurveyTermFrequencyResponse {
+
+    private String term;
+
+    /**
+     * 전체 답변에서의 등장 횟수
+     */
+    private long frequency;
+
+    /**
+     * 용어가 포함된 답변 수
+     */
+    private long answerCount;
+}
@@ -0,0 +1,31 @@
+package com.example.survey.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 주관식 답변 검색 결과 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SurveyTextSearchResponse {
+
+    private Long questionId;
+    private String keyword;
+
+    /**
+     * 검색어를 포함한 전체 답변 수
+     */
+    private long matchCount;
+
+    /**
+     * 검색어를 포함한 답변 (최대 요청 개수까지)
+     */
+    private List<SurveyTextAnswerResponse> answers;
+}
@@ -1,6 +1,7 @@
 package com.example.survey.entity;
 
 import com.example.common.entity.BaseTimeEntity;
+import com.example.survey.event.SurveyDefinitionEntityListener;
 import com.example.course.entity.Course;
 import com.example.course.entity.CourseSession;
 import jakarta.persistence.*;
@@ -15,7 +16,10 @@ import java.util.List;
  * 교육과정에 대한 설문 정보를 관리합니다.
  */
 @Entity
-@Table(name = "survey")
+@Table(name = "survey", indexes = {
+    @Index(name = "idx_survey_course_id", columnList = "course_id")
+})
+@EntityListeners(SurveyDefinitionEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Survey extends BaseTimeEntity {
@@ -1,6 +1,7 @@
 package com.example.survey.entity;
 
 import com.example.common.entity.BaseTimeEntity;
+import com.example.survey.event.SurveyDefinitionEntityListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -16,6 +17,7 @@ import java.util.List;
  */
 @Entity
 @Table(name = "survey_question")
+@EntityListeners(SurveyDefinitionEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SurveyQuestion extends BaseTimeEntity {
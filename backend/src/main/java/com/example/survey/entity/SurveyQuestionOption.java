@@ -1,6 +1,7 @@
 package com.example.survey.entity;
 
 import com.example.common.entity.BaseTimeEntity;
+import com.example.survey.event.SurveyDefinitionEntityListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -13,6 +14,7 @@ import lombok.NoArgsConstructor;
  */
 @Entity
 @Table(name = "survey_question_option")
+@EntityListeners(SurveyDefinitionEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SurveyQuestionOption extends BaseTimeEntity {
@@ -18,7 +18,9 @@ import java.util.List;
  * 사용자의 설문 응답 정보를 관리합니다.
  */
 @Entity
-@Table(name = "survey_response")
+@Table(name = "survey_response", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"survey_id", "user_id"})
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SurveyResponse extends BaseTimeEntity {
@@ -27,7 +29,8 @@ public class SurveyResponse extends BaseTimeEntity {
      * 응답 ID
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "survey_response_seq")
+    @SequenceGenerator(name = "survey_response_seq", sequenceName = "survey_response_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -88,6 +91,16 @@ public class SurveyResponse extends BaseTimeEntity {
         return this;
     }
 
+    /**
+     * 응답 진행 중 처리 (임시 저장 재개)
+     * @return 진행 중 처리된 응답
+     */
+    public SurveyResponse resume() {
+        this.status = SurveyResponseStatus.IN_PROGRESS;
+        this.completedAt = null;
+        return this;
+    }
+
     /**
      * 응답 취소 처리
      * @return 취소 처리된 응답
@@ -12,7 +12,9 @@ import lombok.NoArgsConstructor;
  * 문항별 응답 내용을 관리합니다.
  */
 @Entity
-@Table(name = "survey_response_item")
+@Table(name = "survey_response_item", indexes = {
+    @Index(name = "idx_survey_response_item_response_id", columnList = "response_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SurveyResponseItem extends BaseTimeEntity {
@@ -21,7 +23,8 @@ public class SurveyResponseItem extends BaseTimeEntity {
      * 응답 항목 ID
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "survey_response_item_seq")
+    @SequenceGenerator(name = "survey_response_item_seq", sequenceName = "survey_response_item_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -0,0 +1,76 @@
+package com.example.survey.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 설문 통계 카운터 엔티티
+ * 설문 결과 화면이 survey_response_item 을 매번 집계하지 않도록
+ * 설문별 응답 수, 문항별 답변 수, 선택지별 선택 수, 척도 값별 응답 수를 누적 보관
+ *
+ * 값은 애플리케이션이 응답 완료 이벤트로 모은 증감분을 주기적으로 반영하며,
+ * 엔티티는 스키마 정의와 조회용으로만 사용함
+ */
+@Entity
+@Table(name = "survey_stat_counters")
+@IdClass(SurveyStatCounter.CounterId.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SurveyStatCounter {
+
+    /**
+     * 설문 ID
+     */
+    @Id
+    @Column(name = "survey_id")
+    private Long surveyId;
+
+    /**
+     * 문항 ID (설문 단위 카운터는 0)
+     */
+    @Id
+    @Column(name = "question_id")
+    private Long questionId;
+
+    /**
+     * 카운터 종류
+     */
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", length = 20)
+    private SurveyStatMetric metric;
+
+    /**
+     * 구간 (선택지 ID 또는 척도 값, 해당 없으면 0)
+     */
+    @Id
+    @Column(name = "bucket")
+    private Long bucket;
+
+    /**
+     * 누적 값
+     */
+    @Column(name = "counter_value", nullable = false)
+    private long counterValue;
+
+    /**
+     * 통계 카운터 복합 키
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class CounterId implements Serializable {
+
+        private Long surveyId;
+
+        private Long questionId;
+
+        private SurveyStatMetric metric;
+
+        private Long bucket;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.survey.entity;
+
+/**
+ * 설문 통계 카운터 종류
+ */
+public enum SurveyStatMetric {
+
+    /**
+     * 설문 완료 응답 수 (문항 ID, 구간 모두 0)
+     */
+    RESPONSES("완료 응답 수"),
+
+    /**
+     * 문항에 답변한 응답 수 (구간 0)
+     */
+    ANSWERED("문항 답변 수"),
+
+    /**
+     * 선택지별 선택 수 (구간은 선택지 ID)
+     */
+    OPTION("선택지 선택 수"),
+
+    /**
+     * 척도 값별 응답 수 (구간은 척도 값)
+     */
+    SCALE("척도 값 응답 수");
+
+    private final String description;
+
+    SurveyStatMetric(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.survey.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 설문 정의 변경 이벤트
+ * 설문, 문항, 선택지가 저장/삭제되었을 때 발행되며
+ * 트랜잭션 커밋 이후 설문 정의 캐시 무효화에 사용됨
+ */
+@Getter
+@RequiredArgsConstructor
+public class SurveyDefinitionChangedEvent {
+
+    /**
+     * 설문 ID
+     */
+    private final Long surveyId;
+}
@@ -0,0 +1,47 @@
+package com.example.survey.event;
+
+import com.example.survey.entity.Survey;
+import com.example.survey.entity.SurveyQuestion;
+import com.example.survey.entity.SurveyQuestionOption;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 설문 정의 엔티티 리스너
+ * 설문, 문항, 선택지가 저장되는 모든 경로에서 해당 설문의 정의 변경 이벤트를 발행
+ * (상위 엔티티는 지연 로딩 프록시의 ID만 읽으므로 추가 쿼리 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class SurveyDefinitionEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onDefinitionWritten(Object entity) {
+        Long surveyId = surveyIdOf(entity);
+        if (surveyId != null) {
+            eventPublisher.publishEvent(new SurveyDefinitionChangedEvent(surveyId));
+        }
+    }
+
+    private static Long surveyIdOf(Object entity) {
+        if (entity instanceof Survey survey) {
+            return survey.getId();
+        }
+        if (entity instanceof SurveyQuestion question) {
+            return question.getSurvey() != null ? question.getSurvey().getId() : null;
+        }
+        if (entity instanceof SurveyQuestionOption option) {
+            SurveyQuestion question = option.getQuestion();
+            return question != null && question.getSurvey() != null ? question.getSurvey().getId() : null;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.survey.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 설문 응답 완료 이벤트
+ * 응답이 새로 완료되었을 때만 발행되며 (중복 제출은 발행하지 않음)
+ * 저장된 응답 항목 값을 함께 전달하여 구독 측이 다시 조회하지 않도록 함
+ */
+@Getter
+@RequiredArgsConstructor
+public class SurveyResponseCompletedEvent {
+
+    /**
+     * 응답 ID
+     */
+    private final Long responseId;
+
+    /**
+     * 설문 ID
+     */
+    private final Long surveyId;
+
+    /**
+     * 응답자 ID
+     */
+    private final Long userId;
+
+    /**
+     * 저장된 응답 항목 (다중 선택은 선택지마다 한 항목)
+     */
+    private final List<Item> items;
+
+    /**
+     * 응답 항목 값
+     */
+    public record Item(Long questionId, Long optionId, String textAnswer, Integer scaleValue) {
+    }
+}
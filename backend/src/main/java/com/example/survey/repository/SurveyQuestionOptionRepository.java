@@ -63,4 +63,14 @@ public interface SurveyQuestionOptionRepository extends JpaRepository<SurveyQues
      * @return 활성화된 선택지 목록
      */
     List<SurveyQuestionOption> findByQuestionAndActiveTrue(SurveyQuestion question);
-} 
\ No newline at end of file
+
+    /**
+     * 설문에 속한 활성 문항의 활성 선택지를 한 번에 조회 (문항 ID, 순서대로)
+     * @param surveyId 설문 ID
+     * @return 선택지 목록
+     */
+    @Query("SELECT o FROM SurveyQuestionOption o " +
+           "WHERE o.question.survey.id = :surveyId AND o.question.active = true AND o.active = true " +
+           "ORDER BY o.question.id, o.displayOrder, o.id")
+    List<SurveyQuestionOption> findActiveBySurveyIdOrderByQuestionAndDisplayOrder(@Param("surveyId") Long surveyId);
+}
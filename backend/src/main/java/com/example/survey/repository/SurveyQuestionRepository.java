@@ -81,4 +81,13 @@ public interface SurveyQuestionRepository extends JpaRepository<SurveyQuestion,
      * @return 활성화된 문항 목록
      */
     List<SurveyQuestion> findBySurveyAndActiveTrue(Survey survey);
-} 
\ No newline at end of file
+
+    /**
+     * 설문 ID로 활성화된 문항 목록 조회 (순서대로)
+     *
+     * @param surveyId 설문 ID
+     * @return 활성화된 문항 목록
+     */
+    @Query("SELECT q FROM SurveyQuestion q WHERE q.survey.id = :surveyId AND q.active = true ORDER BY q.displayOrder, q.id")
+    List<SurveyQuestion> findActiveBySurveyIdOrderByDisplayOrder(@Param("surveyId") Long surveyId);
+}
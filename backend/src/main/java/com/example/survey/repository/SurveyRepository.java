@@ -112,4 +112,30 @@ public interface SurveyRepository extends JpaRepository<Survey, Long> {
      */
     @Query("SELECT s FROM Survey s WHERE s.active = true AND s.startDate > :now")
     Page<Survey> findUpcomingSurveys(@Param("now") LocalDateTime now, Pageable pageable);
-} 
\ No newline at end of file
+
+    /**
+     * 교육과정에 속한 설문 ID 목록 조회
+     *
+     * @param courseId 교육과정 ID
+     * @return 설문 ID 목록
+     */
+    @Query("SELECT s.id FROM Survey s WHERE s.course.id = :courseId ORDER BY s.id")
+    List<Long> findIdsByCourseId(@Param("courseId") Long courseId);
+
+    /**
+     * 사용자가 응답해야 할 설문 조회 (진행 중이거나 아직 시작 전인 설문)
+     * 활성 설문 중 사용자가 승인된 수강신청을 가진 과정의 설문이면서 완료한 응답이 없는 설문을 한 번에 조회
+     *
+     * @param userId 사용자 ID
+     * @param now 기준 일시 (종료되지 않은 설문만)
+     * @return 설문 목록 (과정 포함, 종료 일시 순)
+     */
+    @Query("SELECT s FROM Survey s JOIN FETCH s.course c " +
+           "WHERE s.active = true AND s.endDate >= :now " +
+           "AND EXISTS (SELECT 1 FROM CourseEnrollment e " +
+           "WHERE e.user.id = :userId AND e.status = 'APPROVED' AND e.session.course = c) " +
+           "AND NOT EXISTS (SELECT 1 FROM SurveyResponse r " +
+           "WHERE r.survey = s AND r.user.id = :userId AND r.status = 'COMPLETED') " +
+           "ORDER BY s.endDate, s.id")
+    List<Survey> findUnansweredSurveysForUser(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+}
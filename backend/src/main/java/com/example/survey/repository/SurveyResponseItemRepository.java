@@ -5,6 +5,7 @@ import com.example.survey.entity.SurveyQuestionOption;
 import com.example.survey.entity.SurveyResponse;
 import com.example.survey.entity.SurveyResponseItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -97,4 +98,13 @@ public interface SurveyResponseItemRepository extends JpaRepository<SurveyRespon
     @Query("SELECT AVG(i.scaleValue) FROM SurveyResponseItem i " +
            "WHERE i.question.id = :questionId AND i.scaleValue IS NOT NULL")
     Double getAverageScaleValueByQuestionId(@Param("questionId") Long questionId);
-} 
\ No newline at end of file
+
+    /**
+     * 설문 응답의 모든 응답 항목을 삭제 문장 한 번으로 삭제
+     * @param responseId 설문 응답 ID
+     * @return 삭제된 항목 수
+     */
+    @Modifying
+    @Query("DELETE FROM SurveyResponseItem i WHERE i.response.id = :responseId")
+    int deleteByResponseId(@Param("responseId") Long responseId);
+}
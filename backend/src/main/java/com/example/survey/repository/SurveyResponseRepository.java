@@ -5,9 +5,11 @@ import com.example.survey.entity.Survey;
 import com.example.survey.entity.SurveyResponse;
 import com.example.survey.entity.SurveyResponseStatus;
 import com.example.user.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -120,4 +122,26 @@ public interface SurveyResponseRepository extends JpaRepository<SurveyResponse,
      * @return 응답 목록
      */
     List<SurveyResponse> findByUserAndStatus(User user, SurveyResponseStatus status);
-} 
\ No newline at end of file
+
+    /**
+     * 설문 ID와 사용자 ID로 응답 조회 (상태 무관, 설문당 사용자 응답은 하나)
+     *
+     * @param surveyId 설문 ID
+     * @param userId 사용자 ID
+     * @return 응답 (Optional)
+     */
+    @Query("SELECT r FROM SurveyResponse r WHERE r.survey.id = :surveyId AND r.user.id = :userId")
+    Optional<SurveyResponse> findBySurveyIdAndUserId(@Param("surveyId") Long surveyId, @Param("userId") Long userId);
+
+    /**
+     * 설문 ID와 사용자 ID로 응답을 쓰기 잠금과 함께 조회
+     * 제출과 임시 저장 반영이 같은 응답을 동시에 고치지 않도록 순서를 맞춤
+     *
+     * @param surveyId 설문 ID
+     * @param userId 사용자 ID
+     * @return 응답 (Optional)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM SurveyResponse r WHERE r.survey.id = :surveyId AND r.user.id = :userId")
+    Optional<SurveyResponse> findForUpdateBySurveyIdAndUserId(@Param("surveyId") Long surveyId, @Param("userId") Long userId);
+}
@@ -0,0 +1,21 @@
+package com.example.survey.repository;
+
+import com.example.survey.entity.SurveyStatCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 설문 통계 카운터 Repository
+ */
+@Repository
+public interface SurveyStatCounterRepository extends JpaRepository<SurveyStatCounter, SurveyStatCounter.CounterId> {
+
+    /**
+     * 설문의 모든 통계 카운터 조회
+     * @param surveyId 설문 ID
+     * @return 카운터 목록
+     */
+    List<SurveyStatCounter> findBySurveyId(Long surveyId);
+}
@@ -0,0 +1,91 @@
+package com.example.survey.service;
+
+import com.example.course.event.EnrollmentChangedEvent;
+import com.example.survey.dto.PendingSurveyResponse;
+import com.example.survey.event.SurveyDefinitionChangedEvent;
+import com.example.survey.event.SurveyResponseCompletedEvent;
+import com.example.survey.repository.SurveyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 응답해야 할 설문 조회 서비스
+ * 활성 설문, 사용자의 승인된 수강신청, 완료한 응답을 한 번의 쿼리로 조합하여
+ * 사용자별로 캐시하고, 응답 완료/수강신청 변경 커밋 이후 해당 사용자만 무효화함
+ *
+ * 캐시에는 아직 시작 전인 설문도 함께 담아 두고 조회 시점 기준으로 걸러내므로,
+ * 설문이 열리고 닫히는 시각마다 무효화할 필요가 없음
+ * 설문 정의 변경(활성화, 기간, 과정 변경 등)은 모든 사용자에게 영향을 주므로 전체를 무효화함
+ */
+@Service
+public class PendingSurveyService {
+
+    private final SurveyRepository surveyRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<Long, List<PendingSurveyResponse>> pendingSurveys;
+
+    public PendingSurveyService(SurveyRepository surveyRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${survey.pending.cache-size:50000}") long cacheSize,
+                                @Value("${survey.pending.expire-after-write-minutes:30}") long expireAfterWriteMinutes) {
+        this.surveyRepository = surveyRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.pendingSurveys = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .build();
+    }
+
+    /**
+     * 사용자가 지금 응답할 수 있는 미응답 설문 목록
+     * @param userId 사용자 ID
+     * @return 설문 목록 (종료 일시 순)
+     */
+    public List<PendingSurveyResponse> getPendingSurveys(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        return pendingSurveys.get(userId, this::load).stream()
+                .filter(survey -> !now.isBefore(survey.getStartDate()) && !now.isAfter(survey.getEndDate()))
+                .toList();
+    }
+
+    /**
+     * 응답 완료 커밋 이후 응답자 캐시 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResponseCompleted(SurveyResponseCompletedEvent event) {
+        pendingSurveys.invalidate(event.getUserId());
+    }
+
+    /**
+     * 수강신청 상태 변경 커밋 이후 사용자 캐시 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        pendingSurveys.invalidate(event.getUserId());
+    }
+
+    /**
+     * 설문 정의 변경 커밋 이후 전체 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDefinitionChanged(SurveyDefinitionChangedEvent event) {
+        pendingSurveys.invalidateAll();
+    }
+
+    private List<PendingSurveyResponse> load(Long userId) {
+        return readOnlyTransaction.execute(status ->
+                surveyRepository.findUnansweredSurveysForUser(userId, LocalDateTime.now()).stream()
+                        .map(PendingSurveyResponse::from)
+                        .toList());
+    }
+}
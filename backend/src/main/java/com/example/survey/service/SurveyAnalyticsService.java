@@ -0,0 +1,322 @@
+package com.example.survey.service;
+
+import com.example.common.exception.InvalidOperationException;
+import com.example.common.stats.ScaleDistribution;
+import com.example.survey.dto.ScaleStatisticsResponse;
+import com.example.survey.dto.SurveyCrossTabResponse;
+import com.example.survey.dto.SurveyCrossTabRowResponse;
+import com.example.survey.dto.SurveyQuestionOptionResponse;
+import com.example.survey.dto.SurveyQuestionResponse;
+import com.example.survey.entity.SurveyQuestionType;
+import com.example.survey.event.SurveyDefinitionChangedEvent;
+import com.example.survey.service.SurveyResponseMatrix.Dimension;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * 설문 교차 분석 서비스
+ * 설문의 완료 응답을 세 번의 쿼리로 읽어 열 지향 행렬(SurveyResponseMatrix)로 만들고
+ * 선택형/척도형 문항, 과정 차수 사이의 교차표와 필터, 집단별 척도 비교를 메모리에서 계산함
+ *
+ * 행렬은 설문별로 캐시되며 분석용이므로 일정 시간이 지나면 다시 적재하여 새 응답을 반영하고,
+ * 설문 정의가 바뀌면 즉시 무효화함
+ */
+@Service
+public class SurveyAnalyticsService {
+
+    /**
+     * 과정 차수 차원 이름
+     */
+    public static final String SESSION_DIMENSION = "session";
+
+    private static final String SELECT_RESPONSES =
+            "SELECT r.id, COALESCE(re.course_session_id, " +
+            "(SELECT MAX(e.course_session_id) FROM course_enrollments e " +
+            "JOIN course_sessions cs ON cs.id = e.course_session_id " +
+            "WHERE e.user_id = r.user_id AND cs.course_id = s.course_id AND e.status = 'APPROVED')) " +
+            "FROM survey_response r JOIN survey s ON s.id = r.survey_id " +
+            "LEFT JOIN course_enrollments re ON re.id = r.enrollment_id " +
+            "WHERE r.survey_id = ? AND r.status = 'COMPLETED' ORDER BY r.id";
+
+    private static final String SELECT_ITEMS =
+            "SELECT i.response_id, i.question_id, i.option_id, i.scale_value " +
+            "FROM survey_response_item i JOIN survey_response r ON r.id = i.response_id " +
+            "WHERE r.survey_id = ? AND r.status = 'COMPLETED'";
+
+    private static final String SELECT_SESSIONS =
+            "SELECT cs.id, cs.name FROM course_sessions cs JOIN survey s ON s.course_id = cs.course_id " +
+            "WHERE s.id = ? ORDER BY cs.id";
+
+    private final SurveyDefinitionService definitionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<Long, SurveyResponseMatrix> matrices;
+
+    public SurveyAnalyticsService(SurveyDefinitionService definitionService,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${survey.analytics.cache-size:100}") long cacheSize,
+                                  @Value("${survey.analytics.expire-after-write-minutes:5}") long expireAfterWriteMinutes) {
+        this.definitionService = definitionService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.matrices = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .build();
+    }
+
+    /**
+     * 교차표 조회
+     * 열이 척도형 문항이면 행 범주별 척도 통계(평균, 중앙값 등)를 함께 계산하여 집단 비교에 사용함
+     * @param surveyId 설문 ID
+     * @param row 행 차원 ("session" 또는 선택형/척도형 문항 ID)
+     * @param column 열 차원 ("session" 또는 선택형/척도형 문항 ID)
+     * @param filterQuestionId 필터 문항 ID (없으면 전체 응답)
+     * @param filterKey 필터 문항의 선택지 ID 또는 척도 값
+     * @return 교차표
+     * @throws InvalidOperationException 분석할 수 없는 차원이나 필터인 경우
+     */
+    public SurveyCrossTabResponse crossTab(Long surveyId, String row, String column,
+                                           Long filterQuestionId, Long filterKey) {
+        SurveyDefinition definition = definitionService.getDefinition(surveyId);
+        SurveyResponseMatrix matrix = matrices.get(surveyId, id -> load(definition));
+
+        Dimension rows = dimensionOf(matrix, row);
+        Dimension columns = dimensionOf(matrix, column);
+        IntPredicate filter = filterOf(matrix, filterQuestionId, filterKey);
+        long[][] table = matrix.crossTab(rows, columns, filter);
+        boolean scaleColumn = isScaleQuestion(definition, column);
+
+        List<SurveyCrossTabRowResponse> rowResponses = new ArrayList<>();
+        for (int i = 0; i < rows.categoryCount(); i++) {
+            rowResponses.add(SurveyCrossTabRowResponse.builder()
+                    .key(rows.getKeys().get(i))
+                    .label(rows.getLabels().get(i))
+                    .counts(Arrays.stream(table[i]).boxed().toList())
+                    .total(Arrays.stream(table[i]).sum())
+                    .scale(scaleColumn ? ScaleStatisticsResponse.from(scaleDistributionOf(columns, table[i])) : null)
+                    .build());
+        }
+
+        return SurveyCrossTabResponse.builder()
+                .surveyId(surveyId)
+                .responseCount(matrix.count(filter))
+                .row(row)
+                .column(column)
+                .columnKeys(columns.getKeys())
+                .columnLabels(columns.getLabels())
+                .rows(rowResponses)
+                .build();
+    }
+
+    /**
+     * 설문/문항/선택지 변경 커밋 이후 해당 설문 행렬 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDefinitionChanged(SurveyDefinitionChangedEvent event) {
+        matrices.invalidate(event.getSurveyId());
+    }
+
+    private Dimension dimensionOf(SurveyResponseMatrix matrix, String dimension) {
+        if (SESSION_DIMENSION.equals(dimension)) {
+            return matrix.session();
+        }
+        Dimension question = matrix.question(parseQuestionId(dimension));
+        if (question == null) {
+            throw new InvalidOperationException("교차 분석할 수 없는 문항입니다. ID: " + dimension);
+        }
+        return question;
+    }
+
+    private IntPredicate filterOf(SurveyResponseMatrix matrix, Long filterQuestionId, Long filterKey) {
+        if (filterQuestionId == null) {
+            return response -> true;
+        }
+        Dimension dimension = matrix.question(filterQuestionId);
+        int category = dimension != null && filterKey != null ? dimension.indexOf(filterKey) : -1;
+        if (category < 0) {
+            throw new InvalidOperationException("적용할 수 없는 필터입니다. 문항 ID: " + filterQuestionId);
+        }
+        return response -> dimension.matches(response, category);
+    }
+
+    private static boolean isScaleQuestion(SurveyDefinition definition, String dimension) {
+        if (SESSION_DIMENSION.equals(dimension)) {
+            return false;
+        }
+        SurveyQuestionResponse question = definition.findQuestion(parseQuestionId(dimension));
+        return question != null && question.getType() == SurveyQuestionType.SCALE;
+    }
+
+    private static Long parseQuestionId(String dimension) {
+        try {
+            return Long.valueOf(dimension);
+        } catch (NumberFormatException e) {
+            throw new InvalidOperationException("교차 분석 차원이 올바르지 않습니다: " + dimension);
+        }
+    }
+
+    private static ScaleDistribution scaleDistributionOf(Dimension scale, long[] counts) {
+        ScaleDistribution distribution = new ScaleDistribution(
+                SurveySubmissionService.MIN_SCALE_VALUE, SurveySubmissionService.MAX_SCALE_VALUE);
+        for (int i = 0; i < counts.length; i++) {
+            distribution.add(scale.getKeys().get(i).intValue(), counts[i]);
+        }
+        return distribution;
+    }
+
+    private SurveyResponseMatrix load(SurveyDefinition definition) {
+        Long surveyId = definition.getSurveyId();
+        return readOnlyTransaction.execute(status -> {
+            ResponseRows responses = new ResponseRows();
+            jdbcTemplate.query(SELECT_RESPONSES, rs -> {
+                responses.add(rs.getLong(1), rs.getLong(2));
+            }, surveyId);
+            int size = responses.size;
+
+            Map<Long, ColumnBuilder> columns = new HashMap<>();
+            for (SurveyQuestionResponse question : definition.getQuestions()) {
+                ColumnBuilder builder = ColumnBuilder.of(question, size);
+                if (builder != null) {
+                    columns.put(question.getId(), builder);
+                }
+            }
+            jdbcTemplate.query(SELECT_ITEMS, rs -> {
+                int response = Arrays.binarySearch(responses.ids, 0, size, rs.getLong(1));
+                ColumnBuilder builder = columns.get(rs.getLong(2));
+                if (response >= 0 && builder != null) {
+                    long optionId = rs.getLong(3);
+                    Long option = rs.wasNull() ? null : optionId;
+                    int scaleValue = rs.getInt(4);
+                    builder.accept(response, option, rs.wasNull() ? null : scaleValue);
+                }
+            }, surveyId);
+
+            List<Long> sessionIds = new ArrayList<>();
+            List<String> sessionNames = new ArrayList<>();
+            Map<Long, Integer> sessionCodeOf = new HashMap<>();
+            jdbcTemplate.query(SELECT_SESSIONS, rs -> {
+                sessionCodeOf.put(rs.getLong(1), sessionIds.size());
+                sessionIds.add(rs.getLong(1));
+                sessionNames.add(rs.getString(2));
+            }, surveyId);
+            int[] sessionCodes = new int[size];
+            for (int i = 0; i < size; i++) {
+                sessionCodes[i] = responses.sessionIds[i] != 0 ? sessionCodeOf.getOrDefault(responses.sessionIds[i], -1) : -1;
+            }
+
+            Map<Long, Dimension> dimensions = new HashMap<>();
+            columns.forEach((questionId, builder) -> dimensions.put(questionId, builder.build()));
+            return new SurveyResponseMatrix(size, Dimension.single(sessionIds, sessionNames, sessionCodes), dimensions);
+        });
+    }
+
+    /**
+     * 응답 ID(오름차순)와 차수 ID를 담는 가변 기본형 배열
+     */
+    private static final class ResponseRows {
+
+        private long[] ids = new long[256];
+        private long[] sessionIds = new long[256];
+        private int size;
+
+        void add(long id, long sessionId) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                sessionIds = Arrays.copyOf(sessionIds, size * 2);
+            }
+            ids[size] = id;
+            sessionIds[size] = sessionId;
+            size++;
+        }
+    }
+
+    /**
+     * 문항 하나의 열 생성기
+     * 단일 선택/찬반형은 선택지 번호, 다중 선택은 선택지 비트마스크, 척도형은 척도 값 번호로 기록함
+     */
+    private static final class ColumnBuilder {
+
+        private final boolean scale;
+        private final List<Long> keys = new ArrayList<>();
+        private final List<String> labels = new ArrayList<>();
+        private final Map<Long, Integer> indexByKey = new HashMap<>();
+        private final int[] codes;
+        private final long[] masks;
+
+        private ColumnBuilder(boolean scale, boolean multiple, int size) {
+            this.scale = scale;
+            this.codes = multiple ? null : new int[size];
+            this.masks = multiple ? new long[size] : null;
+            if (codes != null) {
+                Arrays.fill(codes, -1);
+            }
+        }
+
+        static ColumnBuilder of(SurveyQuestionResponse question, int size) {
+            ColumnBuilder builder;
+            switch (question.getType()) {
+                case SINGLE_CHOICE, YES_NO -> builder = new ColumnBuilder(false, false, size);
+                case MULTIPLE_CHOICE -> {
+                    if (question.getOptions().size() > Long.SIZE) {
+                        return null;
+                    }
+                    builder = new ColumnBuilder(false, true, size);
+                }
+                case SCALE -> {
+                    builder = new ColumnBuilder(true, false, size);
+                    for (int value = SurveySubmissionService.MIN_SCALE_VALUE; value <= SurveySubmissionService.MAX_SCALE_VALUE; value++) {
+                        builder.addCategory((long) value, String.valueOf(value));
+                    }
+                    return builder;
+                }
+                default -> {
+                    return null;
+                }
+            }
+            for (SurveyQuestionOptionResponse option : question.getOptions()) {
+                builder.addCategory(option.getId(), option.getContent());
+            }
+            return builder;
+        }
+
+        private void addCategory(Long key, String label) {
+            indexByKey.put(key, keys.size());
+            keys.add(key);
+            labels.add(label);
+        }
+
+        void accept(int response, Long optionId, Integer scaleValue) {
+            Long key = scale ? (scaleValue != null ? scaleValue.longValue() : null) : optionId;
+            Integer index = key != null ? indexByKey.get(key) : null;
+            if (index == null) {
+                return;
+            }
+            if (masks != null) {
+                masks[response] |= 1L << index;
+            } else {
+                codes[response] = index;
+            }
+        }
+
+        Dimension build() {
+            return masks != null ? Dimension.multiple(keys, labels, masks) : Dimension.single(keys, labels, codes);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.survey.service;
+
+import com.example.survey.dto.SurveyDefinitionResponse;
+import com.example.survey.dto.SurveyQuestionOptionResponse;
+import com.example.survey.dto.SurveyQuestionResponse;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 불변 설문 정의 스냅샷
+ * 설문, 활성 문항, 활성 선택지를 한 번 읽어 화면 응답과 ID 조회용 맵을 함께 보관하며
+ * 같은 설문을 여는 모든 요청이 하나의 인스턴스를 공유함
+ */
+public final class SurveyDefinition {
+
+    private final SurveyDefinitionResponse response;
+    private final Map<Long, SurveyQuestionResponse> questions;
+    private final Map<Long, Set<Long>> optionIds;
+
+    private SurveyDefinition(SurveyDefinitionResponse response) {
+        Map<Long, SurveyQuestionResponse> questions = new HashMap<>();
+        Map<Long, Set<Long>> optionIds = new HashMap<>();
+        for (SurveyQuestionResponse question : response.getQuestions()) {
+            questions.put(question.getId(), question);
+            Set<Long> ids = new HashSet<>();
+            for (SurveyQuestionOptionResponse option : question.getOptions()) {
+                ids.add(option.getId());
+            }
+            optionIds.put(question.getId(), Set.copyOf(ids));
+        }
+        this.response = response;
+        this.questions = Map.copyOf(questions);
+        this.optionIds = Map.copyOf(optionIds);
+    }
+
+    /**
+     * 설문 정의 응답으로부터 스냅샷 생성 (문항/선택지 목록은 불변 목록이어야 함)
+     * @param response 설문 정의 응답
+     * @return 설문 정의 스냅샷
+     */
+    static SurveyDefinition of(SurveyDefinitionResponse response) {
+        return new SurveyDefinition(response);
+    }
+
+    /**
+     * 설문 정의 응답 (캐시된 인스턴스를 그대로 반환하므로 수정하지 않아야 함)
+     */
+    public SurveyDefinitionResponse getResponse() {
+        return response;
+    }
+
+    /**
+     * 설문 ID
+     */
+    public Long getSurveyId() {
+        return response.getId();
+    }
+
+    /**
+     * 활성 문항 목록 (표시 순서)
+     */
+    public List<SurveyQuestionResponse> getQuestions() {
+        return response.getQuestions();
+    }
+
+    /**
+     * ID로 활성 문항 조회
+     * @param questionId 문항 ID
+     * @return 문항 (없거나 비활성이면 null)
+     */
+    public SurveyQuestionResponse findQuestion(Long questionId) {
+        return questionId != null ? questions.get(questionId) : null;
+    }
+
+    /**
+     * 문항의 활성 선택지 여부
+     * @param questionId 문항 ID
+     * @param optionId 선택지 ID
+     * @return 해당 문항의 활성 선택지이면 true
+     */
+    public boolean hasOption(Long questionId, Long optionId) {
+        if (questionId == null || optionId == null) {
+            return false;
+        }
+        Set<Long> ids = optionIds.get(questionId);
+        return ids != null && ids.contains(optionId);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.survey.service;
+
+import com.example.common.exception.EntityNotFoundException;
+import com.example.survey.dto.SurveyDefinitionResponse;
+import com.example.survey.dto.SurveyQuestionOptionResponse;
+import com.example.survey.dto.SurveyQuestionResponse;
+import com.example.survey.entity.Survey;
+import com.example.survey.entity.SurveyQuestion;
+import com.example.survey.entity.SurveyQuestionOption;
+import com.example.survey.event.SurveyDefinitionChangedEvent;
+import com.example.survey.repository.SurveyQuestionOptionRepository;
+import com.example.survey.repository.SurveyQuestionRepository;
+import com.example.survey.repository.SurveyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 설문 정의 조회 서비스
+ * 설문, 활성 문항, 활성 선택지를 세 번의 쿼리로 읽어 불변 스냅샷(SurveyDefinition)을 만들고
+ * 설문 ID별로 캐시하여 같은 설문을 여는 수강생들이 하나의 인스턴스를 공유하도록 함
+ *
+ * 동시에 들어온 첫 요청들은 캐시 적재를 한 번만 수행하고 결과를 함께 받으며,
+ * 설문/문항/선택지 변경(SurveyDefinitionChangedEvent) 커밋 이후 해당 설문만 무효화함
+ */
+@Service
+public class SurveyDefinitionService {
+
+    private final SurveyRepository surveyRepository;
+    private final SurveyQuestionRepository questionRepository;
+    private final SurveyQuestionOptionRepository optionRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<Long, SurveyDefinition> definitions;
+
+    public SurveyDefinitionService(SurveyRepository surveyRepository,
+                                   SurveyQuestionRepository questionRepository,
+                                   SurveyQuestionOptionRepository optionRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${survey.definition.cache-size:1000}") long cacheSize,
+                                   @Value("${survey.definition.expire-after-access-minutes:60}") long expireAfterAccessMinutes) {
+        this.surveyRepository = surveyRepository;
+        this.questionRepository = questionRepository;
+        this.optionRepository = optionRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.definitions = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .build();
+    }
+
+    /**
+     * 설문 정의 조회
+     * @param surveyId 설문 ID
+     * @return 설문 정의 스냅샷
+     * @throws EntityNotFoundException 설문을 찾을 수 없는 경우
+     */
+    public SurveyDefinition getDefinition(Long surveyId) {
+        return definitions.get(surveyId, this::load);
+    }
+
+    /**
+     * 설문/문항/선택지 변경 커밋 이후 해당 설문 정의 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDefinitionChanged(SurveyDefinitionChangedEvent event) {
+        definitions.invalidate(event.getSurveyId());
+    }
+
+    private SurveyDefinition load(Long surveyId) {
+        return readOnlyTransaction.execute(status -> {
+            Survey survey = surveyRepository.findById(surveyId)
+                    .orElseThrow(() -> new EntityNotFoundException("설문을 찾을 수 없습니다. ID: " + surveyId));
+            List<SurveyQuestion> questions = questionRepository.findActiveBySurveyIdOrderByDisplayOrder(surveyId);
+
+            Map<Long, List<SurveyQuestionOptionResponse>> optionsByQuestion = new HashMap<>();
+            for (SurveyQuestionOption option : optionRepository.findActiveBySurveyIdOrderByQuestionAndDisplayOrder(surveyId)) {
+                optionsByQuestion.computeIfAbsent(option.getQuestion().getId(), id -> new ArrayList<>())
+                        .add(SurveyQuestionOptionResponse.from(option));
+            }
+
+            List<SurveyQuestionResponse> questionResponses = questions.stream()
+                    .map(question -> SurveyQuestionResponse.from(question,
+                            List.copyOf(optionsByQuestion.getOrDefault(question.getId(), List.of()))))
+                    .toList();
+            return SurveyDefinition.of(SurveyDefinitionResponse.from(survey, questionResponses));
+        });
+    }
+}
@@ -0,0 +1,389 @@
+package com.example.survey.service;
+
+import com.example.common.exception.InvalidOperationException;
+import com.example.survey.dto.SurveyAnswerRequest;
+import com.example.survey.dto.SurveyAnswerResponse;
+import com.example.survey.dto.SurveyDraftRequest;
+import com.example.survey.dto.SurveyDraftResponse;
+import com.example.survey.dto.SurveyQuestionResponse;
+import com.example.survey.dto.SurveySubmitRequest;
+import com.example.survey.dto.SurveySubmitResponse;
+import com.example.survey.entity.SurveyResponse;
+import com.example.survey.entity.SurveyResponseItem;
+import com.example.survey.entity.SurveyResponseStatus;
+import com.example.survey.event.SurveyResponseCompletedEvent;
+import com.example.survey.repository.SurveyQuestionOptionRepository;
+import com.example.survey.repository.SurveyQuestionRepository;
+import com.example.survey.repository.SurveyRepository;
+import com.example.survey.repository.SurveyResponseItemRepository;
+import com.example.survey.repository.SurveyResponseRepository;
+import com.example.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 설문 임시 저장 서비스 (write-behind)
+ * 자동 저장 요청은 (사용자, 설문)별 메모리 임시 답변에 문항 단위로 덮어쓰기만 하고,
+ * 바뀐 임시 답변의 최신 상태만 주기적으로 진행 중(IN_PROGRESS) 응답에 반영하므로
+ * 자동 저장 빈도와 무관하게 반영 주기당 한 번만 기록함
+ *
+ * 반영되지 않은 임시 답변은 조회 시 우선 사용되며, 제출되면 버려짐
+ * 제출과 같은 기준(응답 기간, 과정 수강 승인)을 만족할 때만 저장/반영하며,
+ * 이미 완료되었거나 취소된 응답에는 반영하지 않음
+ */
+@Slf4j
+@Service
+public class SurveyDraftService {
+
+    private static final int MAX_TEXT_ANSWER_LENGTH = 2000;
+
+    private final SurveyDefinitionService definitionService;
+    private final SurveySubmissionService submissionService;
+    private final SurveyRepository surveyRepository;
+    private final SurveyQuestionRepository questionRepository;
+    private final SurveyQuestionOptionRepository optionRepository;
+    private final SurveyResponseRepository responseRepository;
+    private final SurveyResponseItemRepository responseItemRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * 최근 조회/저장한 임시 답변 (반영 여부 무관, 조회용)
+     */
+    private final Cache<DraftKey, Draft> drafts;
+
+    /**
+     * 아직 반영되지 않은 임시 답변
+     */
+    private final Map<DraftKey, Draft> dirty = new ConcurrentHashMap<>();
+
+    public SurveyDraftService(SurveyDefinitionService definitionService,
+                              SurveySubmissionService submissionService,
+                              SurveyRepository surveyRepository,
+                              SurveyQuestionRepository questionRepository,
+                              SurveyQuestionOptionRepository optionRepository,
+                              SurveyResponseRepository responseRepository,
+                              SurveyResponseItemRepository responseItemRepository,
+                              UserRepository userRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${survey.draft.cache-size:10000}") long cacheSize,
+                              @Value("${survey.draft.expire-after-access-minutes:30}") long expireAfterAccessMinutes) {
+        this.definitionService = definitionService;
+        this.submissionService = submissionService;
+        this.surveyRepository = surveyRepository;
+        this.questionRepository = questionRepository;
+        this.optionRepository = optionRepository;
+        this.responseRepository = responseRepository;
+        this.responseItemRepository = responseItemRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.drafts = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .build();
+    }
+
+    /**
+     * 임시 답변 조회
+     * @param surveyId 설문 ID
+     * @param userId 사용자 ID
+     * @return 임시 답변 (없으면 빈 목록)
+     */
+    public SurveyDraftResponse getDraft(Long surveyId, Long userId) {
+        SurveyDefinition definition = definitionService.getDefinition(surveyId);
+        return toResponse(definition, draftOf(new DraftKey(userId, surveyId)));
+    }
+
+    /**
+     * 임시 답변 저장 (메모리에만 반영, 문항 단위로 덮어씀)
+     * @param surveyId 설문 ID
+     * @param userId 사용자 ID
+     * @param request 바뀐 문항의 답변
+     * @return 저장 후 임시 답변
+     * @throws InvalidOperationException 응답 기간이 아니거나, 과정 수강이 승인되지 않았거나,
+     *                                    설문에 없는 문항이 포함되었거나 답변이 허용 길이를 넘는 경우
+     */
+    public SurveyDraftResponse saveDraft(Long surveyId, Long userId, SurveyDraftRequest request) {
+        SurveyDefinition definition = definitionService.getDefinition(surveyId);
+        submissionService.validatePeriod(definition.getResponse());
+        submissionService.validateEligibility(definition.getResponse(), userId);
+        for (SurveyAnswerRequest answer : request.getAnswers()) {
+            SurveyQuestionResponse question = definition.findQuestion(answer.getQuestionId());
+            if (question == null) {
+                throw new InvalidOperationException("설문에 없는 문항입니다. ID: " + answer.getQuestionId());
+            }
+            if (answer.getTextAnswer() != null && answer.getTextAnswer().length() > MAX_TEXT_ANSWER_LENGTH) {
+                throw new InvalidOperationException("답변이 너무 깁니다. 문항 ID: " + question.getId());
+            }
+            if (answer.getOptionIds() != null && answer.getOptionIds().size() > question.getOptions().size()) {
+                throw new InvalidOperationException("선택지가 너무 많습니다. 문항 ID: " + question.getId());
+            }
+        }
+
+        // 저장된 임시 답변 적재(DB 조회)는 맵 잠금 밖에서 먼저 하고, compute 안에서는 병합만 함
+        DraftKey key = new DraftKey(userId, surveyId);
+        Draft loaded = drafts.get(key, this::load);
+        Draft saved = dirty.compute(key, (k, current) -> {
+            Draft cached = drafts.getIfPresent(k);
+            Draft merged = (current != null ? current : cached != null ? cached : loaded).with(request.getAnswers());
+            drafts.put(k, merged);
+            return merged;
+        });
+        return toResponse(definition, saved);
+    }
+
+    /**
+     * 임시 답변으로 설문 제출
+     * @param surveyId 설문 ID
+     * @param userId 사용자 ID
+     * @return 제출 결과
+     */
+    public SurveySubmitResponse submitDraft(Long surveyId, Long userId) {
+        Draft draft = draftOf(new DraftKey(userId, surveyId));
+        List<SurveyAnswerRequest> answers = draft.answers().values().stream()
+                .map(answer -> new SurveyAnswerRequest(answer.questionId(), answer.optionIds(), answer.textAnswer(), answer.scaleValue()))
+                .toList();
+        return submissionService.submit(surveyId, userId, new SurveySubmitRequest(answers));
+    }
+
+    /**
+     * 응답 완료 커밋 이후 임시 답변 폐기
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResponseCompleted(SurveyResponseCompletedEvent event) {
+        DraftKey key = new DraftKey(event.getUserId(), event.getSurveyId());
+        dirty.remove(key);
+        drafts.invalidate(key);
+    }
+
+    /**
+     * 바뀐 임시 답변의 최신 상태를 진행 중 응답에 반영
+     * 반영 중 다시 바뀐 임시 답변은 남겨 두어 다음 주기에 반영하며, 실패한 임시 답변도 다음 주기에 다시 시도함
+     * @return 반영된 임시 답변 수
+     */
+    @Scheduled(fixedDelayString = "${survey.draft.flush-interval-ms:30000}",
+               initialDelayString = "${survey.draft.flush-interval-ms:30000}")
+    public synchronized int flush() {
+        int flushed = 0;
+        for (Map.Entry<DraftKey, Draft> entry : new ArrayList<>(dirty.entrySet())) {
+            DraftKey key = entry.getKey();
+            Draft draft = entry.getValue();
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(key, draft));
+                flushed++;
+            } catch (DataIntegrityViolationException e) {
+                // 같은 사용자의 제출이 먼저 응답을 만든 경우
+                log.debug("임시 답변 반영 생략 (이미 제출됨). 사용자 ID: {}, 설문 ID: {}", key.userId(), key.surveyId());
+            } catch (RuntimeException e) {
+                log.warn("임시 답변 반영 실패, 다음 주기에 재시도. 사용자 ID: {}, 설문 ID: {}", key.userId(), key.surveyId(), e);
+                continue;
+            }
+            dirty.remove(key, draft);
+        }
+        return flushed;
+    }
+
+    /**
+     * 종료 시 남은 임시 답변 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Draft draftOf(DraftKey key) {
+        Draft draft = dirty.get(key);
+        return draft != null ? draft : drafts.get(key, this::load);
+    }
+
+    private Draft load(DraftKey key) {
+        return readOnlyTransaction.execute(status -> {
+            Optional<SurveyResponse> response = responseRepository.findBySurveyIdAndUserId(key.surveyId(), key.userId());
+            if (response.isEmpty() || response.get().getStatus() != SurveyResponseStatus.IN_PROGRESS) {
+                return Draft.EMPTY;
+            }
+            Map<Long, DraftAnswer> answers = new LinkedHashMap<>();
+            for (SurveyResponseItem item : responseItemRepository.findByResponse(response.get())) {
+                Long questionId = item.getQuestion().getId();
+                DraftAnswer current = answers.getOrDefault(questionId, DraftAnswer.empty(questionId));
+                answers.put(questionId, current.withItem(
+                        item.getSelectedOption() != null ? item.getSelectedOption().getId() : null,
+                        item.getTextAnswer(), item.getScaleValue()));
+            }
+            return new Draft(Map.copyOf(answers));
+        });
+    }
+
+    private void write(DraftKey key, Draft draft) {
+        SurveyDefinition definition = definitionService.getDefinition(key.surveyId());
+        if (!isWritable(definition, key.userId())) {
+            // 저장 이후 설문이 마감되었거나 수강 승인이 취소된 경우 응답을 만들지 않음
+            log.debug("임시 답변 반영 생략 (응답 자격 없음). 사용자 ID: {}, 설문 ID: {}", key.userId(), key.surveyId());
+            return;
+        }
+
+        Optional<SurveyResponse> existing = responseRepository.findForUpdateBySurveyIdAndUserId(key.surveyId(), key.userId());
+        if (existing.isPresent() && existing.get().getStatus() != SurveyResponseStatus.IN_PROGRESS) {
+            // 완료되었거나 취소된 응답은 임시 답변으로 되살리지 않음
+            return;
+        }
+
+        SurveyResponse response;
+        if (existing.isPresent()) {
+            response = existing.get().resume();
+            responseItemRepository.deleteByResponseId(response.getId());
+        } else {
+            response = SurveyResponse.builder()
+                    .survey(surveyRepository.getReferenceById(key.surveyId()))
+                    .user(userRepository.getReferenceById(key.userId()))
+                    .status(SurveyResponseStatus.IN_PROGRESS)
+                    .build();
+        }
+
+        for (DraftAnswer answer : draft.answers().values()) {
+            SurveyQuestionResponse question = definition.findQuestion(answer.questionId());
+            if (question == null) {
+                continue;
+            }
+            // 임시 답변은 완성되지 않았을 수 있으므로 문항 유형에 맞는 값만 골라 저장함 (검증은 제출 시 수행)
+            switch (question.getType()) {
+                case SINGLE_CHOICE, MULTIPLE_CHOICE, YES_NO -> {
+                    for (Long optionId : answer.optionIds()) {
+                        if (definition.hasOption(question.getId(), optionId)) {
+                            response.addItem(itemOf(response, question.getId(), optionId, null, null));
+                        }
+                    }
+                }
+                case SCALE -> {
+                    Integer scaleValue = answer.scaleValue();
+                    if (scaleValue != null && scaleValue >= SurveySubmissionService.MIN_SCALE_VALUE
+                            && scaleValue <= SurveySubmissionService.MAX_SCALE_VALUE) {
+                        response.addItem(itemOf(response, question.getId(), null, null, scaleValue));
+                    }
+                }
+                default -> {
+                    String text = answer.textAnswer();
+                    if (text != null && !text.isBlank()) {
+                        response.addItem(itemOf(response, question.getId(), null, text, null));
+                    }
+                }
+            }
+        }
+        responseRepository.saveAndFlush(response);
+    }
+
+    private boolean isWritable(SurveyDefinition definition, Long userId) {
+        try {
+            submissionService.validatePeriod(definition.getResponse());
+            submissionService.validateEligibility(definition.getResponse(), userId);
+            return true;
+        } catch (InvalidOperationException e) {
+            return false;
+        }
+    }
+
+    private SurveyResponseItem itemOf(SurveyResponse response, Long questionId, Long optionId,
+                                      String textAnswer, Integer scaleValue) {
+        return SurveyResponseItem.builder()
+                .response(response)
+                .question(questionRepository.getReferenceById(questionId))
+                .selectedOption(optionId != null ? optionRepository.getReferenceById(optionId) : null)
+                .textAnswer(textAnswer)
+                .scaleValue(scaleValue)
+                .build();
+    }
+
+    private static SurveyDraftResponse toResponse(SurveyDefinition definition, Draft draft) {
+        List<SurveyAnswerResponse> answers = new ArrayList<>();
+        for (SurveyQuestionResponse question : definition.getQuestions()) {
+            DraftAnswer answer = draft.answers().get(question.getId());
+            if (answer != null) {
+                answers.add(SurveyAnswerResponse.builder()
+                        .questionId(answer.questionId())
+                        .optionIds(answer.optionIds())
+                        .textAnswer(answer.textAnswer())
+                        .scaleValue(answer.scaleValue())
+                        .build());
+            }
+        }
+        return SurveyDraftResponse.builder()
+                .surveyId(definition.getSurveyId())
+                .answers(answers)
+                .build();
+    }
+
+    /**
+     * 임시 답변 키
+     */
+    private record DraftKey(Long userId, Long surveyId) {
+    }
+
+    /**
+     * 불변 임시 답변 (문항 ID → 답변)
+     */
+    private record Draft(Map<Long, DraftAnswer> answers) {
+
+        static final Draft EMPTY = new Draft(Map.of());
+
+        Draft with(List<SurveyAnswerRequest> changes) {
+            Map<Long, DraftAnswer> merged = new HashMap<>(answers);
+            for (SurveyAnswerRequest change : changes) {
+                DraftAnswer answer = new DraftAnswer(change.getQuestionId(),
+                        change.getOptionIds() != null ? List.copyOf(change.getOptionIds()) : List.of(),
+                        change.getTextAnswer(), change.getScaleValue());
+                if (answer.isEmpty()) {
+                    merged.remove(answer.questionId());
+                } else {
+                    merged.put(answer.questionId(), answer);
+                }
+            }
+            return new Draft(Map.copyOf(merged));
+        }
+    }
+
+    /**
+     * 문항 하나의 임시 답변
+     */
+    private record DraftAnswer(Long questionId, List<Long> optionIds, String textAnswer, Integer scaleValue) {
+
+        static DraftAnswer empty(Long questionId) {
+            return new DraftAnswer(questionId, List.of(), null, null);
+        }
+
+        boolean isEmpty() {
+            return optionIds.isEmpty() && (textAnswer == null || textAnswer.isEmpty()) && scaleValue == null;
+        }
+
+        DraftAnswer withItem(Long optionId, String text, Integer scale) {
+            List<Long> options = optionIds;
+            if (optionId != null) {
+                options = new ArrayList<>(optionIds);
+                options.add(optionId);
+                options = List.copyOf(options);
+            }
+            return new DraftAnswer(questionId, options,
+                    text != null ? text : textAnswer, scale != null ? scale : scaleValue);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.survey.service;
+
+import com.example.common.exception.InvalidOperationException;
+import com.example.survey.dto.SurveyQuestionOptionResponse;
+import com.example.survey.dto.SurveyQuestionResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * 설문 응답 내보내기 서비스
+ * 완료된 응답을 응답 하나당 한 행, 활성 문항 하나당 한 열인 CSV로 내보냄
+ *
+ * 응답 항목을 응답 ID 순서의 전진 전용 커서(fetch size 지정)로 읽으면서 응답이 바뀔 때마다
+ * 직전 행을 바로 써 내보내므로, 응답 수와 무관하게 한 행 분량의 메모리만 사용함
+ * 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 을 붙임
+ * 응답자 식별 정보(사용자 ID)는 내보내지 않음
+ *
+ * 내보내기는 커넥션과 읽기 전용 트랜잭션을 오래 잡으므로 요청 처리 실행기가 아닌
+ * 작은 전용 실행기(surveyExportExecutor)에서 실행하며, 실행기가 가득 차면 요청을 거절함
+ * 큰 설문도 끝까지 내보낼 수 있도록 비동기 요청 제한 시간은 survey.export.timeout-ms 로 따로 지정함
+ */
+@Service
+public class SurveyExportService {
+
+    private static final String SELECT_ROWS =
+            "SELECT r.id, r.completed_at, i.question_id, i.option_id, i.text_answer, i.scale_value " +
+            "FROM survey_response r LEFT JOIN survey_response_item i ON i.response_id = r.id " +
+            "WHERE r.survey_id = ? AND r.status = 'COMPLETED' " +
+            "ORDER BY r.id, i.id";
+
+    private static final String MULTIPLE_ANSWER_SEPARATOR = "; ";
+
+    /**
+     * 응답으로 한 번에 보내는 최대 바이트 수
+     */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final SurveyDefinitionService definitionService;
+    private final JdbcTemplate cursorJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Executor exportExecutor;
+    private final long timeoutMs;
+
+    public SurveyExportService(SurveyDefinitionService definitionService,
+                               DataSource dataSource,
+                               PlatformTransactionManager transactionManager,
+                               @Qualifier("surveyExportExecutor") Executor exportExecutor,
+                               @Value("${survey.export.fetch-size:1000}") int fetchSize,
+                               @Value("${survey.export.timeout-ms:1800000}") long timeoutMs) {
+        this.definitionService = definitionService;
+        this.exportExecutor = exportExecutor;
+        this.timeoutMs = timeoutMs;
+        this.cursorJdbcTemplate = new JdbcTemplate(dataSource);
+        this.cursorJdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 설문 응답 CSV 내보내기 시작
+     * 설문 정의는 호출 시점에 확인하므로 없는 설문은 응답 본문을 쓰기 전에 예외가 발생함
+     * (PostgreSQL 은 트랜잭션 안에서만 커서 단위로 가져오므로 본문 쓰기 전체를 읽기 전용 트랜잭션으로 감쌈)
+     * @param surveyId 설문 ID
+     * @return 응답 본문 (전용 실행기에서 채워짐)
+     * @throws InvalidOperationException 동시에 진행 중인 내보내기가 너무 많은 경우
+     */
+    public ResponseBodyEmitter exportCsv(Long surveyId) {
+        List<SurveyQuestionResponse> questions = definitionService.getDefinition(surveyId).getQuestions();
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMs);
+        try {
+            exportExecutor.execute(() -> stream(surveyId, questions, emitter));
+        } catch (TaskRejectedException e) {
+            throw new InvalidOperationException("진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return emitter;
+    }
+
+    private void stream(Long surveyId, List<SurveyQuestionResponse> questions, ResponseBodyEmitter emitter) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new BufferedOutputStream(new EmitterOutputStream(emitter), CHUNK_SIZE), StandardCharsets.UTF_8));
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> writeCsv(surveyId, questions, writer));
+            writer.flush();
+            emitter.complete();
+        } catch (UncheckedIOException e) {
+            emitter.completeWithError(e.getCause());
+        } catch (IOException | RuntimeException e) {
+            // 클라이언트 연결 종료나 제한 시간 초과로 응답이 이미 끝난 경우도 여기서 정리됨
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void writeCsv(Long surveyId, List<SurveyQuestionResponse> questions, Writer writer) {
+        Map<Long, Integer> columnOf = new HashMap<>();
+        Map<Long, String> optionContents = new HashMap<>();
+        String[] header = new String[questions.size() + 2];
+        header[0] = "응답 ID";
+        header[1] = "완료 일시";
+        for (int i = 0; i < questions.size(); i++) {
+            SurveyQuestionResponse question = questions.get(i);
+            columnOf.put(question.getId(), i + 2);
+            header[i + 2] = question.getContent();
+            for (SurveyQuestionOptionResponse option : question.getOptions()) {
+                optionContents.put(option.getId(), option.getContent());
+            }
+        }
+
+        try {
+            writer.write('\uFEFF');
+            writeLine(writer, header);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        RowBuffer row = new RowBuffer(header.length);
+        cursorJdbcTemplate.query(SELECT_ROWS, rs -> {
+            long responseId = rs.getLong(1);
+            if (row.responseId != responseId) {
+                row.writeTo(writer);
+                Timestamp completedAt = rs.getTimestamp(2);
+                row.start(responseId, completedAt != null ? completedAt.toLocalDateTime().toString() : "");
+            }
+
+            long questionId = rs.getLong(3);
+            Integer column = rs.wasNull() ? null : columnOf.get(questionId);
+            if (column == null) {
+                return;
+            }
+            long optionId = rs.getLong(4);
+            String value;
+            if (!rs.wasNull()) {
+                value = optionContents.getOrDefault(optionId, String.valueOf(optionId));
+            } else {
+                value = rs.getString(5);
+                int scaleValue = rs.getInt(6);
+                if (!rs.wasNull()) {
+                    value = String.valueOf(scaleValue);
+                }
+            }
+            row.append(column, value);
+        }, surveyId);
+        row.writeTo(writer);
+    }
+
+    private static void writeLine(Writer writer, String[] cells) throws IOException {
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(cells[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * CSV 셀 값 이스케이프
+     * 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고, 수식으로 해석될 수 있는 값
+     * (=, +, -, @ 또는 탭/캐리지 리턴으로 시작)은 앞에 작은따옴표를 붙임
+     */
+    private static String escape(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String cell = isFormulaLike(value) ? "'" + value : value;
+        if (cell.indexOf(',') >= 0 || cell.indexOf('"') >= 0 || cell.indexOf('\n') >= 0 || cell.indexOf('\r') >= 0) {
+            return '"' + cell.replace("\"", "\"\"") + '"';
+        }
+        return cell;
+    }
+
+    private static boolean isFormulaLike(String value) {
+        char first = value.charAt(0);
+        if (first == '\t' || first == '\r') {
+            return true;
+        }
+        return "=+-@".indexOf(first) >= 0 && !isNumber(value);
+    }
+
+    private static boolean isNumber(String value) {
+        try {
+            Double.parseDouble(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 쓰인 바이트를 비동기 응답으로 보내는 출력 스트림
+     */
+    private static final class EmitterOutputStream extends OutputStream {
+
+        private final ResponseBodyEmitter emitter;
+
+        private EmitterOutputStream(ResponseBodyEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            emitter.send(new byte[]{(byte) b});
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len > 0) {
+                emitter.send(Arrays.copyOfRange(b, off, off + len));
+            }
+        }
+    }
+
+    /**
+     * 작성 중인 한 행 (한 응답)
+     */
+    private static final class RowBuffer {
+
+        private final String[] cells;
+        private long responseId = -1;
+
+        private RowBuffer(int columns) {
+            this.cells = new String[columns];
+        }
+
+        void start(long responseId, String completedAt) {
+            Arrays.fill(cells, null);
+            this.responseId = responseId;
+            cells[0] = String.valueOf(responseId);
+            cells[1] = completedAt;
+        }
+
+        void append(int column, String value) {
+            if (value == null) {
+                return;
+            }
+            cells[column] = cells[column] == null ? value : cells[column] + MULTIPLE_ANSWER_SEPARATOR + value;
+        }
+
+        void writeTo(Writer writer) {
+            if (responseId < 0) {
+                return;
+            }
+            try {
+                writeLine(writer, cells);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
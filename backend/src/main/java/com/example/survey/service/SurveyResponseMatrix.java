@@ -0,0 +1,175 @@
+package com.example.survey.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * 설문 응답 열 지향 행렬 (불변)
+ * 완료된 응답을 행으로, 분석 차원(선택형/척도형 문항, 과정 차수)을 열로 두고
+ * 각 열을 응답 수 길이의 기본형 배열(범주 번호 또는 다중 선택 비트마스크)로 보관하여
+ * 교차표, 필터를 응답 항목 조인 없이 배열 순회만으로 계산함
+ *
+ * 행 순회는 병렬 스트림으로 나누어 행마다 부분 교차표를 모은 뒤 합침
+ */
+public final class SurveyResponseMatrix {
+
+    private final int size;
+    private final Dimension session;
+    private final Map<Long, Dimension> questions;
+
+    SurveyResponseMatrix(int size, Dimension session, Map<Long, Dimension> questions) {
+        this.size = size;
+        this.session = session;
+        this.questions = Map.copyOf(questions);
+    }
+
+    /**
+     * 완료 응답 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 과정 차수 차원
+     */
+    public Dimension session() {
+        return session;
+    }
+
+    /**
+     * 문항 차원 (선택형, 척도형 문항만)
+     * @param questionId 문항 ID
+     * @return 문항 차원 (분석할 수 없는 문항이면 null)
+     */
+    public Dimension question(Long questionId) {
+        return questions.get(questionId);
+    }
+
+    /**
+     * 교차표 계산
+     * @param rows 행 차원
+     * @param columns 열 차원
+     * @param filter 포함할 응답 조건 (응답 행 번호 기준)
+     * @return [행 범주][열 범주] 응답 수
+     */
+    public long[][] crossTab(Dimension rows, Dimension columns, IntPredicate filter) {
+        int rowCount = rows.categoryCount();
+        int columnCount = columns.categoryCount();
+        return IntStream.range(0, size)
+                .parallel()
+                .filter(filter)
+                .collect(() -> new long[rowCount][columnCount],
+                        (table, response) -> rows.forEachCategory(response,
+                                row -> columns.forEachCategory(response, column -> table[row][column]++)),
+                        (left, right) -> {
+                            for (int row = 0; row < rowCount; row++) {
+                                for (int column = 0; column < columnCount; column++) {
+                                    left[row][column] += right[row][column];
+                                }
+                            }
+                        });
+    }
+
+    /**
+     * 조건에 맞는 응답 수
+     * @param filter 포함할 응답 조건
+     * @return 응답 수
+     */
+    public long count(IntPredicate filter) {
+        return IntStream.range(0, size).parallel().filter(filter).count();
+    }
+
+    /**
+     * 분석 차원
+     * 응답마다 하나의 범주 번호(codes, 무응답은 -1) 또는
+     * 여러 범주의 비트마스크(masks, 다중 선택, 최대 64개 범주)를 가짐
+     */
+    public static final class Dimension {
+
+        private final List<Long> keys;
+        private final List<String> labels;
+        private final int[] codes;
+        private final long[] masks;
+
+        private Dimension(List<Long> keys, List<String> labels, int[] codes, long[] masks) {
+            this.keys = List.copyOf(keys);
+            this.labels = List.copyOf(labels);
+            this.codes = codes;
+            this.masks = masks;
+        }
+
+        /**
+         * 응답마다 범주가 하나인 차원
+         * @param keys 범주 키 (선택지 ID, 척도 값, 차수 ID)
+         * @param labels 범주 이름
+         * @param codes 응답별 범주 번호 (무응답은 -1)
+         * @return 차원
+         */
+        static Dimension single(List<Long> keys, List<String> labels, int[] codes) {
+            return new Dimension(keys, labels, codes, null);
+        }
+
+        /**
+         * 응답마다 범주가 여러 개일 수 있는 차원 (범주 64개 이하)
+         * @param keys 범주 키
+         * @param labels 범주 이름
+         * @param masks 응답별 범주 비트마스크
+         * @return 차원
+         */
+        static Dimension multiple(List<Long> keys, List<String> labels, long[] masks) {
+            if (keys.size() > Long.SIZE) {
+                throw new IllegalArgumentException("다중 선택 차원의 범주는 64개 이하여야 합니다: " + keys.size());
+            }
+            return new Dimension(keys, labels, null, masks);
+        }
+
+        public List<Long> getKeys() {
+            return keys;
+        }
+
+        public List<String> getLabels() {
+            return labels;
+        }
+
+        public int categoryCount() {
+            return keys.size();
+        }
+
+        /**
+         * 범주 키의 번호
+         * @param key 범주 키
+         * @return 범주 번호 (없으면 -1)
+         */
+        public int indexOf(long key) {
+            return keys.indexOf(key);
+        }
+
+        /**
+         * 응답이 범주에 속하는지 여부
+         * @param response 응답 행 번호
+         * @param category 범주 번호
+         * @return 속하면 true
+         */
+        public boolean matches(int response, int category) {
+            return masks != null ? (masks[response] & (1L << category)) != 0 : codes[response] == category;
+        }
+
+        void forEachCategory(int response, IntConsumer action) {
+            if (masks == null) {
+                if (codes[response] >= 0) {
+                    action.accept(codes[response]);
+                }
+                return;
+            }
+            long mask = masks[response];
+            while (mask != 0) {
+                action.accept(Long.numberOfTrailingZeros(mask));
+                mask &= mask - 1;
+            }
+        }
+    }
+}
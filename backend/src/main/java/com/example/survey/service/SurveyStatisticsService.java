@@ -0,0 +1,373 @@
+package com.example.survey.service;
+
+import com.example.common.stats.ScaleDistribution;
+import com.example.survey.dto.ScaleStatisticsResponse;
+import com.example.survey.dto.SurveyOptionStatisticsResponse;
+import com.example.survey.dto.SurveyQuestionOptionResponse;
+import com.example.survey.dto.SurveyQuestionResponse;
+import com.example.survey.dto.SurveyQuestionStatisticsResponse;
+import com.example.survey.dto.SurveyStatisticsResponse;
+import com.example.survey.entity.SurveyQuestionType;
+import com.example.survey.entity.SurveyStatCounter;
+import com.example.survey.entity.SurveyStatMetric;
+import com.example.survey.event.SurveyResponseCompletedEvent;
+import com.example.survey.repository.SurveyRepository;
+import com.example.survey.repository.SurveyStatCounterRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 설문 결과 통계 서비스 (증분 집계)
+ * 응답 완료 이벤트마다 설문별 응답 수, 문항별 답변 수, 선택지별 선택 수, 척도 값별 응답 수를
+ * 메모리 카운터에 더하고, 결과 화면은 설문 정의와 이 카운터만으로 응답 수와 무관하게 구성함
+ *
+ * 설문별 카운터는 처음 필요할 때 survey_stat_counters 에서 한 번 적재하며,
+ * 모인 증감분은 주기적으로 같은 테이블에 배치로 반영하여 재시작 후에도 유지됨
+ * 테이블이 비어 있는 기동 시점에는 완료된 응답으로부터 전체를 다시 계산함
+ */
+@Slf4j
+@Service
+public class SurveyStatisticsService {
+
+    private static final String UPDATE_COUNTER =
+            "UPDATE survey_stat_counters SET counter_value = counter_value + ? " +
+            "WHERE survey_id = ? AND question_id = ? AND metric = ? AND bucket = ?";
+
+    private static final String INSERT_COUNTER =
+            "INSERT INTO survey_stat_counters (survey_id, question_id, metric, bucket, counter_value) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SELECT =
+            "INSERT INTO survey_stat_counters (survey_id, question_id, metric, bucket, counter_value) ";
+
+    private static final List<String> REBUILD = List.of(
+            "DELETE FROM survey_stat_counters",
+            INSERT_SELECT +
+            "SELECT r.survey_id, 0, 'RESPONSES', 0, COUNT(*) FROM survey_response r " +
+            "WHERE r.status = 'COMPLETED' GROUP BY r.survey_id",
+            INSERT_SELECT +
+            "SELECT r.survey_id, i.question_id, 'ANSWERED', 0, COUNT(DISTINCT r.id) " +
+            "FROM survey_response r JOIN survey_response_item i ON i.response_id = r.id " +
+            "WHERE r.status = 'COMPLETED' GROUP BY r.survey_id, i.question_id",
+            INSERT_SELECT +
+            "SELECT r.survey_id, i.question_id, 'OPTION', i.option_id, COUNT(*) " +
+            "FROM survey_response r JOIN survey_response_item i ON i.response_id = r.id " +
+            "WHERE r.status = 'COMPLETED' AND i.option_id IS NOT NULL " +
+            "GROUP BY r.survey_id, i.question_id, i.option_id",
+            INSERT_SELECT +
+            "SELECT r.survey_id, i.question_id, 'SCALE', i.scale_value, COUNT(*) " +
+            "FROM survey_response r JOIN survey_response_item i ON i.response_id = r.id " +
+            "WHERE r.status = 'COMPLETED' AND i.scale_value IS NOT NULL " +
+            "GROUP BY r.survey_id, i.question_id, i.scale_value");
+
+    private final SurveyDefinitionService definitionService;
+    private final SurveyRepository surveyRepository;
+    private final SurveyStatCounterRepository counterRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * 설문별 누적 카운터 (반영 전 증감분 포함)
+     */
+    private final Cache<Long, Map<StatKey, LongAdder>> tallies;
+
+    /**
+     * 아직 반영되지 않은 증감분
+     * 카운터는 반영 후에도 제거하지 않고 0으로 재설정하여 재사용함 (제거 시 동시 증감이 유실될 수 있음)
+     */
+    private final Map<StatKey, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 반영/재계산과 카운터 적재를 서로 배제하여 적재 시 테이블 값과 증감분이 중복/누락되지 않도록 함
+     */
+    private final Object flushLock = new Object();
+
+    public SurveyStatisticsService(SurveyDefinitionService definitionService,
+                                   SurveyRepository surveyRepository,
+                                   SurveyStatCounterRepository counterRepository,
+                                   JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${survey.statistics.cache-size:1000}") long cacheSize,
+                                   @Value("${survey.statistics.expire-after-access-minutes:60}") long expireAfterAccessMinutes) {
+        this.definitionService = definitionService;
+        this.surveyRepository = surveyRepository;
+        this.counterRepository = counterRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.tallies = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .build();
+    }
+
+    /**
+     * 설문 결과 통계 조회 (활성 문항 기준)
+     * @param surveyId 설문 ID
+     * @return 설문 결과 통계
+     */
+    public SurveyStatisticsResponse getStatistics(Long surveyId) {
+        SurveyDefinition definition = definitionService.getDefinition(surveyId);
+        Map<StatKey, LongAdder> tally = tallyOf(surveyId);
+
+        List<SurveyQuestionStatisticsResponse> questions = new ArrayList<>();
+        for (SurveyQuestionResponse question : definition.getQuestions()) {
+            questions.add(toQuestionStatistics(surveyId, question, tally));
+        }
+        return SurveyStatisticsResponse.builder()
+                .surveyId(surveyId)
+                .title(definition.getResponse().getTitle())
+                .responseCount(valueOf(tally, StatKey.of(surveyId, 0, SurveyStatMetric.RESPONSES, 0)))
+                .questions(questions)
+                .build();
+    }
+
+    /**
+     * 교육과정 척도형 응답 통계 조회
+     * 과정에 속한 모든 설문의 활성 척도형 문항 분포를 하나로 병합함 (과정 전체 만족도 등)
+     * @param courseId 교육과정 ID
+     * @return 병합된 척도형 응답 통계
+     */
+    public ScaleStatisticsResponse getCourseScaleStatistics(Long courseId) {
+        ScaleDistribution merged = new ScaleDistribution(
+                SurveySubmissionService.MIN_SCALE_VALUE, SurveySubmissionService.MAX_SCALE_VALUE);
+        for (Long surveyId : surveyRepository.findIdsByCourseId(courseId)) {
+            Map<StatKey, LongAdder> tally = tallyOf(surveyId);
+            for (SurveyQuestionResponse question : definitionService.getDefinition(surveyId).getQuestions()) {
+                if (question.getType() == SurveyQuestionType.SCALE) {
+                    merged.merge(scaleDistributionOf(surveyId, question.getId(), tally));
+                }
+            }
+        }
+        return ScaleStatisticsResponse.from(merged);
+    }
+
+    /**
+     * 응답 완료 커밋 이후 증감분 기록
+     * 적재된 설문 카운터에는 바로 더하고, 적재 중인 설문은 적재가 끝난 뒤 더함
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResponseCompleted(SurveyResponseCompletedEvent event) {
+        List<StatKey> keys = keysOf(event);
+        tallies.asMap().compute(event.getSurveyId(), (surveyId, tally) -> {
+            keys.forEach(key -> pending.computeIfAbsent(key, k -> new LongAdder()).increment());
+            if (tally != null) {
+                keys.forEach(key -> tally.computeIfAbsent(key, k -> new LongAdder()).increment());
+            }
+            return tally;
+        });
+    }
+
+    /**
+     * 모인 증감분을 survey_stat_counters 에 배치로 반영 (없는 카운터는 추가)
+     * 반영에 실패하면 꺼낸 증감분을 되돌려 다음 주기에 다시 시도함
+     * @return 반영된 카운터 수
+     */
+    @Scheduled(fixedDelayString = "${survey.statistics.flush-interval-ms:10000}",
+               initialDelayString = "${survey.statistics.flush-interval-ms:10000}")
+    public int flush() {
+        synchronized (flushLock) {
+            List<Delta> deltas = new ArrayList<>();
+            pending.forEach((key, adder) -> {
+                long delta = adder.sumThenReset();
+                if (delta != 0) {
+                    deltas.add(new Delta(key, delta));
+                }
+            });
+            if (deltas.isEmpty()) {
+                return 0;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> applyDeltas(deltas));
+            } catch (RuntimeException e) {
+                deltas.forEach(delta -> pending.computeIfAbsent(delta.key(), k -> new LongAdder()).add(delta.value()));
+                log.warn("설문 통계 반영 실패, 다음 주기에 재시도. 카운터 수: {}", deltas.size(), e);
+                return 0;
+            }
+            return deltas.size();
+        }
+    }
+
+    /**
+     * 완료된 응답으로부터 통계 카운터 전체 재계산
+     * 재계산과 동시에 커밋된 응답은 드물게 중복 반영될 수 있음
+     */
+    public void rebuild() {
+        synchronized (flushLock) {
+            pending.values().forEach(LongAdder::reset);
+            transactionTemplate.executeWithoutResult(status -> REBUILD.forEach(jdbcTemplate::update));
+        }
+        tallies.invalidateAll();
+    }
+
+    /**
+     * 기동 시 통계 테이블이 비어 있고 완료된 응답이 있으면 전체 재계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        Long counters = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM survey_stat_counters", Long.class);
+        Long responses = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM survey_response WHERE status = 'COMPLETED'", Long.class);
+        if (counters != null && counters == 0 && responses != null && responses > 0) {
+            rebuild();
+            log.info("설문 통계 재계산 완료. 완료 응답 수: {}", responses);
+        }
+    }
+
+    /**
+     * 종료 시 남은 증감분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void applyDeltas(List<Delta> deltas) {
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_COUNTER, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.value());
+            ps.setLong(2, delta.key().surveyId());
+            ps.setLong(3, delta.key().questionId());
+            ps.setString(4, delta.key().metric().name());
+            ps.setLong(5, delta.key().bucket());
+        })[0];
+
+        List<Delta> missing = new ArrayList<>();
+        for (int i = 0; i < deltas.size(); i++) {
+            if (updated[i] == 0) {
+                missing.add(deltas.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_COUNTER, missing, missing.size(), (ps, delta) -> {
+                ps.setLong(1, delta.key().surveyId());
+                ps.setLong(2, delta.key().questionId());
+                ps.setString(3, delta.key().metric().name());
+                ps.setLong(4, delta.key().bucket());
+                ps.setLong(5, delta.value());
+            });
+        }
+    }
+
+    private Map<StatKey, LongAdder> tallyOf(Long surveyId) {
+        return tallies.get(surveyId, this::loadTally);
+    }
+
+    private Map<StatKey, LongAdder> loadTally(Long surveyId) {
+        synchronized (flushLock) {
+            Map<StatKey, LongAdder> tally = new ConcurrentHashMap<>();
+            List<SurveyStatCounter> counters = readOnlyTransaction.execute(
+                    status -> counterRepository.findBySurveyId(surveyId));
+            for (SurveyStatCounter counter : counters) {
+                StatKey key = StatKey.of(surveyId, counter.getQuestionId(), counter.getMetric(), counter.getBucket());
+                tally.computeIfAbsent(key, k -> new LongAdder()).add(counter.getCounterValue());
+            }
+            pending.forEach((key, adder) -> {
+                if (key.surveyId() == surveyId) {
+                    tally.computeIfAbsent(key, k -> new LongAdder()).add(adder.sum());
+                }
+            });
+            return tally;
+        }
+    }
+
+    private SurveyQuestionStatisticsResponse toQuestionStatistics(Long surveyId, SurveyQuestionResponse question,
+                                                                  Map<StatKey, LongAdder> tally) {
+        long questionId = question.getId();
+        long answered = valueOf(tally, StatKey.of(surveyId, questionId, SurveyStatMetric.ANSWERED, 0));
+
+        List<SurveyOptionStatisticsResponse> options = new ArrayList<>();
+        for (SurveyQuestionOptionResponse option : question.getOptions()) {
+            long count = valueOf(tally, StatKey.of(surveyId, questionId, SurveyStatMetric.OPTION, option.getId()));
+            options.add(SurveyOptionStatisticsResponse.builder()
+                    .optionId(option.getId())
+                    .content(option.getContent())
+                    .count(count)
+                    .ratio(answered > 0 ? Math.round(count * 1000.0 / answered) / 10.0 : 0)
+                    .build());
+        }
+
+        return SurveyQuestionStatisticsResponse.builder()
+                .questionId(questionId)
+                .content(question.getContent())
+                .type(question.getType())
+                .answeredCount(answered)
+                .options(options)
+                .scale(question.getType() == SurveyQuestionType.SCALE
+                        ? ScaleStatisticsResponse.from(scaleDistributionOf(surveyId, questionId, tally))
+                        : null)
+                .build();
+    }
+
+    private static ScaleDistribution scaleDistributionOf(long surveyId, long questionId, Map<StatKey, LongAdder> tally) {
+        ScaleDistribution distribution = new ScaleDistribution(
+                SurveySubmissionService.MIN_SCALE_VALUE, SurveySubmissionService.MAX_SCALE_VALUE);
+        for (int value = distribution.getMinValue(); value <= distribution.getMaxValue(); value++) {
+            distribution.add(value, valueOf(tally, StatKey.of(surveyId, questionId, SurveyStatMetric.SCALE, value)));
+        }
+        return distribution;
+    }
+
+    private static List<StatKey> keysOf(SurveyResponseCompletedEvent event) {
+        long surveyId = event.getSurveyId();
+        List<StatKey> keys = new ArrayList<>();
+        keys.add(StatKey.of(surveyId, 0, SurveyStatMetric.RESPONSES, 0));
+
+        Set<Long> answered = new HashSet<>();
+        for (SurveyResponseCompletedEvent.Item item : event.getItems()) {
+            if (answered.add(item.questionId())) {
+                keys.add(StatKey.of(surveyId, item.questionId(), SurveyStatMetric.ANSWERED, 0));
+            }
+            if (item.optionId() != null) {
+                keys.add(StatKey.of(surveyId, item.questionId(), SurveyStatMetric.OPTION, item.optionId()));
+            }
+            if (item.scaleValue() != null) {
+                keys.add(StatKey.of(surveyId, item.questionId(), SurveyStatMetric.SCALE, item.scaleValue()));
+            }
+        }
+        return keys;
+    }
+
+    private static long valueOf(Map<StatKey, LongAdder> tally, StatKey key) {
+        LongAdder adder = tally.get(key);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * 통계 카운터 키
+     */
+    private record StatKey(long surveyId, long questionId, SurveyStatMetric metric, long bucket) {
+
+        static StatKey of(long surveyId, long questionId, SurveyStatMetric metric, long bucket) {
+            return new StatKey(surveyId, questionId, metric, bucket);
+        }
+    }
+
+    /**
+     * 반영할 증감분
+     */
+    private record Delta(StatKey key, long value) {
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.survey.service;
+
+import com.example.common.exception.InvalidOperationException;
+import com.example.course.repository.CourseEnrollmentRepository;
+import com.example.survey.dto.SurveyAnswerRequest;
+import com.example.survey.dto.SurveyDefinitionResponse;
+import com.example.survey.dto.SurveyQuestionResponse;
+import com.example.survey.dto.SurveySubmitRequest;
+import com.example.survey.dto.SurveySubmitResponse;
+import com.example.survey.entity.SurveyQuestionType;
+import com.example.survey.entity.SurveyResponse;
+import com.example.survey.entity.SurveyResponseItem;
+import com.example.survey.entity.SurveyResponseStatus;
+import com.example.survey.event.SurveyResponseCompletedEvent;
+import com.example.survey.repository.SurveyQuestionOptionRepository;
+import com.example.survey.repository.SurveyQuestionRepository;
+import com.example.survey.repository.SurveyRepository;
+import com.example.survey.repository.SurveyResponseItemRepository;
+import com.example.survey.repository.SurveyResponseRepository;
+import com.example.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 설문 응답 제출 서비스
+ * 답변 전체를 캐시된 설문 정의(SurveyDefinition)로 메모리에서 검증한 뒤
+ * 응답과 모든 응답 항목을 한 번의 flush 로 저장함
+ * (풀링된 시퀀스 ID와 hibernate.jdbc.batch_size 설정으로 항목 INSERT 가 JDBC 배치 하나로 묶임)
+ *
+ * 설문당 사용자 응답은 (survey_id, user_id) 고유 제약으로 하나만 존재하며,
+ * 이미 완료된 응답이 있거나 동시에 같은 제출이 들어오면 기존 응답을 그대로 반환하므로 재시도해도 안전함
+ * 임시 답변 반영이 동시에 진행 중(IN_PROGRESS) 응답을 만든 경우에는 그 응답을 완료 처리함
+ */
+@Service
+public class SurveySubmissionService {
+
+    /**
+     * 척도 값 허용 범위 (문항별 최대값이 없으므로 지원하는 가장 넓은 척도 1~10 기준)
+     */
+    static final int MIN_SCALE_VALUE = 1;
+    static final int MAX_SCALE_VALUE = 10;
+
+    private static final int MAX_TEXT_ANSWER_LENGTH = 2000;
+
+    private final SurveyDefinitionService definitionService;
+    private final SurveyRepository surveyRepository;
+    private final SurveyQuestionRepository questionRepository;
+    private final SurveyQuestionOptionRepository optionRepository;
+    private final SurveyResponseRepository responseRepository;
+    private final SurveyResponseItemRepository responseItemRepository;
+    private final UserRepository userRepository;
+    private final CourseEnrollmentRepository enrollmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public SurveySubmissionService(SurveyDefinitionService definitionService,
+                                   SurveyRepository surveyRepository,
+                                   SurveyQuestionRepository questionRepository,
+                                   SurveyQuestionOptionRepository optionRepository,
+                                   SurveyResponseRepository responseRepository,
+                                   SurveyResponseItemRepository responseItemRepository,
+                                   UserRepository userRepository,
+                                   CourseEnrollmentRepository enrollmentRepository,
+                                   ApplicationEventPublisher eventPublisher,
+                                   PlatformTransactionManager transactionManager) {
+        this.definitionService = definitionService;
+        this.surveyRepository = surveyRepository;
+        this.questionRepository = questionRepository;
+        this.optionRepository = optionRepository;
+        this.responseRepository = responseRepository;
+        this.responseItemRepository = responseItemRepository;
+        this.userRepository = userRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 설문 응답 제출
+     * @param surveyId 설문 ID
+     * @param userId 응답자 ID
+     * @param request 제출 요청
+     * @return 제출 결과 (이미 제출한 경우 기존 응답)
+     * @throws InvalidOperationException 응답 기간이 아니거나, 과정 수강이 승인되지 않았거나,
+     *                                    답변이 설문 정의와 맞지 않는 경우
+     */
+    public SurveySubmitResponse submit(Long surveyId, Long userId, SurveySubmitRequest request) {
+        SurveyDefinition definition = definitionService.getDefinition(surveyId);
+        validatePeriod(definition.getResponse());
+        validateEligibility(definition.getResponse(), userId);
+        List<SurveyResponseCompletedEvent.Item> items = validateAnswers(definition, request.getAnswers());
+
+        try {
+            return transactionTemplate.execute(status -> save(surveyId, userId, items));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자의 다른 제출이나 임시 답변 반영이 먼저 응답을 만든 경우,
+            // 만들어진 응답을 잠그고 다시 저장함 (완료된 응답이면 그대로 반환, 진행 중이면 이 답변으로 완료)
+            return transactionTemplate.execute(status -> save(surveyId, userId, items));
+        }
+    }
+
+    private SurveySubmitResponse save(Long surveyId, Long userId, List<SurveyResponseCompletedEvent.Item> items) {
+        Optional<SurveyResponse> existing = responseRepository.findForUpdateBySurveyIdAndUserId(surveyId, userId);
+        if (existing.isPresent() && existing.get().isCompleted()) {
+            return SurveySubmitResponse.from(existing.get(), surveyId, true);
+        }
+
+        SurveyResponse response;
+        if (existing.isPresent()) {
+            // 진행 중이거나 취소된 응답은 항목을 비우고 다시 채움
+            response = existing.get();
+            responseItemRepository.deleteByResponseId(response.getId());
+        } else {
+            response = SurveyResponse.builder()
+                    .survey(surveyRepository.getReferenceById(surveyId))
+                    .user(userRepository.getReferenceById(userId))
+                    .status(SurveyResponseStatus.IN_PROGRESS)
+                    .build();
+        }
+
+        for (SurveyResponseCompletedEvent.Item item : items) {
+            response.addItem(SurveyResponseItem.builder()
+                    .response(response)
+                    .question(questionRepository.getReferenceById(item.questionId()))
+                    .selectedOption(item.optionId() != null ? optionRepository.getReferenceById(item.optionId()) : null)
+                    .textAnswer(item.textAnswer())
+                    .scaleValue(item.scaleValue())
+                    .build());
+        }
+        response.complete();
+        responseRepository.saveAndFlush(response);
+
+        eventPublisher.publishEvent(new SurveyResponseCompletedEvent(response.getId(), surveyId, userId, items));
+        return SurveySubmitResponse.from(response, surveyId, false);
+    }
+
+    /**
+     * 응답 기간 확인 (활성 설문이고 시작일~종료일 사이여야 함)
+     */
+    void validatePeriod(SurveyDefinitionResponse survey) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!survey.isActive()
+                || (survey.getStartDate() != null && now.isBefore(survey.getStartDate()))
+                || (survey.getEndDate() != null && now.isAfter(survey.getEndDate()))) {
+            throw new InvalidOperationException("응답 기간이 아닌 설문입니다. ID: " + survey.getId());
+        }
+    }
+
+    /**
+     * 응답 자격 확인 (응답할 설문 목록과 같은 기준: 설문 과정에 승인된 수강신청이 있어야 함)
+     */
+    void validateEligibility(SurveyDefinitionResponse survey, Long userId) {
+        if (!enrollmentRepository.existsApprovedByUserIdAndCourseId(userId, survey.getCourseId())) {
+            throw new InvalidOperationException("수강이 승인된 과정의 설문만 응답할 수 있습니다. ID: " + survey.getId());
+        }
+    }
+
+    /**
+     * 답변 전체를 설문 정의로 검증하고 저장할 응답 항목으로 변환
+     * 비어 있는 선택 문항 답변은 저장하지 않음
+     */
+    private List<SurveyResponseCompletedEvent.Item> validateAnswers(SurveyDefinition definition,
+                                                                   List<SurveyAnswerRequest> answers) {
+        Map<Long, SurveyAnswerRequest> answersByQuestion = new HashMap<>();
+        for (SurveyAnswerRequest answer : answers) {
+            if (definition.findQuestion(answer.getQuestionId()) == null) {
+                throw new InvalidOperationException("설문에 없는 문항입니다. ID: " + answer.getQuestionId());
+            }
+            if (answersByQuestion.put(answer.getQuestionId(), answer) != null) {
+                throw new InvalidOperationException("같은 문항에 대한 답변이 중복되었습니다. ID: " + answer.getQuestionId());
+            }
+        }
+
+        List<SurveyResponseCompletedEvent.Item> items = new ArrayList<>();
+        for (SurveyQuestionResponse question : definition.getQuestions()) {
+            SurveyAnswerRequest answer = answersByQuestion.get(question.getId());
+            if (answer == null || isEmpty(question.getType(), answer)) {
+                if (question.isRequired()) {
+                    throw new InvalidOperationException("필수 문항에 답변하지 않았습니다. ID: " + question.getId());
+                }
+                continue;
+            }
+            addItems(definition, question, answer, items);
+        }
+        return items;
+    }
+
+    private void addItems(SurveyDefinition definition, SurveyQuestionResponse question,
+                          SurveyAnswerRequest answer, List<SurveyResponseCompletedEvent.Item> items) {
+        Long questionId = question.getId();
+        switch (question.getType()) {
+            case SINGLE_CHOICE, MULTIPLE_CHOICE, YES_NO -> {
+                List<Long> optionIds = answer.getOptionIds();
+                if (question.getType() != SurveyQuestionType.MULTIPLE_CHOICE && optionIds.size() > 1) {
+                    throw new InvalidOperationException("하나의 선택지만 선택할 수 있는 문항입니다. ID: " + questionId);
+                }
+                if (new HashSet<>(optionIds).size() != optionIds.size()) {
+                    throw new InvalidOperationException("같은 선택지가 중복되었습니다. 문항 ID: " + questionId);
+                }
+                for (Long optionId : optionIds) {
+                    if (!definition.hasOption(questionId, optionId)) {
+                        throw new InvalidOperationException("문항에 없는 선택지입니다. 문항 ID: " + questionId + ", 선택지 ID: " + optionId);
+                    }
+                    items.add(new SurveyResponseCompletedEvent.Item(questionId, optionId, null, null));
+                }
+            }
+            case SCALE -> {
+                int value = answer.getScaleValue();
+                if (value < MIN_SCALE_VALUE || value > MAX_SCALE_VALUE) {
+                    throw new InvalidOperationException("척도 값이 허용 범위를 벗어났습니다. 문항 ID: " + questionId);
+                }
+                items.add(new SurveyResponseCompletedEvent.Item(questionId, null, null, value));
+            }
+            default -> {
+                String text = answer.getTextAnswer().strip();
+                if (text.length() > MAX_TEXT_ANSWER_LENGTH) {
+                    throw new InvalidOperationException("답변이 너무 깁니다. 문항 ID: " + questionId);
+                }
+                if (question.getType() == SurveyQuestionType.DATE) {
+                    try {
+                        LocalDate.parse(text);
+                    } catch (DateTimeParseException e) {
+                        throw new InvalidOperationException("날짜 형식이 올바르지 않습니다. 문항 ID: " + questionId);
+                    }
+                }
+                items.add(new SurveyResponseCompletedEvent.Item(questionId, null, text, null));
+            }
+        }
+    }
+
+    private static boolean isEmpty(SurveyQuestionType type, SurveyAnswerRequest answer) {
+        return switch (type) {
+            case SINGLE_CHOICE, MULTIPLE_CHOICE, YES_NO -> answer.getOptionIds() == null || answer.getOptionIds().isEmpty();
+            case SCALE -> answer.getScaleValue() == null;
+            default -> answer.getTextAnswer() == null || answer.getTextAnswer().isBlank();
+        };
+    }
+}
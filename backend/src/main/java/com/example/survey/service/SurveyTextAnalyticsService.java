@@ -0,0 +1,134 @@
+package com.example.survey.service;
+
+import com.example.common.exception.EntityNotFoundException;
+import com.example.common.exception.InvalidOperationException;
+import com.example.survey.dto.SurveyQuestionResponse;
+import com.example.survey.dto.SurveyTermFrequencyResponse;
+import com.example.survey.dto.SurveyTextAnswerResponse;
+import com.example.survey.dto.SurveyTextSearchResponse;
+import com.example.survey.entity.SurveyQuestionType;
+import com.example.survey.event.SurveyResponseCompletedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 주관식 답변 분석 서비스
+ * 단답형/서술형 문항의 답변을 문항별 색인(TextAnswerIndex)으로 만들어
+ * 많이 쓰인 용어와 "X를 포함한 답변" 조회를 LIKE 검색 없이 메모리에서 처리
+ *
+ * 문항 색인은 처음 필요할 때 한 번의 쿼리로 적재하고, 이후 응답 완료 이벤트의 답변으로 증분 갱신함
+ */
+@Service
+public class SurveyTextAnalyticsService {
+
+    private static final String SELECT_TEXT_ANSWERS =
+            "SELECT i.response_id, i.text_answer FROM survey_response_item i " +
+            "JOIN survey_response r ON r.id = i.response_id " +
+            "WHERE i.question_id = ? AND r.status = 'COMPLETED' AND i.text_answer IS NOT NULL " +
+            "ORDER BY i.response_id";
+
+    private final SurveyDefinitionService definitionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<Long, TextAnswerIndex> indexes;
+
+    public SurveyTextAnalyticsService(SurveyDefinitionService definitionService,
+                                      JdbcTemplate jdbcTemplate,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${survey.text.cache-size:500}") long cacheSize,
+                                      @Value("${survey.text.expire-after-access-minutes:60}") long expireAfterAccessMinutes) {
+        this.definitionService = definitionService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .build();
+    }
+
+    /**
+     * 주관식 문항의 많이 쓰인 용어 조회
+     * @param surveyId 설문 ID
+     * @param questionId 문항 ID
+     * @param limit 최대 개수
+     * @return 용어 빈도 목록 (등장 횟수 내림차순)
+     */
+    public List<SurveyTermFrequencyResponse> getTopTerms(Long surveyId, Long questionId, int limit) {
+        return indexOf(surveyId, questionId).topTerms(limit).stream()
+                .map(term -> SurveyTermFrequencyResponse.builder()
+                        .term(term.term())
+                        .frequency(term.frequency())
+                        .answerCount(term.answerCount())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 검색어를 포함한 주관식 답변 조회
+     * @param surveyId 설문 ID
+     * @param questionId 문항 ID
+     * @param keyword 검색어 (공백으로 나뉜 부분을 모두 포함한 답변)
+     * @param limit 반환할 최대 답변 수
+     * @return 검색 결과
+     */
+    public SurveyTextSearchResponse searchAnswers(Long surveyId, Long questionId, String keyword, int limit) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new InvalidOperationException("검색어를 입력해 주세요.");
+        }
+        TextAnswerIndex.Matches matches = indexOf(surveyId, questionId).search(keyword, limit);
+        return SurveyTextSearchResponse.builder()
+                .questionId(questionId)
+                .keyword(keyword)
+                .matchCount(matches.matchCount())
+                .answers(matches.answers().stream()
+                        .map(match -> new SurveyTextAnswerResponse(match.responseId(), match.answer()))
+                        .toList())
+                .build();
+    }
+
+    /**
+     * 응답 완료 커밋 이후 적재된 문항 색인에 답변 추가
+     * 적재되지 않은 문항은 다음 조회 시 최신 상태로 적재되므로 무시함
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResponseCompleted(SurveyResponseCompletedEvent event) {
+        for (SurveyResponseCompletedEvent.Item item : event.getItems()) {
+            if (item.textAnswer() != null) {
+                indexes.asMap().computeIfPresent(item.questionId(), (questionId, index) -> {
+                    index.add(event.getResponseId(), item.textAnswer());
+                    return index;
+                });
+            }
+        }
+    }
+
+    private TextAnswerIndex indexOf(Long surveyId, Long questionId) {
+        SurveyQuestionResponse question = definitionService.getDefinition(surveyId).findQuestion(questionId);
+        if (question == null) {
+            throw new EntityNotFoundException("설문 문항을 찾을 수 없습니다. ID: " + questionId);
+        }
+        if (question.getType() != SurveyQuestionType.SHORT_ANSWER && question.getType() != SurveyQuestionType.LONG_ANSWER) {
+            throw new InvalidOperationException("주관식 문항이 아닙니다. ID: " + questionId);
+        }
+        return indexes.get(questionId, this::load);
+    }
+
+    private TextAnswerIndex load(Long questionId) {
+        TextAnswerIndex index = new TextAnswerIndex();
+        readOnlyTransaction.executeWithoutResult(status ->
+                jdbcTemplate.query(SELECT_TEXT_ANSWERS, rs -> {
+                    index.add(rs.getLong(1), rs.getString(2));
+                }, questionId));
+        return index;
+    }
+}
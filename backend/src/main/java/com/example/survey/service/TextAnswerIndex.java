@@ -0,0 +1,135 @@
+package com.example.survey.service;
+
+import com.example.common.text.NGramTokenizer;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 문항 하나의 주관식 답변 색인
+ * 답변을 n-gram 용어로 나누어 용어별 등장 횟수를 유지하고, 검색용 바이그램 역색인(바이그램 → 답변 번호 비트맵)을 두어
+ * "X를 포함한 답변" 조회는 검색어 바이그램들의 비트맵 교집합 후보만 원문과 대조하여 처리
+ * (영문/숫자 단어도 바이그램으로 색인하므로 단어 일부인 검색어도 찾음)
+ *
+ * 답변은 응답 ID 기준으로 한 번만 추가되므로 적재와 이벤트 반영이 겹쳐도 중복되지 않음
+ * 추가와 조회는 인스턴스 단위로 동기화됨
+ */
+final class TextAnswerIndex {
+
+    private final List<Long> responseIds = new ArrayList<>();
+    private final List<String> answers = new ArrayList<>();
+    private final List<String> normalizedAnswers = new ArrayList<>();
+    private final Set<Long> indexedResponses = new HashSet<>();
+    private final Map<String, RoaringBitmap> postings = new HashMap<>();
+    private final Map<String, Long> termCounts = new HashMap<>();
+    private final Map<String, Integer> termAnswerCounts = new HashMap<>();
+
+    /**
+     * 답변 추가
+     * @param responseId 응답 ID
+     * @param answer 답변
+     */
+    synchronized void add(long responseId, String answer) {
+        if (answer == null || answer.isBlank() || !indexedResponses.add(responseId)) {
+            return;
+        }
+        int ordinal = answers.size();
+        responseIds.add(responseId);
+        answers.add(answer);
+        normalizedAnswers.add(NGramTokenizer.normalize(answer));
+
+        List<String> terms = NGramTokenizer.tokenize(answer);
+        for (String term : terms) {
+            termCounts.merge(term, 1L, Long::sum);
+        }
+        for (String term : new HashSet<>(terms)) {
+            termAnswerCounts.merge(term, 1, Integer::sum);
+        }
+        for (String gram : NGramTokenizer.searchGrams(answer)) {
+            postings.computeIfAbsent(gram, g -> new RoaringBitmap()).add(ordinal);
+        }
+    }
+
+    /**
+     * 답변 수
+     */
+    synchronized int size() {
+        return answers.size();
+    }
+
+    /**
+     * 많이 쓰인 용어 (등장 횟수 내림차순, 같으면 용어 순)
+     * @param limit 최대 개수 (0 이하이면 빈 목록)
+     * @return 용어별 등장 횟수와 포함 답변 수
+     */
+    synchronized List<TermCount> topTerms(int limit) {
+        return termCounts.entrySet().stream()
+                .map(entry -> new TermCount(entry.getKey(), entry.getValue(), termAnswerCounts.get(entry.getKey())))
+                .sorted(Comparator.comparingLong(TermCount::frequency).reversed().thenComparing(TermCount::term))
+                .limit(Math.max(limit, 0))
+                .toList();
+    }
+
+    /**
+     * 검색어를 포함한 답변 조회
+     * 검색어의 공백으로 나뉜 각 부분을 모두 포함한 답변만 반환하며,
+     * 바이그램이 나오지 않는 짧은 검색어(한 글자 등)는 색인 없이 전체 답변과 대조함
+     * @param keyword 검색어
+     * @param limit 반환할 최대 답변 수
+     * @return 전체 일치 수와 답변 목록 (추가 순서)
+     */
+    synchronized Matches search(String keyword, int limit) {
+        List<String> parts = List.of(NGramTokenizer.normalize(keyword).trim().split("\\s+"));
+        Set<String> grams = NGramTokenizer.searchGrams(keyword);
+
+        RoaringBitmap candidates = null;
+        for (String gram : grams) {
+            RoaringBitmap posting = postings.get(gram);
+            if (posting == null) {
+                return new Matches(0, List.of());
+            }
+            candidates = candidates == null ? posting.clone() : RoaringBitmap.and(candidates, posting);
+        }
+        if (candidates == null) {
+            candidates = new RoaringBitmap();
+            candidates.add(0L, answers.size());
+        }
+
+        int matchCount = 0;
+        List<Match> matches = new ArrayList<>();
+        for (int ordinal : candidates) {
+            String normalized = normalizedAnswers.get(ordinal);
+            if (parts.stream().allMatch(normalized::contains)) {
+                matchCount++;
+                if (matches.size() < limit) {
+                    matches.add(new Match(responseIds.get(ordinal), answers.get(ordinal)));
+                }
+            }
+        }
+        return new Matches(matchCount, matches);
+    }
+
+    /**
+     * 용어별 등장 횟수
+     */
+    record TermCount(String term, long frequency, long answerCount) {
+    }
+
+    /**
+     * 검색 결과
+     */
+    record Matches(int matchCount, List<Match> answers) {
+    }
+
+    /**
+     * 일치한 답변
+     */
+    record Match(Long responseId, String answer) {
+    }
+}
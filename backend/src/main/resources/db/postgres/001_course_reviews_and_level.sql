@@ -0,0 +1,20 @@
+-- 카탈로그 가져오기(수강평, 과정 레벨)를 위한 스키마 변경
+-- ddl-auto=validate 환경(prod)에서는 배포 전에 수동으로 적용
+
+ALTER TABLE courses ADD COLUMN IF NOT EXISTS level_id BIGINT REFERENCES course_levels (id);
+
+-- 수강평 ID는 엔티티의 @SequenceGenerator(allocationSize = 50)와 같은 증가폭의 시퀀스에서 발급
+CREATE SEQUENCE IF NOT EXISTS course_reviews_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS course_reviews (
+    id            BIGINT PRIMARY KEY DEFAULT nextval('course_reviews_seq'),
+    course_id     BIGINT       NOT NULL REFERENCES courses (id),
+    source_id     BIGINT       NOT NULL,
+    reviewer_name VARCHAR(100),
+    rating        INTEGER,
+    reviewed_on   DATE,
+    comment       VARCHAR(2000),
+    created_at    TIMESTAMP,
+    updated_at    TIMESTAMP,
+    CONSTRAINT uk_course_reviews_course_source UNIQUE (course_id, source_id)
+);
@@ -0,0 +1,28 @@
+-- 대량 적재 테이블의 ID 생성을 IDENTITY 에서 pooled-lo 시퀀스로 전환
+-- 엔티티의 @SequenceGenerator(allocationSize = 50)와 INCREMENT BY 값이 반드시 같아야 함
+-- 기존 데이터가 있는 환경(dev, prod)에 애플리케이션 배포 전 한 번 적용 (반복 실행 가능)
+--
+-- 컬럼 기본값도 시퀀스로 지정하여 네이티브 INSERT(카탈로그 가져오기 등)가 계속 동작하도록 함
+-- nextval 한 번은 애플리케이션 입장에서 50개 블록 하나이므로, 기본값 사용 행과 ID가 겹치지 않음
+
+DO $$
+DECLARE
+    target RECORD;
+BEGIN
+    FOR target IN
+        SELECT * FROM (VALUES
+            ('course_enrollments',   'course_enrollments_seq'),
+            ('course_bookmarks',     'course_bookmarks_seq'),
+            ('survey_response',      'survey_response_seq'),
+            ('survey_response_item', 'survey_response_item_seq')
+        ) AS t (table_name, sequence_name)
+    LOOP
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I START WITH 1 INCREMENT BY 50', target.sequence_name);
+        EXECUTE format('ALTER SEQUENCE %I INCREMENT BY 50', target.sequence_name);
+        EXECUTE format('SELECT setval(%L, COALESCE((SELECT MAX(id) FROM %I), 0) + 1, false)',
+                       target.sequence_name, target.table_name);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', target.table_name);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)',
+                       target.table_name, target.sequence_name);
+    END LOOP;
+END $$;
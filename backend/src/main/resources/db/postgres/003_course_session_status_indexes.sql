@@ -0,0 +1,16 @@
+-- 차수 상태 일괄 전환 및 상태별 조회를 위한 (status, 날짜) 복합 인덱스
+-- ddl-auto=validate 환경(prod)에서는 배포 전에 수동으로 적용
+
+CREATE INDEX IF NOT EXISTS idx_course_sessions_status_start_date
+    ON course_sessions (status, start_date);
+CREATE INDEX IF NOT EXISTS idx_course_sessions_status_end_date
+    ON course_sessions (status, end_date);
+CREATE INDEX IF NOT EXISTS idx_course_sessions_status_recruitment_start_at
+    ON course_sessions (status, recruitment_start_at);
+CREATE INDEX IF NOT EXISTS idx_course_sessions_status_recruitment_end_at
+    ON course_sessions (status, recruitment_end_at);
+
+-- RECRUITMENT_CLOSED 상태 추가 (Hibernate 가 생성한 enum 체크 제약 갱신)
+ALTER TABLE course_sessions DROP CONSTRAINT IF EXISTS course_sessions_status_check;
+ALTER TABLE course_sessions ADD CONSTRAINT course_sessions_status_check
+    CHECK (status IN ('UPCOMING', 'RECRUITING', 'RECRUITMENT_CLOSED', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED'));
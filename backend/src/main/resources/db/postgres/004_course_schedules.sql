@@ -0,0 +1,16 @@
+-- 차수별 수업 일정 테이블 (학습자 시간표/일정 중복 확인용)
+-- ddl-auto=validate 환경(prod)에서는 배포 전에 수동으로 적용
+
+CREATE TABLE IF NOT EXISTS course_schedules (
+    id                BIGSERIAL PRIMARY KEY,
+    course_session_id BIGINT    NOT NULL REFERENCES course_sessions (id),
+    title             VARCHAR(200),
+    start_at          TIMESTAMP NOT NULL,
+    end_at            TIMESTAMP NOT NULL,
+    location          VARCHAR(200),
+    created_at        TIMESTAMP,
+    updated_at        TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_course_schedules_session_start_at
+    ON course_schedules (course_session_id, start_at);
@@ -0,0 +1,29 @@
+-- 카테고리 클로저 테이블 (하위 트리 과정 조회/브레드크럼용)
+-- ddl-auto=validate 환경(prod)에서는 배포 전에 수동으로 적용
+-- 기동 시 카테고리 수와 자기 경로 수가 다르면 애플리케이션이 전체를 다시 계산하지만,
+-- 아래 백필로 배포 직후부터 바로 사용할 수 있음
+
+CREATE TABLE IF NOT EXISTS course_category_closure (
+    ancestor_id   BIGINT  NOT NULL REFERENCES course_categories (id),
+    descendant_id BIGINT  NOT NULL REFERENCES course_categories (id),
+    depth         INTEGER NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_course_category_closure_descendant_depth
+    ON course_category_closure (descendant_id, depth);
+
+CREATE INDEX IF NOT EXISTS idx_courses_category_id
+    ON courses (category_id);
+
+INSERT INTO course_category_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE paths (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0 FROM course_categories
+    UNION ALL
+    SELECT c.parent_id, p.descendant_id, p.depth + 1
+    FROM paths p
+    JOIN course_categories c ON c.id = p.ancestor_id
+    WHERE c.parent_id IS NOT NULL AND p.depth < 64
+)
+SELECT ancestor_id, descendant_id, depth FROM paths
+ON CONFLICT (ancestor_id, descendant_id) DO NOTHING;
@@ -0,0 +1,12 @@
+-- 카테고리별 직접/누적 활성 과정 수 컬럼 (카테고리 내비게이션 배지용)
+-- ddl-auto=validate 환경(prod)에서는 배포 전에 수동으로 적용 (005 이후)
+
+ALTER TABLE course_categories ADD COLUMN IF NOT EXISTS direct_course_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE course_categories ADD COLUMN IF NOT EXISTS total_course_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE course_categories SET
+    direct_course_count = (SELECT COUNT(*) FROM courses co
+                           WHERE co.category_id = course_categories.id AND co.active = true),
+    total_course_count = (SELECT COUNT(*) FROM courses co
+                          JOIN course_category_closure cc ON cc.descendant_id = co.category_id
+                          WHERE cc.ancestor_id = course_categories.id AND co.active = true);
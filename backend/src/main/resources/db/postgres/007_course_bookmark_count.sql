@@ -0,0 +1,7 @@
+-- 과정별 즐겨찾기 수 컬럼 (카탈로그 카드 표시용, 애플리케이션이 주기적으로 증감 반영)
+-- ddl-auto=validate 환경(prod)에서는 배포 전에 수동으로 적용
+
+ALTER TABLE courses ADD COLUMN IF NOT EXISTS bookmark_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE courses SET bookmark_count =
+    (SELECT COUNT(*) FROM course_bookmarks b WHERE b.course_id = courses.id);
@@ -0,0 +1,24 @@
+-- 설문당 사용자 응답을 하나로 제한 (중복 제출 방지, 제출 재시도를 멱등하게 처리)
+-- ddl-auto=validate 환경(prod)에서는 배포 전에 수동으로 적용
+-- 이미 중복된 응답이 있으면 완료된 응답, 그중 가장 최근 응답 하나만 남기고 정리함
+
+DELETE FROM survey_response_item i
+USING survey_response r
+WHERE i.response_id = r.id
+  AND EXISTS (
+      SELECT 1 FROM survey_response k
+      WHERE k.survey_id = r.survey_id AND k.user_id = r.user_id AND k.id <> r.id
+        AND ((k.status = 'COMPLETED') > (r.status = 'COMPLETED')
+             OR ((k.status = 'COMPLETED') = (r.status = 'COMPLETED') AND k.id > r.id))
+  );
+
+DELETE FROM survey_response r
+WHERE EXISTS (
+    SELECT 1 FROM survey_response k
+    WHERE k.survey_id = r.survey_id AND k.user_id = r.user_id AND k.id <> r.id
+      AND ((k.status = 'COMPLETED') > (r.status = 'COMPLETED')
+           OR ((k.status = 'COMPLETED') = (r.status = 'COMPLETED') AND k.id > r.id))
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_survey_response_survey_user
+    ON survey_response (survey_id, user_id);
@@ -0,0 +1,12 @@
+-- 설문 결과 통계 카운터 (결과 화면용, 애플리케이션이 응답 완료마다 증감분을 주기적으로 반영)
+-- ddl-auto=validate 환경(prod)에서는 배포 전에 수동으로 적용
+-- 테이블이 비어 있으면 기동 시 애플리케이션이 완료된 응답으로부터 다시 계산함
+
+CREATE TABLE IF NOT EXISTS survey_stat_counters (
+    survey_id     BIGINT      NOT NULL,
+    question_id   BIGINT      NOT NULL,
+    metric        VARCHAR(20) NOT NULL,
+    bucket        BIGINT      NOT NULL,
+    counter_value BIGINT      NOT NULL,
+    PRIMARY KEY (survey_id, question_id, metric, bucket)
+);
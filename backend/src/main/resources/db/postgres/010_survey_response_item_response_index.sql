@@ -0,0 +1,5 @@
+-- 응답별 항목 조회 인덱스 (응답 내보내기 커서, 통계 재계산, 항목 일괄 삭제용)
+-- ddl-auto=validate 환경(prod)에서는 배포 전에 수동으로 적용
+
+CREATE INDEX IF NOT EXISTS idx_survey_response_item_response_id
+    ON survey_response_item (response_id);
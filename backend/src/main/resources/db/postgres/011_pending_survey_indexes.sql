@@ -0,0 +1,8 @@
+-- 응답할 설문 조회 인덱스 (사용자별 승인된 수강신청 확인, 과정별 설문 조회용)
+-- ddl-auto=validate 환경(prod)에서는 배포 전에 수동으로 적용
+
+CREATE INDEX IF NOT EXISTS idx_course_enrollments_user_status
+    ON course_enrollments (user_id, status);
+
+CREATE INDEX IF NOT EXISTS idx_survey_course_id
+    ON survey (course_id);
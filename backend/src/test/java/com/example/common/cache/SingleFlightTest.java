@@ -0,0 +1,124 @@
+package com.example.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SingleFlight 테스트 클래스
+ * 동일 키 동시 조회 병합 동작을 테스트
+ */
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    /**
+     * 동시 호출 병합 테스트
+     * 로딩이 진행 중인 동안 들어온 동일 키 요청은 로더를 다시 호출하지 않아야 함
+     * 로더는 나머지 호출자가 모두 load 에 들어와 결과를 기다리기 시작할 때까지 끝나지 않음
+     */
+    @Test
+    @DisplayName("동시 호출 시 로더는 한 번만 실행")
+    void load_withConcurrentCallers_invokesLoaderOnce() throws Exception {
+        // given
+        int callers = 8;
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch followersEntered = new CountDownLatch(callers - 1);
+        Queue<Thread> followers = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.load("key", () -> {
+            invocations.incrementAndGet();
+            loaderStarted.countDown();
+            await(followersEntered);
+            awaitWaiting(followers);
+            return "value";
+        })));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < callers; i++) {
+            results.add(executor.submit(() -> {
+                followers.add(Thread.currentThread());
+                followersEntered.countDown();
+                return singleFlight.load("key", () -> {
+                    invocations.incrementAndGet();
+                    return "other";
+                });
+            }));
+        }
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("value", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, invocations.get());
+        executor.shutdownNow();
+    }
+
+    /**
+     * 로딩 완료 후 재조회 테스트
+     * 결과를 캐시하지 않으므로 완료 이후의 호출은 다시 로더를 실행해야 함
+     */
+    @Test
+    @DisplayName("로딩 완료 후에는 다시 로더 실행")
+    void load_afterCompletion_invokesLoaderAgain() {
+        // given
+        AtomicInteger invocations = new AtomicInteger();
+
+        // when
+        singleFlight.load("key", () -> "v" + invocations.incrementAndGet());
+        String second = singleFlight.load("key", () -> "v" + invocations.incrementAndGet());
+
+        // then
+        assertEquals("v2", second);
+        assertEquals(2, invocations.get());
+    }
+
+    /**
+     * 로딩 실패 테스트
+     * 로더에서 발생한 예외는 호출자에게 그대로 전달되어야 함
+     */
+    @Test
+    @DisplayName("로더 예외는 그대로 전달")
+    void load_whenLoaderFails_rethrowsException() {
+        // when & then
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> singleFlight.load("key", () -> {
+                    throw new IllegalStateException("실패");
+                }));
+        assertEquals("실패", exception.getMessage());
+    }
+
+    /**
+     * 모든 스레드가 진행 중인 로딩 결과를 기다리며 대기 상태(WAITING)가 될 때까지 대기
+     */
+    private static void awaitWaiting(Queue<Thread> threads) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline
+                && !threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.common.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IntervalIndex 테스트 클래스
+ * 구간 겹침 질의 결과와 정렬 순서를 테스트
+ */
+class IntervalIndexTest {
+
+    /**
+     * 경계 포함 테스트
+     * 질의 구간과 끝점만 맞닿은 구간도 겹치는 것으로 판단해야 함
+     */
+    @Test
+    @DisplayName("끝점이 맞닿은 구간도 결과에 포함")
+    void query_withTouchingEndpoints_includesInterval() {
+        // given
+        IntervalIndex<String> index = IntervalIndex.<String>builder()
+                .add(1, 5, "a")
+                .add(6, 10, "b")
+                .add(11, 15, "c")
+                .build();
+
+        // when
+        List<String> result = index.query(5, 11);
+
+        // then
+        assertEquals(List.of("a", "b", "c"), result);
+    }
+
+    /**
+     * 겹치지 않는 질의 테스트
+     */
+    @Test
+    @DisplayName("겹치는 구간이 없으면 빈 결과")
+    void query_withoutOverlap_returnsEmpty() {
+        // given
+        IntervalIndex<String> index = IntervalIndex.<String>builder()
+                .add(1, 5, "a")
+                .add(20, 30, "b")
+                .build();
+
+        // when & then
+        assertTrue(index.query(6, 19).isEmpty());
+        assertTrue(index.query(31, 40).isEmpty());
+        assertTrue(IntervalIndex.<String>builder().build().query(0, 100).isEmpty());
+    }
+
+    /**
+     * 무작위 구간 비교 테스트
+     * 전수 비교 결과와 같은 구간을 시작값 오름차순으로 반환해야 함
+     */
+    @Test
+    @DisplayName("무작위 구간에서 전수 비교와 동일한 결과")
+    void query_withRandomIntervals_matchesBruteForce() {
+        // given
+        Random random = new Random(42);
+        int size = 500;
+        long[][] intervals = new long[size][2];
+        IntervalIndex.Builder<Integer> builder = IntervalIndex.builder();
+        for (int i = 0; i < size; i++) {
+            long start = random.nextInt(1000);
+            long end = start + random.nextInt(60);
+            intervals[i][0] = start;
+            intervals[i][1] = end;
+            builder.add(start, end, i);
+        }
+        IntervalIndex<Integer> index = builder.build();
+
+        for (int q = 0; q < 200; q++) {
+            long from = random.nextInt(1100) - 50;
+            long to = from + random.nextInt(100);
+
+            // when
+            List<Integer> result = index.query(from, to);
+
+            // then
+            Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < size; i++) {
+                if (intervals[i][0] <= to && intervals[i][1] >= from) {
+                    expected.add(i);
+                }
+            }
+            assertEquals(expected, new HashSet<>(result));
+            assertEquals(expected.size(), result.size());
+            for (int k = 1; k < result.size(); k++) {
+                assertTrue(intervals[result.get(k - 1)][0] <= intervals[result.get(k)][0]);
+            }
+        }
+    }
+
+    /**
+     * 잘못된 구간 추가 테스트
+     */
+    @Test
+    @DisplayName("종료값이 시작값보다 작으면 예외 발생")
+    void add_withInvertedInterval_throwsException() {
+        // given
+        IntervalIndex.Builder<String> builder = IntervalIndex.builder();
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> builder.add(10, 5, "x"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.common.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LongKeyMap 테스트 클래스
+ * 키 조회, 정렬 순서, 중복 키 처리를 테스트
+ */
+class LongKeyMapTest {
+
+    private record Item(long id, String name) {
+    }
+
+    /**
+     * 키 조회 테스트
+     * 입력 순서와 무관하게 키로 값을 찾을 수 있어야 함
+     */
+    @Test
+    @DisplayName("입력 순서와 무관하게 키로 값 조회")
+    void get_withUnsortedInput_findsValue() {
+        // given
+        LongKeyMap<Item> map = LongKeyMap.of(
+                List.of(new Item(30, "c"), new Item(10, "a"), new Item(20, "b")), Item::id);
+
+        // when & then
+        assertEquals("a", map.get(10).name());
+        assertEquals("b", map.get(20).name());
+        assertEquals("c", map.get(30).name());
+        assertTrue(map.containsKey(20));
+        assertEquals(3, map.size());
+    }
+
+    /**
+     * 없는 키 조회 테스트
+     */
+    @Test
+    @DisplayName("없는 키는 null 반환")
+    void get_withMissingKey_returnsNull() {
+        // given
+        LongKeyMap<Item> map = LongKeyMap.of(List.of(new Item(1, "a"), new Item(3, "c")), Item::id);
+
+        // when & then
+        assertNull(map.get(2));
+        assertNull(map.get(0));
+        assertNull(map.get(4));
+        assertFalse(map.containsKey(2));
+        assertNull(LongKeyMap.<Item>empty().get(1));
+    }
+
+    /**
+     * 값 목록 순서 테스트
+     */
+    @Test
+    @DisplayName("값 목록은 키 오름차순")
+    void values_returnsKeyOrder() {
+        // given
+        LongKeyMap<Item> map = LongKeyMap.of(List.of(new Item(5, "e"), new Item(-1, "z"), new Item(2, "b")), Item::id);
+
+        // when
+        List<String> names = map.values().stream().map(Item::name).toList();
+
+        // then
+        assertEquals(List.of("z", "b", "e"), names);
+        assertThrows(UnsupportedOperationException.class, () -> map.values().set(0, new Item(9, "x")));
+    }
+
+    /**
+     * 중복 키 테스트
+     */
+    @Test
+    @DisplayName("중복 키가 있으면 예외")
+    void of_withDuplicateKeys_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> LongKeyMap.of(List.of(new Item(1, "a"), new Item(1, "b")), Item::id));
+    }
+}
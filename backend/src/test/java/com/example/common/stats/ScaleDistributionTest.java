@@ -0,0 +1,107 @@
+package com.example.common.stats;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ScaleDistribution 테스트 클래스
+ * 요약 통계, 백분위 보간, 분포 병합을 테스트
+ */
+class ScaleDistributionTest {
+
+    /**
+     * 요약 통계 테스트
+     */
+    @Test
+    @DisplayName("응답 수, 합계, 평균, 표준편차 계산")
+    void summary_computesExactValues() {
+        // given
+        ScaleDistribution distribution = new ScaleDistribution(1, 5)
+                .add(2).add(4, 2).add(5);
+
+        // when & then
+        assertEquals(4, distribution.getCount());
+        assertEquals(15, distribution.getSum());
+        assertEquals(3.75, distribution.getMean(), 1e-9);
+        assertEquals(Math.sqrt(1.1875), distribution.getStandardDeviation(), 1e-9);
+        assertEquals(2, distribution.getObservedMin());
+        assertEquals(5, distribution.getObservedMax());
+        assertEquals(Map.of(2, 1L, 4, 2L, 5, 1L), distribution.histogram());
+    }
+
+    /**
+     * 백분위 테스트
+     * 응답 사이 위치는 앞뒤 값으로 선형 보간해야 함
+     */
+    @Test
+    @DisplayName("중앙값과 백분위는 정렬된 응답 사이를 보간")
+    void percentile_interpolatesBetweenRanks() {
+        // given: 정렬하면 1, 2, 2, 3, 5, 5
+        ScaleDistribution distribution = new ScaleDistribution(1, 5)
+                .add(1).add(2, 2).add(3).add(5, 2);
+
+        // when & then
+        assertEquals(2.5, distribution.getMedian(), 1e-9);
+        assertEquals(1, distribution.percentile(0), 1e-9);
+        assertEquals(5, distribution.percentile(1), 1e-9);
+        assertEquals(2, distribution.percentile(0.25), 1e-9);
+        assertEquals(4.5, distribution.percentile(0.75), 1e-9);
+    }
+
+    /**
+     * 빈 분포 테스트
+     */
+    @Test
+    @DisplayName("빈 분포의 통계 값은 NaN")
+    void emptyDistribution_returnsNaN() {
+        // given
+        ScaleDistribution distribution = new ScaleDistribution(1, 10);
+
+        // when & then
+        assertTrue(distribution.isEmpty());
+        assertTrue(Double.isNaN(distribution.getMean()));
+        assertTrue(Double.isNaN(distribution.getMedian()));
+        assertTrue(Double.isNaN(distribution.getStandardDeviation()));
+        assertTrue(distribution.histogram().isEmpty());
+    }
+
+    /**
+     * 병합 테스트
+     * 병합 결과는 모든 응답을 한 분포에 넣은 것과 같아야 함
+     */
+    @Test
+    @DisplayName("같은 범위의 분포 병합")
+    void merge_withSameRange_addsCounts() {
+        // given
+        ScaleDistribution first = new ScaleDistribution(1, 5).add(1).add(3);
+        ScaleDistribution second = new ScaleDistribution(1, 5).add(3).add(5, 3);
+        ScaleDistribution combined = new ScaleDistribution(1, 5).add(1).add(3, 2).add(5, 3);
+
+        // when
+        first.merge(second);
+
+        // then
+        assertEquals(combined.histogram(), first.histogram());
+        assertEquals(combined.getMedian(), first.getMedian(), 1e-9);
+        assertEquals(6, first.getCount());
+    }
+
+    /**
+     * 잘못된 입력 테스트
+     */
+    @Test
+    @DisplayName("범위를 벗어난 값과 범위가 다른 분포 병합은 예외")
+    void invalidInput_throwsException() {
+        ScaleDistribution distribution = new ScaleDistribution(1, 5);
+
+        assertThrows(IllegalArgumentException.class, () -> distribution.add(0));
+        assertThrows(IllegalArgumentException.class, () -> distribution.add(6));
+        assertThrows(IllegalArgumentException.class, () -> distribution.add(3, -1));
+        assertThrows(IllegalArgumentException.class, () -> distribution.merge(new ScaleDistribution(1, 7)));
+        assertThrows(IllegalArgumentException.class, () -> distribution.percentile(1.5));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.common.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NGramTokenizer 테스트 클래스
+ * 한글 바이그램, 영문/숫자 단어, 정규화를 테스트
+ */
+class NGramTokenizerTest {
+
+    /**
+     * 한글 바이그램 테스트
+     * 조사가 붙어도 같은 바이그램이 나와야 함
+     */
+    @Test
+    @DisplayName("한글 어절은 음절 바이그램으로 분리")
+    void tokenize_hangul_returnsBigrams() {
+        // when
+        List<String> terms = NGramTokenizer.tokenize("강의가 좋았다");
+
+        // then
+        assertEquals(List.of("강의", "의가", "좋았", "았다"), terms);
+        assertTrue(NGramTokenizer.distinctTerms("강의는").contains("강의"));
+    }
+
+    /**
+     * 영문/숫자 단어 테스트
+     */
+    @Test
+    @DisplayName("영문/숫자 단어는 소문자 단어 그대로, 한 글자는 제외")
+    void tokenize_latin_returnsLowercaseWords() {
+        // when
+        List<String> terms = NGramTokenizer.tokenize("Java 실습, 2 day A 과정");
+
+        // then
+        assertEquals(List.of("java", "실습", "day", "과정"), terms);
+    }
+
+    /**
+     * 한글과 영문이 붙은 경우 테스트
+     */
+    @Test
+    @DisplayName("한글과 영문이 붙어 있으면 각각 분리")
+    void tokenize_mixedScript_splitsAtBoundary() {
+        // when
+        List<String> terms = NGramTokenizer.tokenize("SQL튜닝이");
+
+        // then
+        assertEquals(List.of("sql", "튜닝", "닝이"), terms);
+    }
+
+    /**
+     * 정규화와 중복 제거 테스트
+     */
+    @Test
+    @DisplayName("전각 문자는 정규화되고 중복 용어는 한 번만")
+    void distinctTerms_normalizesAndDeduplicates() {
+        // when
+        Set<String> terms = NGramTokenizer.distinctTerms("ＡＢ ab 강의 강의");
+
+        // then
+        assertEquals(Set.of("ab", "강의"), terms);
+        assertTrue(NGramTokenizer.tokenize(null).isEmpty());
+        assertTrue(NGramTokenizer.tokenize("!? 좋 .").isEmpty());
+    }
+
+    /**
+     * 검색용 바이그램 테스트
+     * 영문/숫자 단어도 바이그램으로 나누어 단어 일부인 검색어를 찾을 수 있어야 함
+     */
+    @Test
+    @DisplayName("검색용 바이그램은 영문 단어도 문자 바이그램으로 분리")
+    void searchGrams_splitsLatinWordsIntoBigrams() {
+        // when
+        Set<String> grams = NGramTokenizer.searchGrams("JavaSQL튜닝 A");
+
+        // then
+        assertEquals(List.of("ja", "av", "va", "as", "sq", "ql", "튜닝"), List.copyOf(grams));
+        assertTrue(grams.containsAll(NGramTokenizer.searchGrams("jav")));
+        assertTrue(NGramTokenizer.searchGrams("a 좋").isEmpty());
+    }
+}
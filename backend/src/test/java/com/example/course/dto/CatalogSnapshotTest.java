@@ -0,0 +1,66 @@
+package com.example.course.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CatalogSnapshot 테스트 클래스
+ * Accept-Encoding 해석과 압축본 선택을 테스트
+ */
+class CatalogSnapshotTest {
+
+    /**
+     * gzip 허용 테스트
+     */
+    @Test
+    @DisplayName("gzip 이 q 값 0보다 크게 허용되면 압축본 사용")
+    void acceptsGzip_withPositiveQuality_returnsTrue() {
+        assertTrue(CatalogSnapshot.acceptsGzip("gzip, deflate, br"));
+        assertTrue(CatalogSnapshot.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(CatalogSnapshot.acceptsGzip("*"));
+        assertTrue(CatalogSnapshot.acceptsGzip("identity, *;q=0.1"));
+    }
+
+    /**
+     * gzip 거부 테스트
+     * q=0 이나 identity 만 허용하는 경우 압축본을 보내지 않아야 함
+     */
+    @Test
+    @DisplayName("gzip;q=0 이나 identity 는 압축본을 사용하지 않음")
+    void acceptsGzip_withZeroQualityOrIdentity_returnsFalse() {
+        assertFalse(CatalogSnapshot.acceptsGzip(null));
+        assertFalse(CatalogSnapshot.acceptsGzip("identity"));
+        assertFalse(CatalogSnapshot.acceptsGzip("gzip;q=0"));
+        assertFalse(CatalogSnapshot.acceptsGzip("gzip; q=0.000, deflate"));
+        assertFalse(CatalogSnapshot.acceptsGzip("*, gzip;q=0"));
+        assertFalse(CatalogSnapshot.acceptsGzip("*;q=0"));
+        assertFalse(CatalogSnapshot.acceptsGzip("gzip;q=abc"));
+    }
+
+    /**
+     * 응답 변환 테스트
+     */
+    @Test
+    @DisplayName("압축본 사용 시에만 Content-Encoding 지정")
+    void toResponse_setsContentEncodingOnlyForGzip() {
+        // given
+        byte[] json = "{\"a\":1}".getBytes(StandardCharsets.UTF_8);
+        CatalogSnapshot snapshot = CatalogSnapshot.of(json, true);
+
+        // when
+        ResponseEntity<byte[]> gzipped = snapshot.toResponse("gzip");
+        ResponseEntity<byte[]> plain = snapshot.toResponse("gzip;q=0");
+
+        // then
+        assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(snapshot.getGzip(), gzipped.getBody());
+        assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(json, plain.getBody());
+    }
+}
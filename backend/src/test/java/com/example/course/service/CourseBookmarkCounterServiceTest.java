@@ -0,0 +1,146 @@
+package com.example.course.service;
+
+import com.example.course.event.CourseBookmarkChangedEvent;
+import com.example.course.service.CatalogSnapshotService.SnapshotType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * CourseBookmarkCounterService 테스트 클래스
+ * 반영 전 증감분 조회, 반영 실패 시 보존, 스냅샷 무효화 주기를 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class CourseBookmarkCounterServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CatalogSnapshotService snapshotService;
+
+    private CourseBookmarkCounterService counterService;
+
+    /**
+     * 테스트 전 초기 설정
+     */
+    @BeforeEach
+    void setUp() {
+        counterService = new CourseBookmarkCounterService(jdbcTemplate, transactionManager, snapshotService);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    /**
+     * 반영 전 증감분 조회 테스트
+     */
+    @Test
+    @DisplayName("반영 전 증감분을 저장된 즐겨찾기 수에 더해 조회")
+    void getBookmarkCount_includesPendingDelta() {
+        // given
+        counterService.onBookmarkChanged(new CourseBookmarkChangedEvent(1L, 10L, true));
+        counterService.onBookmarkChanged(new CourseBookmarkChangedEvent(2L, 10L, true));
+        counterService.onBookmarkChanged(new CourseBookmarkChangedEvent(3L, 10L, false));
+
+        // when & then
+        assertEquals(6, counterService.getBookmarkCount(10L, 5));
+        assertEquals(5, counterService.getBookmarkCount(20L, 5));
+        assertEquals(0, counterService.getBookmarkCount(30L, 0));
+    }
+
+    /**
+     * 반영 성공 테스트
+     * 반영된 증감분은 카운터에서 빠져 저장된 값과 두 번 더해지지 않아야 함
+     */
+    @Test
+    @DisplayName("반영이 커밋되면 증감분을 카운터에서 뺌")
+    void flush_success_subtractsAppliedDelta() {
+        // given
+        stubBatchUpdate();
+        counterService.onBookmarkChanged(new CourseBookmarkChangedEvent(1L, 10L, true));
+        counterService.onBookmarkChanged(new CourseBookmarkChangedEvent(2L, 10L, true));
+
+        // when
+        int flushed = counterService.flush();
+
+        // then
+        assertEquals(1, flushed);
+        assertEquals(7, counterService.getBookmarkCount(10L, 7));
+        assertEquals(0, counterService.flush());
+    }
+
+    /**
+     * 반영 실패 테스트
+     * 반영에 실패하면 증감분이 그대로 남아 조회에 계속 포함되고 다음 반영에서 다시 시도해야 함
+     */
+    @Test
+    @DisplayName("반영에 실패하면 증감분을 유지하고 다음 반영에서 다시 시도")
+    void flush_failure_keepsPendingDelta() {
+        // given
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"))
+                .thenReturn(new int[][] {{1}});
+        counterService.onBookmarkChanged(new CourseBookmarkChangedEvent(1L, 10L, true));
+
+        // when
+        int failed = counterService.flush();
+        long countAfterFailure = counterService.getBookmarkCount(10L, 5);
+        boolean refreshedAfterFailure = counterService.refreshSnapshot();
+        int retried = counterService.flush();
+
+        // then
+        assertEquals(0, failed);
+        assertEquals(6, countAfterFailure);
+        assertFalse(refreshedAfterFailure);
+        assertEquals(1, retried);
+        assertEquals(5, counterService.getBookmarkCount(10L, 5));
+    }
+
+    /**
+     * 스냅샷 무효화 테스트
+     * 반영마다 스냅샷을 버리지 않고, 반영된 증감이 있을 때 스냅샷 갱신 주기에 한 번만 버려야 함
+     */
+    @Test
+    @DisplayName("여러 번 반영해도 스냅샷은 갱신 주기에 한 번만 무효화")
+    void refreshSnapshot_invalidatesOncePerInterval() {
+        // given
+        stubBatchUpdate();
+        counterService.onBookmarkChanged(new CourseBookmarkChangedEvent(1L, 10L, true));
+        counterService.flush();
+        counterService.onBookmarkChanged(new CourseBookmarkChangedEvent(2L, 20L, true));
+        counterService.flush();
+        verifyNoInteractions(snapshotService);
+
+        // when
+        boolean first = counterService.refreshSnapshot();
+        boolean second = counterService.refreshSnapshot();
+
+        // then
+        assertTrue(first);
+        assertFalse(second);
+        verify(snapshotService, times(1)).invalidate(SnapshotType.COURSES);
+    }
+
+    private void stubBatchUpdate() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][] {{1}});
+    }
+}
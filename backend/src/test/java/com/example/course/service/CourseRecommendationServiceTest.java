@@ -0,0 +1,184 @@
+package com.example.course.service;
+
+import com.example.course.dto.CourseRecommendationResponse;
+import com.example.course.entity.Course;
+import com.example.course.repository.CourseBookmarkRepository;
+import com.example.course.repository.CourseEnrollmentRepository;
+import com.example.course.repository.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * CourseRecommendationService 테스트 클래스
+ * 이웃 계산, 조회 개수 처리, 비활성 과정 제외, 증분 갱신을 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class CourseRecommendationServiceTest {
+
+    @Mock
+    private CourseEnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private CourseBookmarkRepository bookmarkRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @InjectMocks
+    private CourseRecommendationService recommendationService;
+
+    /**
+     * 테스트 전 초기 설정
+     */
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(recommendationService, "neighbourCount", 20);
+        ReflectionTestUtils.setField(recommendationService, "bookmarkWeight", 0.5f);
+        lenient().when(bookmarkRepository.findUserCoursePairs()).thenReturn(List.of());
+        lenient().when(courseRepository.findByActiveTrue()).thenReturn(courses(1, 2, 3, 4));
+    }
+
+    /**
+     * 과정 기준 추천 테스트
+     * 함께 수강한 학습자가 많은 과정일수록 앞에 와야 함
+     */
+    @Test
+    @DisplayName("함께 수강한 과정을 점수 순으로 추천")
+    void recommendForCourse_returnsNeighboursByScore() {
+        // given
+        when(enrollmentRepository.findApprovedUserCoursePairs()).thenReturn(pairs(
+                10, 1, 10, 2,
+                11, 1, 11, 2,
+                12, 1, 12, 3));
+        recommendationService.rebuild();
+
+        // when
+        List<CourseRecommendationResponse> result = recommendationService.recommendForCourse(1L, 10);
+
+        // then
+        assertEquals(List.of(2L, 3L), result.stream().map(CourseRecommendationResponse::getCourseId).toList());
+        assertEquals("C2", result.get(0).getCode());
+        assertTrue(result.get(0).getScore() > result.get(1).getScore());
+    }
+
+    /**
+     * 조회 개수 테스트
+     */
+    @Test
+    @DisplayName("조회 개수가 0 이하이면 빈 목록")
+    void recommend_withNonPositiveLimit_returnsEmpty() {
+        // given
+        when(enrollmentRepository.findApprovedUserCoursePairs()).thenReturn(pairs(10, 1, 10, 2));
+        recommendationService.rebuild();
+
+        // when & then
+        assertTrue(recommendationService.recommendForCourse(1L, -1).isEmpty());
+        assertTrue(recommendationService.recommendForCourse(1L, 0).isEmpty());
+        assertTrue(recommendationService.recommendForUser(10L, -5).isEmpty());
+    }
+
+    /**
+     * 이웃 수 설정 테스트
+     */
+    @Test
+    @DisplayName("이웃 수가 0이면 예외 없이 추천 없음")
+    void rebuild_withZeroNeighbours_keepsNoNeighbours() {
+        // given
+        ReflectionTestUtils.setField(recommendationService, "neighbourCount", 0);
+        when(enrollmentRepository.findApprovedUserCoursePairs()).thenReturn(pairs(10, 1, 10, 2));
+
+        // when
+        recommendationService.rebuild();
+
+        // then
+        assertTrue(recommendationService.recommendForCourse(1L, 10).isEmpty());
+    }
+
+    /**
+     * 비활성 과정 제외 테스트
+     * 모델 생성 이후 비활성화된 과정도 응답에서 빠져야 함
+     */
+    @Test
+    @DisplayName("비활성 과정은 추천하지 않음")
+    void recommend_excludesInactiveCourses() {
+        // given
+        when(enrollmentRepository.findApprovedUserCoursePairs()).thenReturn(pairs(
+                10, 1, 10, 2, 10, 3,
+                11, 2, 11, 4));
+        when(courseRepository.findByActiveTrue()).thenReturn(courses(1, 2, 4));
+        recommendationService.rebuild();
+
+        // when
+        List<CourseRecommendationResponse> forCourse = recommendationService.recommendForCourse(1L, 10);
+        List<CourseRecommendationResponse> forUser = recommendationService.recommendForUser(11L, 10);
+
+        // then
+        assertEquals(List.of(2L), forCourse.stream().map(CourseRecommendationResponse::getCourseId).toList());
+        assertEquals(List.of(1L), forUser.stream().map(CourseRecommendationResponse::getCourseId).toList());
+        assertTrue(forUser.stream().allMatch(course -> course.getName() != null));
+    }
+
+    /**
+     * 증분 갱신 테스트
+     * 새 신호와 직접 관련 없는 과정의 이웃 점수도 전체 재생성과 같아야 함
+     */
+    @Test
+    @DisplayName("증분 갱신 결과는 전체 재생성과 같음")
+    void refresh_updatesNeighboursOfRelatedCourses() {
+        // given
+        List<Object[]> initial = pairs(
+                10, 1, 10, 2,
+                11, 2, 11, 3);
+        List<Object[]> fresh = pairs(12, 2, 12, 4);
+        when(enrollmentRepository.findApprovedUserCoursePairs()).thenReturn(initial);
+        when(enrollmentRepository.findApprovedUserCoursePairsProcessedAfter(any())).thenReturn(fresh);
+        when(bookmarkRepository.findUserCoursePairsBookmarkedAfter(any())).thenReturn(List.of());
+        recommendationService.rebuild();
+
+        // when
+        recommendationService.refresh();
+        List<CourseRecommendationResponse> incremental = recommendationService.recommendForCourse(1L, 10);
+
+        List<Object[]> all = new ArrayList<>(initial);
+        all.addAll(fresh);
+        when(enrollmentRepository.findApprovedUserCoursePairs()).thenReturn(all);
+        recommendationService.rebuild();
+        List<CourseRecommendationResponse> rebuilt = recommendationService.recommendForCourse(1L, 10);
+
+        // then
+        assertEquals(rebuilt.size(), incremental.size());
+        for (int i = 0; i < rebuilt.size(); i++) {
+            assertEquals(rebuilt.get(i).getCourseId(), incremental.get(i).getCourseId());
+            assertEquals(rebuilt.get(i).getScore(), incremental.get(i).getScore(), 1e-6);
+        }
+    }
+
+    private static List<Object[]> pairs(long... userCourse) {
+        List<Object[]> pairs = new ArrayList<>();
+        for (int i = 0; i < userCourse.length; i += 2) {
+            pairs.add(new Object[] {userCourse[i], userCourse[i + 1]});
+        }
+        return pairs;
+    }
+
+    private static List<Course> courses(long... ids) {
+        List<Course> courses = new ArrayList<>();
+        for (long id : ids) {
+            courses.add(Course.builder().id(id).code("C" + id).name("과정 " + id).build());
+        }
+        return courses;
+    }
+}
@@ -0,0 +1,321 @@
+package com.example.survey.service;
+
+import com.example.common.exception.InvalidOperationException;
+import com.example.survey.dto.SurveyAnswerRequest;
+import com.example.survey.dto.SurveyAnswerResponse;
+import com.example.survey.dto.SurveyDefinitionResponse;
+import com.example.survey.dto.SurveyDraftRequest;
+import com.example.survey.dto.SurveyDraftResponse;
+import com.example.survey.dto.SurveyQuestionOptionResponse;
+import com.example.survey.dto.SurveyQuestionResponse;
+import com.example.survey.entity.SurveyQuestionType;
+import com.example.survey.entity.SurveyResponse;
+import com.example.survey.entity.SurveyResponseStatus;
+import com.example.survey.event.SurveyResponseCompletedEvent;
+import com.example.survey.repository.SurveyQuestionOptionRepository;
+import com.example.survey.repository.SurveyQuestionRepository;
+import com.example.survey.repository.SurveyRepository;
+import com.example.survey.repository.SurveyResponseItemRepository;
+import com.example.survey.repository.SurveyResponseRepository;
+import com.example.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * SurveyDraftService 테스트 클래스
+ * 임시 답변 병합, 주기적 반영, 반영과 제출이 겹치는 경우를 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class SurveyDraftServiceTest {
+
+    private static final Long SURVEY_ID = 1L;
+    private static final Long USER_ID = 7L;
+
+    @Mock
+    private SurveyDefinitionService definitionService;
+
+    @Mock
+    private SurveySubmissionService submissionService;
+
+    @Mock
+    private SurveyRepository surveyRepository;
+
+    @Mock
+    private SurveyQuestionRepository questionRepository;
+
+    @Mock
+    private SurveyQuestionOptionRepository optionRepository;
+
+    @Mock
+    private SurveyResponseRepository responseRepository;
+
+    @Mock
+    private SurveyResponseItemRepository responseItemRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SurveyDraftService draftService;
+
+    /**
+     * 테스트 전 초기 설정
+     * 문항 1: 단일 선택(선택지 11, 12), 문항 2: 척도형, 문항 3: 서술형
+     */
+    @BeforeEach
+    void setUp() {
+        draftService = new SurveyDraftService(definitionService, submissionService, surveyRepository,
+                questionRepository, optionRepository, responseRepository, responseItemRepository,
+                userRepository, transactionManager, 100, 30);
+
+        lenient().when(definitionService.getDefinition(SURVEY_ID)).thenReturn(definition());
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(responseRepository.findBySurveyIdAndUserId(SURVEY_ID, USER_ID)).thenReturn(Optional.empty());
+        lenient().when(responseRepository.findForUpdateBySurveyIdAndUserId(SURVEY_ID, USER_ID)).thenReturn(Optional.empty());
+    }
+
+    /**
+     * 임시 답변 병합 테스트
+     * 문항 단위로 덮어쓰고, 값이 모두 비어 있는 답변은 해당 문항을 지워야 함
+     */
+    @Test
+    @DisplayName("임시 답변을 문항 단위로 덮어쓰고 빈 답변은 지움")
+    void saveDraft_mergesAnswersByQuestion() {
+        // when
+        draftService.saveDraft(SURVEY_ID, USER_ID, request(choice(1L, 11L), text(3L, "초안")));
+        draftService.saveDraft(SURVEY_ID, USER_ID, request(scale(2L, 4)));
+        SurveyDraftResponse result = draftService.saveDraft(SURVEY_ID, USER_ID,
+                request(choice(1L, 12L), text(3L, "")));
+
+        // then
+        List<SurveyAnswerResponse> answers = result.getAnswers();
+        assertEquals(List.of(1L, 2L), answers.stream().map(SurveyAnswerResponse::getQuestionId).toList());
+        assertEquals(List.of(12L), answers.get(0).getOptionIds());
+        assertEquals(4, answers.get(1).getScaleValue());
+        verify(responseRepository, times(1)).findBySurveyIdAndUserId(SURVEY_ID, USER_ID);
+    }
+
+    /**
+     * 응답 자격 테스트
+     * 제출과 같은 자격 확인에 실패하면 임시 답변을 저장하지 않아야 함
+     */
+    @Test
+    @DisplayName("수강이 승인되지 않은 사용자의 임시 저장은 거절")
+    void saveDraft_notEligible_throwsException() {
+        // given
+        doThrow(new InvalidOperationException("수강이 승인된 과정의 설문만 응답할 수 있습니다."))
+                .when(submissionService).validateEligibility(any(), eq(USER_ID));
+
+        // when & then
+        assertThrows(InvalidOperationException.class,
+                () -> draftService.saveDraft(SURVEY_ID, USER_ID, request(choice(1L, 11L))));
+        assertEquals(0, draftService.flush());
+        verify(responseRepository, never()).saveAndFlush(any());
+    }
+
+    /**
+     * 설문에 없는 문항 테스트
+     */
+    @Test
+    @DisplayName("설문에 없는 문항의 임시 저장은 거절")
+    void saveDraft_unknownQuestion_throwsException() {
+        // when & then
+        assertThrows(InvalidOperationException.class,
+                () -> draftService.saveDraft(SURVEY_ID, USER_ID, request(choice(99L, 11L))));
+    }
+
+    /**
+     * 임시 답변 반영 테스트
+     * 최신 상태만 진행 중 응답으로 한 번 저장하고, 반영된 임시 답변은 다음 주기에 다시 쓰지 않아야 함
+     */
+    @Test
+    @DisplayName("바뀐 임시 답변의 최신 상태를 진행 중 응답으로 한 번 반영")
+    void flush_writesLatestDraftOnce() {
+        // given
+        draftService.saveDraft(SURVEY_ID, USER_ID, request(choice(1L, 11L)));
+        draftService.saveDraft(SURVEY_ID, USER_ID, request(choice(1L, 12L), scale(2L, 5)));
+
+        // when
+        int flushed = draftService.flush();
+        int flushedAgain = draftService.flush();
+
+        // then
+        assertEquals(1, flushed);
+        assertEquals(0, flushedAgain);
+        ArgumentCaptor<SurveyResponse> saved = ArgumentCaptor.forClass(SurveyResponse.class);
+        verify(responseRepository, times(1)).saveAndFlush(saved.capture());
+        assertEquals(SurveyResponseStatus.IN_PROGRESS, saved.getValue().getStatus());
+        assertEquals(2, saved.getValue().getItems().size());
+    }
+
+    /**
+     * 반영과 제출이 겹치는 경우 테스트
+     * 반영 직전에 제출이 응답을 완료했으면 완료된 응답을 되돌리지 않아야 함
+     */
+    @Test
+    @DisplayName("이미 제출된 응답에는 임시 답변을 반영하지 않음")
+    void flush_completedResponse_isNotReopened() {
+        // given
+        SurveyResponse completed = response(100L).complete();
+        when(responseRepository.findForUpdateBySurveyIdAndUserId(SURVEY_ID, USER_ID)).thenReturn(Optional.of(completed));
+        draftService.saveDraft(SURVEY_ID, USER_ID, request(choice(1L, 11L)));
+
+        // when
+        draftService.flush();
+
+        // then
+        assertTrue(completed.isCompleted());
+        verify(responseItemRepository, never()).deleteByResponseId(any());
+        verify(responseRepository, never()).saveAndFlush(any());
+        assertEquals(0, draftService.flush());
+    }
+
+    /**
+     * 반영 중 제출 충돌 테스트
+     * 같은 사용자의 제출이 먼저 응답을 만들어 고유 제약에 걸리면 임시 답변을 버려야 함
+     */
+    @Test
+    @DisplayName("제출이 먼저 응답을 만들면 임시 답변 반영을 생략")
+    void flush_concurrentSubmit_dropsDraft() {
+        // given
+        when(responseRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate key"));
+        draftService.saveDraft(SURVEY_ID, USER_ID, request(choice(1L, 11L)));
+
+        // when
+        draftService.flush();
+
+        // then
+        assertEquals(0, draftService.flush());
+        verify(responseRepository, times(1)).saveAndFlush(any());
+    }
+
+    /**
+     * 반영 실패 테스트
+     * 일시적인 오류로 반영에 실패한 임시 답변은 다음 주기에 다시 반영해야 함
+     */
+    @Test
+    @DisplayName("반영에 실패한 임시 답변은 다음 주기에 다시 반영")
+    void flush_failure_retriesNextTime() {
+        // given
+        when(responseRepository.saveAndFlush(any()))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        draftService.saveDraft(SURVEY_ID, USER_ID, request(choice(1L, 11L)));
+
+        // when
+        int failed = draftService.flush();
+        int retried = draftService.flush();
+
+        // then
+        assertEquals(0, failed);
+        assertEquals(1, retried);
+        verify(responseRepository, times(2)).saveAndFlush(any());
+    }
+
+    /**
+     * 반영 시 자격 재확인 테스트
+     * 저장 이후 설문이 마감되었으면 응답을 만들지 않고 임시 답변을 버려야 함
+     */
+    @Test
+    @DisplayName("저장 이후 마감된 설문의 임시 답변은 반영하지 않음")
+    void flush_surveyClosedAfterSave_skipsDraft() {
+        // given
+        draftService.saveDraft(SURVEY_ID, USER_ID, request(choice(1L, 11L)));
+        doThrow(new InvalidOperationException("응답 기간이 아닌 설문입니다."))
+                .when(submissionService).validatePeriod(any());
+
+        // when
+        draftService.flush();
+
+        // then
+        verify(responseRepository, never()).findForUpdateBySurveyIdAndUserId(any(), any());
+        verify(responseRepository, never()).saveAndFlush(any());
+        assertEquals(0, draftService.flush());
+    }
+
+    /**
+     * 제출 완료 후 폐기 테스트
+     */
+    @Test
+    @DisplayName("응답이 완료되면 반영 전 임시 답변을 버림")
+    void onResponseCompleted_discardsDraft() {
+        // given
+        draftService.saveDraft(SURVEY_ID, USER_ID, request(choice(1L, 11L)));
+
+        // when
+        draftService.onResponseCompleted(new SurveyResponseCompletedEvent(100L, SURVEY_ID, USER_ID, List.of()));
+
+        // then
+        assertEquals(0, draftService.flush());
+        assertTrue(draftService.getDraft(SURVEY_ID, USER_ID).getAnswers().isEmpty());
+        verify(responseRepository, never()).saveAndFlush(any());
+    }
+
+    private static SurveyDefinition definition() {
+        return SurveyDefinition.of(SurveyDefinitionResponse.builder()
+                .id(SURVEY_ID)
+                .courseId(10L)
+                .title("과정 만족도 조사")
+                .active(true)
+                .questions(List.of(
+                        question(1L, SurveyQuestionType.SINGLE_CHOICE, List.of(11L, 12L)),
+                        question(2L, SurveyQuestionType.SCALE, List.of()),
+                        question(3L, SurveyQuestionType.LONG_ANSWER, List.of())))
+                .build());
+    }
+
+    private static SurveyQuestionResponse question(Long id, SurveyQuestionType type, List<Long> optionIds) {
+        return SurveyQuestionResponse.builder()
+                .id(id)
+                .content("문항 " + id)
+                .type(type)
+                .options(optionIds.stream()
+                        .map(optionId -> SurveyQuestionOptionResponse.builder()
+                                .id(optionId)
+                                .content("선택지 " + optionId)
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private static SurveyResponse response(Long id) {
+        SurveyResponse response = SurveyResponse.builder().status(SurveyResponseStatus.IN_PROGRESS).build();
+        ReflectionTestUtils.setField(response, "id", id);
+        return response;
+    }
+
+    private static SurveyDraftRequest request(SurveyAnswerRequest... answers) {
+        return new SurveyDraftRequest(List.of(answers));
+    }
+
+    private static SurveyAnswerRequest choice(Long questionId, Long... optionIds) {
+        return new SurveyAnswerRequest(questionId, List.of(optionIds), null, null);
+    }
+
+    private static SurveyAnswerRequest scale(Long questionId, int value) {
+        return new SurveyAnswerRequest(questionId, null, null, value);
+    }
+
+    private static SurveyAnswerRequest text(Long questionId, String value) {
+        return new SurveyAnswerRequest(questionId, null, value, null);
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.survey.service;
+
+import com.example.survey.dto.SurveyDefinitionResponse;
+import com.example.survey.dto.SurveyQuestionOptionResponse;
+import com.example.survey.dto.SurveyQuestionResponse;
+import com.example.survey.dto.SurveyQuestionStatisticsResponse;
+import com.example.survey.dto.SurveyStatisticsResponse;
+import com.example.survey.entity.SurveyQuestionType;
+import com.example.survey.entity.SurveyStatCounter;
+import com.example.survey.entity.SurveyStatMetric;
+import com.example.survey.event.SurveyResponseCompletedEvent;
+import com.example.survey.repository.SurveyRepository;
+import com.example.survey.repository.SurveyStatCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * SurveyStatisticsService 테스트 클래스
+ * 저장된 카운터와 반영 전 증감분의 병합, 증감분 반영과 실패 시 복구를 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class SurveyStatisticsServiceTest {
+
+    private static final Long SURVEY_ID = 1L;
+
+    @Mock
+    private SurveyDefinitionService definitionService;
+
+    @Mock
+    private SurveyRepository surveyRepository;
+
+    @Mock
+    private SurveyStatCounterRepository counterRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SurveyStatisticsService statisticsService;
+
+    /**
+     * 반영된 증감분 값 (반영 호출마다 한 목록)
+     */
+    private final List<List<Long>> appliedDeltas = new ArrayList<>();
+
+    /**
+     * 테스트 전 초기 설정
+     * 문항 1: 단일 선택(선택지 11, 12), 문항 2: 척도형
+     */
+    @BeforeEach
+    void setUp() {
+        statisticsService = new SurveyStatisticsService(definitionService, surveyRepository, counterRepository,
+                jdbcTemplate, transactionManager, 100, 60);
+
+        lenient().when(definitionService.getDefinition(SURVEY_ID)).thenReturn(definition());
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    /**
+     * 카운터 적재 테스트
+     * 적재 전에 완료된 응답의 증감분은 저장된 카운터 값에 더해져야 함
+     */
+    @Test
+    @DisplayName("저장된 카운터와 반영 전 증감분을 합쳐 조회")
+    void getStatistics_mergesStoredCountersWithPending() {
+        // given
+        statisticsService.onResponseCompleted(event(11L, 4));
+        when(counterRepository.findBySurveyId(SURVEY_ID)).thenReturn(List.of(
+                counter(0L, SurveyStatMetric.RESPONSES, 0L, 5),
+                counter(1L, SurveyStatMetric.ANSWERED, 0L, 5),
+                counter(1L, SurveyStatMetric.OPTION, 11L, 3),
+                counter(1L, SurveyStatMetric.OPTION, 12L, 2)));
+
+        // when
+        SurveyStatisticsResponse result = statisticsService.getStatistics(SURVEY_ID);
+
+        // then
+        assertEquals(6, result.getResponseCount());
+        SurveyQuestionStatisticsResponse choice = result.getQuestions().get(0);
+        assertEquals(6, choice.getAnsweredCount());
+        assertEquals(4, choice.getOptions().get(0).getCount());
+        assertEquals(2, choice.getOptions().get(1).getCount());
+        assertEquals(1, result.getQuestions().get(1).getAnsweredCount());
+    }
+
+    /**
+     * 적재 후 증감 테스트
+     * 적재된 설문은 이벤트마다 바로 반영되고, 증감분 반영 후에도 값이 두 번 더해지지 않아야 함
+     */
+    @Test
+    @DisplayName("적재 후 완료된 응답은 바로 반영되고 증감분 반영 후에도 유지")
+    void onResponseCompleted_afterLoad_updatesTallyOnce() {
+        // given
+        when(counterRepository.findBySurveyId(SURVEY_ID)).thenReturn(List.of(
+                counter(0L, SurveyStatMetric.RESPONSES, 0L, 5)));
+        statisticsService.getStatistics(SURVEY_ID);
+        stubBatchUpdate();
+
+        // when
+        statisticsService.onResponseCompleted(event(12L, 3));
+        long beforeFlush = statisticsService.getStatistics(SURVEY_ID).getResponseCount();
+        int flushed = statisticsService.flush();
+        long afterFlush = statisticsService.getStatistics(SURVEY_ID).getResponseCount();
+
+        // then
+        assertEquals(6, beforeFlush);
+        assertEquals(6, afterFlush);
+        assertEquals(5, flushed);
+        verify(counterRepository, times(1)).findBySurveyId(SURVEY_ID);
+    }
+
+    /**
+     * 반영 실패 테스트
+     * 반영에 실패하면 꺼낸 증감분을 되돌려 다음 반영에서 빠짐없이 반영해야 함
+     */
+    @Test
+    @DisplayName("증감분 반영에 실패하면 다음 반영에서 다시 반영")
+    void flush_failure_restoresPendingDeltas() {
+        // given
+        statisticsService.onResponseCompleted(event(11L, null));
+        statisticsService.onResponseCompleted(event(11L, null));
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"));
+
+        // when
+        int failed = statisticsService.flush();
+        stubBatchUpdate();
+        statisticsService.onResponseCompleted(event(11L, null));
+        int flushed = statisticsService.flush();
+
+        // then
+        assertEquals(0, failed);
+        assertEquals(3, flushed);
+        assertEquals(List.of(List.of(3L, 3L, 3L)), appliedDeltas);
+        assertEquals(0, statisticsService.flush());
+    }
+
+    /**
+     * 반영할 증감분이 없는 경우 테스트
+     */
+    @Test
+    @DisplayName("증감분이 없으면 반영하지 않음")
+    void flush_noPending_doesNothing() {
+        // when
+        int flushed = statisticsService.flush();
+
+        // then
+        assertEquals(0, flushed);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubBatchUpdate() {
+        reset(jdbcTemplate);
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<Object> deltas = invocation.getArgument(1);
+                    ParameterizedPreparedStatementSetter<Object> setter = invocation.getArgument(3);
+                    List<Long> values = new ArrayList<>();
+                    for (Object delta : deltas) {
+                        PreparedStatement ps = mock(PreparedStatement.class);
+                        setter.setValues(ps, delta);
+                        ArgumentCaptor<Long> value = ArgumentCaptor.forClass(Long.class);
+                        verify(ps).setLong(eq(1), value.capture());
+                        values.add(value.getValue());
+                    }
+                    appliedDeltas.add(values);
+                    int[] updated = new int[deltas.size()];
+                    Arrays.fill(updated, 1);
+                    return new int[][] {updated};
+                });
+    }
+
+    private static SurveyResponseCompletedEvent event(Long optionId, Integer scaleValue) {
+        List<SurveyResponseCompletedEvent.Item> items = new ArrayList<>();
+        items.add(new SurveyResponseCompletedEvent.Item(1L, optionId, null, null));
+        if (scaleValue != null) {
+            items.add(new SurveyResponseCompletedEvent.Item(2L, null, null, scaleValue));
+        }
+        return new SurveyResponseCompletedEvent(100L, SURVEY_ID, 7L, items);
+    }
+
+    private static SurveyStatCounter counter(Long questionId, SurveyStatMetric metric, Long bucket, long value) {
+        return new SurveyStatCounter(SURVEY_ID, questionId, metric, bucket, value);
+    }
+
+    private static SurveyDefinition definition() {
+        return SurveyDefinition.of(SurveyDefinitionResponse.builder()
+                .id(SURVEY_ID)
+                .title("과정 만족도 조사")
+                .active(true)
+                .questions(List.of(
+                        SurveyQuestionResponse.builder()
+                                .id(1L)
+                                .content("전반적인 만족도")
+                                .type(SurveyQuestionType.SINGLE_CHOICE)
+                                .options(List.of(option(11L), option(12L)))
+                                .build(),
+                        SurveyQuestionResponse.builder()
+                                .id(2L)
+                                .content("강사 만족도")
+                                .type(SurveyQuestionType.SCALE)
+                                .options(List.of())
+                                .build()))
+                .build());
+    }
+
+    private static SurveyQuestionOptionResponse option(Long id) {
+        return SurveyQuestionOptionResponse.builder().id(id).content("선택지 " + id).build();
+    }
+}
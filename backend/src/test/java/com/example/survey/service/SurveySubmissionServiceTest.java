@@ -0,0 +1,335 @@
+package com.example.survey.service;
+
+import com.example.common.exception.InvalidOperationException;
+import com.example.course.repository.CourseEnrollmentRepository;
+import com.example.survey.dto.SurveyAnswerRequest;
+import com.example.survey.dto.SurveyDefinitionResponse;
+import com.example.survey.dto.SurveyQuestionOptionResponse;
+import com.example.survey.dto.SurveyQuestionResponse;
+import com.example.survey.dto.SurveySubmitRequest;
+import com.example.survey.dto.SurveySubmitResponse;
+import com.example.survey.entity.SurveyQuestionType;
+import com.example.survey.entity.SurveyResponse;
+import com.example.survey.entity.SurveyResponseStatus;
+import com.example.survey.event.SurveyResponseCompletedEvent;
+import com.example.survey.repository.SurveyQuestionOptionRepository;
+import com.example.survey.repository.SurveyQuestionRepository;
+import com.example.survey.repository.SurveyRepository;
+import com.example.survey.repository.SurveyResponseItemRepository;
+import com.example.survey.repository.SurveyResponseRepository;
+import com.example.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * SurveySubmissionService 테스트 클래스
+ * 답변 검증, 응답 자격 확인, 중복 제출 처리를 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class SurveySubmissionServiceTest {
+
+    private static final Long SURVEY_ID = 1L;
+    private static final Long COURSE_ID = 10L;
+    private static final Long USER_ID = 7L;
+
+    @Mock
+    private SurveyDefinitionService definitionService;
+
+    @Mock
+    private SurveyRepository surveyRepository;
+
+    @Mock
+    private SurveyQuestionRepository questionRepository;
+
+    @Mock
+    private SurveyQuestionOptionRepository optionRepository;
+
+    @Mock
+    private SurveyResponseRepository responseRepository;
+
+    @Mock
+    private SurveyResponseItemRepository responseItemRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CourseEnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SurveySubmissionService submissionService;
+
+    /**
+     * 테스트 전 초기 설정
+     * 문항 1: 단일 선택(필수, 선택지 11, 12), 문항 2: 다중 선택(선택지 21, 22, 23),
+     * 문항 3: 척도형, 문항 4: 단답형
+     */
+    @BeforeEach
+    void setUp() {
+        submissionService = new SurveySubmissionService(definitionService, surveyRepository, questionRepository,
+                optionRepository, responseRepository, responseItemRepository, userRepository,
+                enrollmentRepository, eventPublisher, transactionManager);
+
+        lenient().when(definitionService.getDefinition(SURVEY_ID)).thenReturn(definition(true));
+        lenient().when(enrollmentRepository.existsApprovedByUserIdAndCourseId(USER_ID, COURSE_ID)).thenReturn(true);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(responseRepository.findForUpdateBySurveyIdAndUserId(SURVEY_ID, USER_ID)).thenReturn(Optional.empty());
+        lenient().when(responseRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    /**
+     * 정상 제출 테스트
+     * 다중 선택은 선택지마다 한 항목으로 저장되고 완료 이벤트가 발행되어야 함
+     */
+    @Test
+    @DisplayName("유효한 답변 제출 시 응답 완료 및 이벤트 발행")
+    void submit_savesCompletedResponse() {
+        // given
+        SurveySubmitRequest request = request(
+                choice(1L, 11L),
+                choice(2L, 21L, 23L),
+                scale(3L, 5),
+                text(4L, "  좋았습니다  "));
+
+        // when
+        SurveySubmitResponse result = submissionService.submit(SURVEY_ID, USER_ID, request);
+
+        // then
+        assertFalse(result.isAlreadySubmitted());
+        assertNotNull(result.getCompletedAt());
+
+        ArgumentCaptor<SurveyResponse> saved = ArgumentCaptor.forClass(SurveyResponse.class);
+        verify(responseRepository).saveAndFlush(saved.capture());
+        assertEquals(SurveyResponseStatus.COMPLETED, saved.getValue().getStatus());
+        assertEquals(5, saved.getValue().getItems().size());
+
+        ArgumentCaptor<SurveyResponseCompletedEvent> event = ArgumentCaptor.forClass(SurveyResponseCompletedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(List.of(
+                new SurveyResponseCompletedEvent.Item(1L, 11L, null, null),
+                new SurveyResponseCompletedEvent.Item(2L, 21L, null, null),
+                new SurveyResponseCompletedEvent.Item(2L, 23L, null, null),
+                new SurveyResponseCompletedEvent.Item(3L, null, null, 5),
+                new SurveyResponseCompletedEvent.Item(4L, null, "좋았습니다", null)), event.getValue().getItems());
+    }
+
+    /**
+     * 필수 문항 미답변 테스트
+     */
+    @Test
+    @DisplayName("필수 문항에 답변하지 않으면 예외 발생")
+    void submit_requiredQuestionMissing_throwsException() {
+        // given
+        SurveySubmitRequest request = request(scale(3L, 5), choice(1L));
+
+        // when & then
+        assertThrows(InvalidOperationException.class, () -> submissionService.submit(SURVEY_ID, USER_ID, request));
+        verify(responseRepository, never()).saveAndFlush(any());
+    }
+
+    /**
+     * 문항에 없는 선택지 테스트
+     */
+    @Test
+    @DisplayName("다른 문항의 선택지를 고르면 예외 발생")
+    void submit_optionOfAnotherQuestion_throwsException() {
+        // given
+        SurveySubmitRequest request = request(choice(1L, 21L));
+
+        // when & then
+        assertThrows(InvalidOperationException.class, () -> submissionService.submit(SURVEY_ID, USER_ID, request));
+        verify(responseRepository, never()).saveAndFlush(any());
+    }
+
+    /**
+     * 단일 선택 문항 테스트
+     */
+    @Test
+    @DisplayName("단일 선택 문항에 선택지를 둘 이상 고르면 예외 발생")
+    void submit_multipleOptionsForSingleChoice_throwsException() {
+        // given
+        SurveySubmitRequest request = request(choice(1L, 11L, 12L));
+
+        // when & then
+        assertThrows(InvalidOperationException.class, () -> submissionService.submit(SURVEY_ID, USER_ID, request));
+        verify(responseRepository, never()).saveAndFlush(any());
+    }
+
+    /**
+     * 척도 범위 테스트
+     */
+    @Test
+    @DisplayName("척도 값이 허용 범위를 벗어나면 예외 발생")
+    void submit_scaleOutOfRange_throwsException() {
+        // given
+        SurveySubmitRequest request = request(choice(1L, 11L), scale(3L, SurveySubmissionService.MAX_SCALE_VALUE + 1));
+
+        // when & then
+        assertThrows(InvalidOperationException.class, () -> submissionService.submit(SURVEY_ID, USER_ID, request));
+        verify(responseRepository, never()).saveAndFlush(any());
+    }
+
+    /**
+     * 중복 문항 테스트
+     */
+    @Test
+    @DisplayName("같은 문항에 대한 답변이 중복되면 예외 발생")
+    void submit_duplicateQuestion_throwsException() {
+        // given
+        SurveySubmitRequest request = request(choice(1L, 11L), choice(1L, 12L));
+
+        // when & then
+        assertThrows(InvalidOperationException.class, () -> submissionService.submit(SURVEY_ID, USER_ID, request));
+        verify(responseRepository, never()).saveAndFlush(any());
+    }
+
+    /**
+     * 응답 자격 테스트
+     */
+    @Test
+    @DisplayName("과정 수강이 승인되지 않았으면 예외 발생")
+    void submit_notEnrolled_throwsException() {
+        // given
+        when(enrollmentRepository.existsApprovedByUserIdAndCourseId(USER_ID, COURSE_ID)).thenReturn(false);
+
+        // when & then
+        assertThrows(InvalidOperationException.class,
+                () -> submissionService.submit(SURVEY_ID, USER_ID, request(choice(1L, 11L))));
+        verify(responseRepository, never()).saveAndFlush(any());
+    }
+
+    /**
+     * 응답 기간 테스트
+     */
+    @Test
+    @DisplayName("비활성 설문에 제출하면 예외 발생")
+    void submit_inactiveSurvey_throwsException() {
+        // given
+        when(definitionService.getDefinition(SURVEY_ID)).thenReturn(definition(false));
+
+        // when & then
+        assertThrows(InvalidOperationException.class,
+                () -> submissionService.submit(SURVEY_ID, USER_ID, request(choice(1L, 11L))));
+        verify(responseRepository, never()).saveAndFlush(any());
+    }
+
+    /**
+     * 중복 제출 테스트
+     * 이미 완료된 응답이 있으면 저장이나 이벤트 없이 기존 응답을 반환해야 함
+     */
+    @Test
+    @DisplayName("이미 제출한 설문을 다시 제출하면 기존 응답 반환")
+    void submit_alreadyCompleted_returnsExistingResponse() {
+        // given
+        SurveyResponse completed = response(100L, SurveyResponseStatus.IN_PROGRESS).complete();
+        when(responseRepository.findForUpdateBySurveyIdAndUserId(SURVEY_ID, USER_ID)).thenReturn(Optional.of(completed));
+
+        // when
+        SurveySubmitResponse result = submissionService.submit(SURVEY_ID, USER_ID, request(choice(1L, 11L)));
+
+        // then
+        assertTrue(result.isAlreadySubmitted());
+        assertEquals(100L, result.getResponseId());
+        verify(responseRepository, never()).saveAndFlush(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    /**
+     * 동시 저장 충돌 테스트
+     * 임시 답변 반영이 먼저 진행 중 응답을 만들었으면 그 응답을 잠그고 이 답변으로 완료해야 함
+     */
+    @Test
+    @DisplayName("동시에 진행 중 응답이 만들어지면 그 응답을 완료 처리")
+    void submit_concurrentDraftInsert_completesExistingResponse() {
+        // given
+        SurveyResponse inProgress = response(100L, SurveyResponseStatus.IN_PROGRESS);
+        when(responseRepository.findForUpdateBySurveyIdAndUserId(SURVEY_ID, USER_ID))
+                .thenReturn(Optional.empty(), Optional.of(inProgress));
+        when(responseRepository.saveAndFlush(any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        SurveySubmitResponse result = submissionService.submit(SURVEY_ID, USER_ID, request(choice(1L, 11L)));
+
+        // then
+        assertFalse(result.isAlreadySubmitted());
+        assertEquals(100L, result.getResponseId());
+        assertTrue(inProgress.isCompleted());
+        verify(responseItemRepository).deleteByResponseId(100L);
+        verify(eventPublisher, times(1)).publishEvent(any(SurveyResponseCompletedEvent.class));
+    }
+
+    private static SurveyDefinition definition(boolean active) {
+        return SurveyDefinition.of(SurveyDefinitionResponse.builder()
+                .id(SURVEY_ID)
+                .courseId(COURSE_ID)
+                .title("과정 만족도 조사")
+                .active(active)
+                .questions(List.of(
+                        question(1L, SurveyQuestionType.SINGLE_CHOICE, true, 11L, 12L),
+                        question(2L, SurveyQuestionType.MULTIPLE_CHOICE, false, 21L, 22L, 23L),
+                        question(3L, SurveyQuestionType.SCALE, false),
+                        question(4L, SurveyQuestionType.SHORT_ANSWER, false)))
+                .build());
+    }
+
+    private static SurveyQuestionResponse question(Long id, SurveyQuestionType type, boolean required, Long... optionIds) {
+        return SurveyQuestionResponse.builder()
+                .id(id)
+                .content("문항 " + id)
+                .type(type)
+                .required(required)
+                .options(List.of(optionIds).stream()
+                        .map(optionId -> SurveyQuestionOptionResponse.builder()
+                                .id(optionId)
+                                .content("선택지 " + optionId)
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private static SurveyResponse response(Long id, SurveyResponseStatus status) {
+        SurveyResponse response = SurveyResponse.builder().status(status).build();
+        ReflectionTestUtils.setField(response, "id", id);
+        return response;
+    }
+
+    private static SurveySubmitRequest request(SurveyAnswerRequest... answers) {
+        return new SurveySubmitRequest(List.of(answers));
+    }
+
+    private static SurveyAnswerRequest choice(Long questionId, Long... optionIds) {
+        return new SurveyAnswerRequest(questionId, List.of(optionIds), null, null);
+    }
+
+    private static SurveyAnswerRequest scale(Long questionId, int value) {
+        return new SurveyAnswerRequest(questionId, null, null, value);
+    }
+
+    private static SurveyAnswerRequest text(Long questionId, String value) {
+        return new SurveyAnswerRequest(questionId, null, value, null);
+    }
+}